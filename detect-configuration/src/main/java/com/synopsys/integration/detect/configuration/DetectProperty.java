@@ -277,6 +277,54 @@ public enum DetectProperty {
     @HelpDetailed("If true, these directories will be excluded from the detector search: " + DetectorSearchExcludedDirectories.DIRECTORY_NAMES)
     DETECT_DETECTOR_SEARCH_EXCLUSION_DEFAULTS("detect.detector.search.exclusion.defaults", "Detector Exclude Default Directories", "3.2.0", PropertyType.BOOLEAN, PropertyAuthority.None, "true"),
 
+    @HelpGroup(primary = GROUP_PATHS, additional = { GROUP_DETECTOR, SEARCH_GROUP_GLOBAL })
+    @HelpDescription("The number of threads used to search directories for applicable detectors, defaults to 1, but if you specify -1, the number of processors on the machine will be used.")
+    @HelpDetailed("When greater than 1, sibling directories are searched concurrently. The search results and nesting decisions are identical to a single threaded search.")
+    DETECT_DETECTOR_SEARCH_PARALLELISM("detect.detector.search.parallelism", "Detector Search Parallelism", "5.4.0", PropertyType.INTEGER, PropertyAuthority.None, "1"),
+
+    @HelpGroup(primary = GROUP_PATHS, additional = { GROUP_DETECTOR, SEARCH_GROUP_GLOBAL })
+    @HelpDescription("If true, the detector search results will be cached in the output directory and reused on the next run for directories that have not changed.")
+    @HelpDetailed("A directory is considered unchanged when its modification time and the modification times of its child directories match the cached values. An unchanged directory is not listed again and detectors that were not applicable to it are not evaluated again. Each source path has its own cache, which is discarded whenever the detect version or a property that affects the search changes.")
+    DETECT_DETECTOR_SEARCH_CACHE("detect.detector.search.cache", "Detector Search Cache", "5.4.0", PropertyType.BOOLEAN, PropertyAuthority.None, "false"),
+
+    @HelpGroup(primary = GROUP_PATHS, additional = { GROUP_DETECTOR, SEARCH_GROUP_GLOBAL })
+    @HelpDescription("If true, the detector search will follow symbolic links to directories.")
+    @HelpDetailed("A directory inside the source path is always searched through its real path, never through a link to it, and a link back to a directory above it is never followed, so link loops are not searched. Links to directories outside the source path are searched after the source path, in link path order, and each target directory is searched at most once even when several links point to it or into it.")
+    DETECT_DETECTOR_SEARCH_FOLLOW_SYMLINKS("detect.detector.search.follow.symlinks", "Detector Search Follow Symbolic Links", "5.4.0", PropertyType.BOOLEAN, PropertyAuthority.None, "true"),
+
+    @HelpGroup(primary = GROUP_DETECTOR, additional = { SEARCH_GROUP_GLOBAL })
+    @HelpDescription("If true, detectors are prepared and extracted while the search is still running instead of after the whole source tree has been searched.")
+    @HelpDetailed("A detector is handed to preparation and extraction as soon as the directory it applies to has been searched. Preparation and extraction use the same parallelism, type limits and timings as without the pipeline. The search pauses while 100 detectors are waiting to be prepared and 100 more are waiting to be extracted, so it never runs far ahead of extraction. The search, preparation and extraction reports are still written once each phase has finished.")
+    DETECT_DETECTOR_PIPELINE("detect.detector.pipeline", "Detector Pipeline", "5.4.0", PropertyType.BOOLEAN, PropertyAuthority.None, "false"),
+
+    @HelpGroup(primary = GROUP_DETECTOR, additional = { SEARCH_GROUP_GLOBAL })
+    @HelpDescription("The number of detectors to prepare for extraction at the same time, defaults to 1, but if you specify -1, the number of processors on the machine will be used.")
+    @HelpDetailed("Preparation is where detectors find executables and download or install inspectors. Detectors that need the same inspector wait for a single download instead of each attempting their own.")
+    DETECT_DETECTOR_PREPARATION_PARALLELISM("detect.detector.preparation.parallelism", "Detector Preparation Parallelism", "5.4.0", PropertyType.INTEGER, PropertyAuthority.None, "1"),
+
+    @HelpGroup(primary = GROUP_DETECTOR, additional = { SEARCH_GROUP_GLOBAL })
+    @HelpDescription("The number of detector extractions to run at the same time, defaults to 1, but if you specify -1, the number of processors on the machine will be used.")
+    @HelpDetailed("Extraction ids and results keep the order of the search regardless of the order extractions finish in. Extractions of the same detector type can be limited with detect.detector.extraction.type.limits.")
+    DETECT_DETECTOR_EXTRACTION_PARALLELISM("detect.detector.extraction.parallelism", "Detector Extraction Parallelism", "5.4.0", PropertyType.INTEGER, PropertyAuthority.None, "1"),
+
+    @HelpGroup(primary = GROUP_DETECTOR, additional = { SEARCH_GROUP_GLOBAL })
+    @HelpDescription("A comma-separated list of DETECTOR_TYPE:LIMIT pairs that cap how many extractions of that detector type run at the same time when extracting in parallel. Detector types that are not listed are not limited.")
+    DETECT_DETECTOR_EXTRACTION_TYPE_LIMITS("detect.detector.extraction.type.limits", "Detector Extraction Type Limits", "5.4.0", PropertyType.STRING_ARRAY, PropertyAuthority.None, "GRADLE:1,MAVEN:1"),
+
+    @HelpGroup(primary = GROUP_DETECTOR, additional = { SEARCH_GROUP_GLOBAL })
+    @HelpDescription("If true, how long each detector took to extract in each directory is saved in the cache output directory, and the longest extractions are started first when extracting in parallel.")
+    DETECT_DETECTOR_EXTRACTION_TIMINGS("detect.detector.extraction.timings", "Detector Extraction Timings", "5.4.0", PropertyType.BOOLEAN, PropertyAuthority.None, "false"),
+
+    @HelpGroup(primary = GROUP_DETECTOR, additional = { SEARCH_GROUP_GLOBAL })
+    @HelpDescription("If true, the results of lock file detectors are cached and reused while their lock files and settings are unchanged.")
+    @HelpDetailed("The cache is stored in the output cache directory and keyed by a hash of the detector, the detect version, the directory, the relevant properties and the content of the lock files. Only successful extractions are cached.")
+    DETECT_DETECTOR_EXTRACTION_CACHE("detect.detector.extraction.cache", "Detector Extraction Cache", "5.4.0", PropertyType.BOOLEAN, PropertyAuthority.None, "false"),
+
+    @HelpGroup(primary = GROUP_DETECTOR, additional = { SEARCH_GROUP_GLOBAL, GROUP_MAVEN, GROUP_GRADLE })
+    @HelpDescription("If true, the output of maven dependency:tree and of the gradle inspector is cached and replayed while no build file under the project directory has changed.")
+    @HelpDetailed("The cache is keyed by a hash of every pom.xml, gradle build script and gradle properties file under the directory, the build command and the executable. Snapshot and dynamic versions are not re-resolved while the output is cached, so only enable this when the build files pin their versions.")
+    DETECT_DETECTOR_BUILD_OUTPUT_CACHE("detect.detector.build.output.cache", "Detector Build Output Cache", "5.4.0", PropertyType.BOOLEAN, PropertyAuthority.None, "false"),
+
     @HelpGroup(primary = GROUP_GENERAL, additional = { GROUP_BLACKDUCK_SERVER, GROUP_POLARIS })
     @HelpDescription("If true, detect will ignore any products that it cannot connect to.")
     @HelpDetailed("If true, when detect attempts to boot a product it will also check if it can communicate with it - if it cannot, it will not run the product.")
@@ -318,6 +366,16 @@ public enum DetectProperty {
     @HelpDescription("By default, all tools will be included. If you want to exclude specific detectors, specify the ones to exclude here. If you want to exclude all detectors, specify \"ALL\". Exclusion rules always win.")
     DETECT_EXCLUDED_DETECTOR_TYPES("detect.excluded.detector.types", "Detector Types Excluded", "3.0.0", PropertyType.STRING, PropertyAuthority.None),
 
+    @HelpGroup(primary = GROUP_DETECTOR, additional = { SEARCH_GROUP_GLOBAL })
+    @HelpDescription("The number of seconds detect will wait for an executable (such as mvn, gradle or bazel) to finish before killing it and its child processes. 0 waits forever.")
+    @HelpDetailed("When an executable is killed, the detector that ran it fails and detect moves on to the next detector. Individual executables can be given their own timeout with detect.executable.timeout.overrides.")
+    DETECT_EXECUTABLE_TIMEOUT("detect.executable.timeout", "Executable Timeout", "5.4.0", PropertyType.LONG, PropertyAuthority.None, "0"),
+
+    @HelpGroup(primary = GROUP_DETECTOR, additional = { SEARCH_GROUP_GLOBAL })
+    @HelpDescription("A comma-separated list of EXECUTABLE:SECONDS pairs that override detect.executable.timeout for the named executables, for example mvn:1800,gradlew:3600,rpm:60. 0 waits forever.")
+    @HelpDetailed("The executable is matched on its file name without any .exe, .cmd or .bat extension, ignoring case.")
+    DETECT_EXECUTABLE_TIMEOUT_OVERRIDES("detect.executable.timeout.overrides", "Executable Timeout Overrides", "5.4.0", PropertyType.STRING_ARRAY, PropertyAuthority.None),
+
     @HelpGroup(primary = GROUP_GENERAL, additional = { SEARCH_GROUP_GLOBAL })
     @HelpDescription("If true, detect will always exit with code 0.")
     DETECT_FORCE_SUCCESS("detect.force.success", "Force Success", "3.0.0", PropertyType.BOOLEAN, PropertyAuthority.None, "false"),
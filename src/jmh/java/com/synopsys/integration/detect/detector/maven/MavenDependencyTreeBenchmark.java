@@ -0,0 +1,137 @@
+package com.synopsys.integration.detect.detector.maven;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+
+/**
+ * Compares the per-line tokenizing previously done by MavenCodeLocationPackager (substrings, split and a replaceFirst per indentation string) with the
+ * index-based tokenizer, and measures a full parse, on a 500,000 line mvn dependency:tree output.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MavenDependencyTreeBenchmark {
+    private static final int LINE_COUNT = 500000;
+    private static final int MODULE_COUNT = 50;
+    private static final String[] SCOPES = { "compile", "test", "runtime", "provided" };
+
+    private List<String> lines;
+    private MavenCodeLocationPackager packager;
+
+    @Setup
+    public void setup() {
+        lines = new ArrayList<>(LINE_COUNT);
+        final int linesPerModule = LINE_COUNT / MODULE_COUNT;
+        for (int module = 0; module < MODULE_COUNT; module++) {
+            lines.add("[INFO] --- maven-dependency-plugin:2.10:tree (default-cli) @ module-" + module + " ---");
+            lines.add("[INFO] com.example:module-" + module + ":jar:1.0.0-SNAPSHOT");
+            for (int i = 0; i < linesPerModule - 3; i++) {
+                final int level = 1 + (i % 4);
+                final StringBuilder line = new StringBuilder("[INFO] ");
+                for (int indent = 1; indent < level; indent++) {
+                    line.append(indent % 2 == 0 ? "   " : "|  ");
+                }
+                line.append(i % 3 == 0 ? "\\- " : "+- ");
+                line.append("org.example.group").append(i % 97).append(":artifact-").append(i).append(":jar:").append(i % 13).append(".0.").append(i % 7).append(':').append(SCOPES[i % SCOPES.length]);
+                lines.add(line.toString());
+            }
+            lines.add("[INFO] ------------------------------------------------------------------------");
+        }
+        packager = new MavenCodeLocationPackager(new ExternalIdFactory());
+    }
+
+    @Benchmark
+    public void splitAndReplaceTokenizer(final Blackhole blackhole) {
+        for (final String currentLine : lines) {
+            String line = currentLine.trim();
+            final int index = legacyIndexOfEndOfSegments(line, "[", "INFO", "]");
+            if (index == -1 || StringUtils.isBlank(line.substring(index))) {
+                continue;
+            }
+            line = line.substring(index);
+            if (line.startsWith(" ")) {
+                line = line.substring(1);
+            }
+            String cleanedLine = line;
+            for (final String pattern : MavenCodeLocationPackager.indentationStrings) {
+                while (cleanedLine.contains(pattern)) {
+                    cleanedLine = cleanedLine.replaceFirst(Pattern.quote(pattern), "");
+                }
+            }
+            blackhole.consume((line.length() - cleanedLine.length()) / 3);
+            final String[] gavParts = cleanedLine.split(":");
+            if (gavParts.length >= 4 && Arrays.stream(gavParts).noneMatch(StringUtils::isBlank)) {
+                final String[] parsedParts = cleanedLine.split(":");
+                blackhole.consume(parsedParts[0]);
+                blackhole.consume(parsedParts[1]);
+                blackhole.consume(parsedParts[parsedParts.length - 2]);
+                blackhole.consume(parsedParts[parsedParts.length - 1]);
+            }
+        }
+    }
+
+    @Benchmark
+    public void indexedTokenizer(final Blackhole blackhole) {
+        for (final String currentLine : lines) {
+            final String line = currentLine.trim();
+            final int contentStart = packager.findContentStart(line);
+            if (contentStart < 0) {
+                continue;
+            }
+            final int indentationEnd = packager.findIndentationEnd(line, contentStart);
+            if (indentationEnd < 0) {
+                continue;
+            }
+            blackhole.consume((indentationEnd - contentStart) / 3);
+            final GavParts gavParts = new GavParts(line, indentationEnd);
+            if (gavParts.size() >= 4) {
+                blackhole.consume(gavParts.part(0));
+                blackhole.consume(gavParts.part(1));
+                blackhole.consume(gavParts.part(gavParts.size() - 2));
+                blackhole.consume(gavParts.part(gavParts.size() - 1));
+            }
+        }
+    }
+
+    @Benchmark
+    public void parseDependencyTree(final Blackhole blackhole) {
+        final MavenCodeLocationPackager.DependencyTreeParse dependencyTreeParse = packager.startParse("/source", "compile", "", "");
+        lines.forEach(dependencyTreeParse);
+        blackhole.consume(dependencyTreeParse.finish());
+    }
+
+    private int legacyIndexOfEndOfSegments(final String line, final String... segments) {
+        int endOfSegments = 0;
+        String editableLine = line;
+        for (final String segment : segments) {
+            final int index = editableLine.indexOf(segment);
+            if (index == -1) {
+                return -1;
+            }
+            endOfSegments += (index + segment.length());
+            editableLine = editableLine.substring(index + segment.length());
+        }
+        return endOfSegments;
+    }
+}
@@ -0,0 +1,88 @@
+package com.synopsys.integration.detect.detector.sbt;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+
+import com.synopsys.integration.detect.util.XmlUtil;
+
+/**
+ * Compares reading an ivy resolution report from a DOM document, as SbtReportParser previously did, with the streaming parser, on a 20,000 module report.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SbtReportParserBenchmark {
+    private static final int MODULE_COUNT = 20000;
+
+    private byte[] report;
+    private SbtReportParser sbtReportParser;
+
+    @Setup
+    public void setup() {
+        final StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<ivy-report version=\"1.0\">\n");
+        xml.append("  <info organisation=\"com.example\" module=\"root_2.12\" revision=\"1.0.0\" conf=\"compile\"/>\n  <dependencies>\n");
+        for (int module = 0; module < MODULE_COUNT; module++) {
+            xml.append("    <module organisation=\"org.example").append(module % 97).append("\" name=\"library-").append(module).append("\">\n");
+            xml.append("      <revision name=\"").append(module % 13).append(".0.").append(module % 7).append("\" status=\"release\" conf=\"compile\">\n");
+            xml.append("        <license name=\"Apache-2.0\" url=\"https://www.apache.org/licenses/LICENSE-2.0\"/>\n");
+            for (int caller = 0; caller < 3; caller++) {
+                xml.append("        <caller organisation=\"org.example").append(caller).append("\" name=\"library-").append(module + caller + 1).append("\" conf=\"compile\" callerrev=\"1.0.")
+                    .append(caller).append("\"/>\n");
+            }
+            xml.append("        <artifacts>\n          <artifact name=\"library-").append(module).append("\" type=\"jar\" ext=\"jar\" status=\"no\" size=\"4096\"/>\n        </artifacts>\n");
+            xml.append("      </revision>\n    </module>\n");
+        }
+        xml.append("  </dependencies>\n</ivy-report>\n");
+        report = xml.toString().getBytes(StandardCharsets.UTF_8);
+        sbtReportParser = new SbtReportParser();
+    }
+
+    @Benchmark
+    public SbtReport documentParser() throws Exception {
+        final Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new ByteArrayInputStream(report));
+        final Node ivyReport = XmlUtil.getNode("ivy-report", document);
+        final Node info = XmlUtil.getNode("info", ivyReport);
+        final List<SbtModule> modules = XmlUtil.getNodeList("module", XmlUtil.getNode("dependencies", ivyReport)).stream().map(this::createModule).collect(Collectors.toList());
+        return new SbtReport(XmlUtil.getAttribute("organisation", info), XmlUtil.getAttribute("module", info), XmlUtil.getAttribute("revision", info), XmlUtil.getAttribute("conf", info), modules);
+    }
+
+    @Benchmark
+    public SbtReport streamingParser() throws Exception {
+        return sbtReportParser.parseReport(new ByteArrayInputStream(report));
+    }
+
+    private SbtModule createModule(final Node module) {
+        final List<SbtRevision> revisions = XmlUtil.getNodeList("revision", module).stream().map(this::createRevision).collect(Collectors.toList());
+        return new SbtModule(XmlUtil.getAttribute("organisation", module), XmlUtil.getAttribute("name", module), revisions);
+    }
+
+    private SbtRevision createRevision(final Node revision) {
+        final List<SbtCaller> callers = XmlUtil.getNodeList("caller", revision).stream().map(this::createCaller).collect(Collectors.toList());
+        return new SbtRevision(XmlUtil.getAttribute("name", revision), callers);
+    }
+
+    private SbtCaller createCaller(final Node caller) {
+        return new SbtCaller(XmlUtil.getAttribute("organisation", caller), XmlUtil.getAttribute("name", caller), XmlUtil.getAttribute("callerrev", caller));
+    }
+}
@@ -0,0 +1,98 @@
+package com.synopsys.integration.detect.detector.yarn;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the regex and split based yarn.lock parsing previously done by YarnLockParser with the single pass parser, on a 250,000 line yarn.lock.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class YarnLockParserBenchmark {
+    private static final int LINE_COUNT = 250000;
+
+    private List<String> yarnLockLines;
+    private String yarnLockText;
+    private YarnLockParser yarnLockParser;
+
+    @Setup
+    public void setup() {
+        yarnLockLines = new ArrayList<>(LINE_COUNT);
+        yarnLockLines.add("# THIS IS AN AUTOGENERATED FILE. DO NOT EDIT THIS FILE DIRECTLY.");
+        yarnLockLines.add("# yarn lockfile v1");
+        yarnLockLines.add("");
+        for (int entry = 0; yarnLockLines.size() < LINE_COUNT; entry++) {
+            final String name = entry % 5 == 0 ? "\"@scope/package-" + entry : "package-" + entry;
+            final String quote = entry % 5 == 0 ? "\"" : "";
+            final String version = entry % 11 + "." + entry % 7 + "." + entry % 3;
+            yarnLockLines.add("");
+            yarnLockLines.add(name + "@^" + version + quote + ", " + name + "@~" + version + quote + ":");
+            yarnLockLines.add("  version \"" + version + "\"");
+            yarnLockLines.add("  resolved \"https://registry.yarnpkg.com/package-" + entry + "/-/package-" + entry + "-" + version + ".tgz#0123456789abcdef0123456789abcdef01234567\"");
+            yarnLockLines.add("  dependencies:");
+            yarnLockLines.add("    package-" + (entry + 1) + " \"^1.0.0\"");
+        }
+        yarnLockText = String.join("\n", yarnLockLines);
+        yarnLockParser = new YarnLockParser();
+    }
+
+    @Benchmark
+    public Map<String, String> regexParser() {
+        final Map<String, String> yarnLockResolvedVersions = new HashMap<>();
+        final List<String> fuzzyIds = new ArrayList<>();
+        for (final String line : yarnLockLines) {
+            if (StringUtils.isBlank(line) || line.trim().startsWith(YarnLockParser.COMMENT_PREFIX)) {
+                continue;
+            }
+            final String trimmedLine = line.trim();
+            int level = 0;
+            String tmpLine = line;
+            while (tmpLine.startsWith("  ")) {
+                tmpLine = tmpLine.replaceFirst("  ", "");
+                level++;
+            }
+            if (level == 0) {
+                fuzzyIds.addAll(Arrays.stream(line.split(",")).map(fuzzyId -> fuzzyId.trim().replaceAll("\"", "").replaceAll(":", "")).collect(Collectors.toList()));
+            } else if (level == 1 && trimmedLine.startsWith(YarnLockParser.VERSION_PREFIX)) {
+                final String resolvedVersion = trimmedLine.substring(YarnLockParser.VERSION_PREFIX.length(), trimmedLine.lastIndexOf(YarnLockParser.VERSION_SUFFIX));
+                fuzzyIds.forEach(fuzzyId -> yarnLockResolvedVersions.put(fuzzyId, resolvedVersion));
+                fuzzyIds.clear();
+            }
+        }
+        return yarnLockResolvedVersions;
+    }
+
+    @Benchmark
+    public Map<String, String> singlePassParser() {
+        return yarnLockParser.getYarnLockResolvedVersionMap(yarnLockLines);
+    }
+
+    @Benchmark
+    public Map<String, String> streamingParser() throws IOException {
+        return yarnLockParser.getYarnLockResolvedVersionMap(new BufferedReader(new StringReader(yarnLockText)));
+    }
+}
@@ -0,0 +1,57 @@
+package com.synopsys.integration.detect.workflow.file;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FilenameUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the per-file pattern matching previously done by DetectFileFinder (a stream of wildcardMatchOnSystem calls) with a compiled FilenamePatternMatcher.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FilenamePatternMatcherBenchmark {
+    private static final String[] PATTERNS = { "pom.xml", "build.gradle", "package-lock.json", "yarn.lock", "Gemfile.lock", "*.sln", "*.csproj", "*.fsproj", "*.vbproj", "Pipfile*", "setup.?y" };
+
+    private String[] filenames;
+    private FilenamePatternMatcher matcher;
+
+    @Setup
+    public void setup() {
+        final String[] sampleNames = { "README.md", "src", "pom.xml", "Application.java", "index.js", "package.json", "node_modules", "Project.csproj", "setup.py", "Pipfile.lock", "LICENSE", ".gitignore" };
+        filenames = new String[1000];
+        for (int i = 0; i < filenames.length; i++) {
+            filenames[i] = i % 4 == 0 ? sampleNames[i % sampleNames.length] : "file" + i + ".txt";
+        }
+        matcher = FilenamePatternMatcher.compile(PATTERNS);
+    }
+
+    @Benchmark
+    public void wildcardMatchEachPattern(final Blackhole blackhole) {
+        for (final String filename : filenames) {
+            blackhole.consume(Arrays.stream(PATTERNS).anyMatch(pattern -> FilenameUtils.wildcardMatchOnSystem(filename, pattern)));
+        }
+    }
+
+    @Benchmark
+    public void compiledMatcher(final Blackhole blackhole) {
+        for (final String filename : filenames) {
+            blackhole.consume(matcher.matches(filename));
+        }
+    }
+}
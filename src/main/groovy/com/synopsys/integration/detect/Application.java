@@ -122,6 +122,7 @@ public class Application implements ApplicationRunner {
                 logger.debug("An exception was thrown during the detect run.", e);
                 exitCodeManager.requestExitCode(e);
             }
+            eventSystem.flush();
             try {
                 logger.info("Detect will attempt to shutdown.");
                 DiagnosticManager diagnosticManager = detectContext.getBean(DiagnosticManager.class);
@@ -135,6 +135,8 @@ import com.synopsys.integration.detect.util.executable.CacheableExecutableFinder
 import com.synopsys.integration.detect.util.executable.ExecutableFinder;
 import com.synopsys.integration.detect.util.executable.ExecutableRunner;
 import com.synopsys.integration.detect.workflow.ArtifactResolver;
+import com.synopsys.integration.detect.workflow.extraction.cache.BuildOutputCache;
+import com.synopsys.integration.detect.workflow.extraction.cache.ExtractionCache;
 import com.synopsys.integration.detect.workflow.file.AirGapManager;
 import com.synopsys.integration.detect.workflow.file.DetectFileFinder;
 import com.synopsys.integration.detect.workflow.file.DirectoryManager;
@@ -195,6 +197,18 @@ public class DetectorBeanConfiguration {
     //Detector-Only Dependencies
     //All detector support classes. These are classes not actually used outside of the bom tools but are necessary for some bom tools.
 
+    @Bean
+    public ExtractionCache extractionCache() {
+        final boolean enabled = detectConfiguration.getBooleanProperty(DetectProperty.DETECT_DETECTOR_EXTRACTION_CACHE, PropertyAuthority.None);
+        return new ExtractionCache(enabled, directoryManager, detectInfo.getDetectVersion());
+    }
+
+    @Bean
+    public BuildOutputCache buildOutputCache() {
+        final boolean enabled = detectConfiguration.getBooleanProperty(DetectProperty.DETECT_DETECTOR_BUILD_OUTPUT_CACHE, PropertyAuthority.None);
+        return new BuildOutputCache(enabled, directoryManager, detectInfo.getDetectVersion());
+    }
+
     @Bean
     public DependenciesListFileManager clangDependenciesListFileParser() {
         return new DependenciesListFileManager(executableRunner, clangCompileCommandParser());
@@ -239,7 +253,7 @@ public class DetectorBeanConfiguration {
 
     @Bean
     public PodlockExtractor podlockExtractor() {
-        return new PodlockExtractor(podlockParser(), externalIdFactory);
+        return new PodlockExtractor(podlockParser(), externalIdFactory, extractionCache());
     }
 
     @Bean
@@ -269,12 +283,12 @@ public class DetectorBeanConfiguration {
 
     @Bean
     public PackratLockExtractor packratLockExtractor() {
-        return new PackratLockExtractor(packratPackager(), externalIdFactory, detectFileFinder);
+        return new PackratLockExtractor(packratPackager(), externalIdFactory, detectFileFinder, extractionCache());
     }
 
     @Bean
     public GoDepExtractor goDepExtractor() {
-        return new GoDepExtractor(depPackager(), externalIdFactory);
+        return new GoDepExtractor(depPackager(), externalIdFactory, extractionCache());
     }
 
     @Bean
@@ -309,7 +323,7 @@ public class DetectorBeanConfiguration {
 
     @Bean
     public GradleInspectorExtractor gradleInspectorExtractor() {
-        return new GradleInspectorExtractor(executableRunner, detectFileFinder, gradleReportParser(), detectConfiguration);
+        return new GradleInspectorExtractor(executableRunner, detectFileFinder, gradleReportParser(), detectConfiguration, buildOutputCache());
     }
 
     @Bean
@@ -334,7 +348,7 @@ public class DetectorBeanConfiguration {
 
     @Bean
     public MavenCliExtractor mavenCliExtractor() {
-        return new MavenCliExtractor(executableRunner, mavenCodeLocationPackager(), detectConfiguration);
+        return new MavenCliExtractor(executableRunner, mavenCodeLocationPackager(), detectConfiguration, buildOutputCache());
     }
 
     @Bean
@@ -364,7 +378,7 @@ public class DetectorBeanConfiguration {
 
     @Bean
     public NpmLockfileExtractor npmLockfileExtractor() {
-        return new NpmLockfileExtractor(npmLockfilePackager(), detectConfiguration);
+        return new NpmLockfileExtractor(npmLockfilePackager(), detectConfiguration, extractionCache());
     }
 
     @Bean
@@ -394,7 +408,7 @@ public class DetectorBeanConfiguration {
 
     @Bean
     public ComposerLockExtractor composerLockExtractor() {
-        return new ComposerLockExtractor(packagistParser());
+        return new ComposerLockExtractor(packagistParser(), extractionCache());
     }
 
     @Bean
@@ -439,7 +453,7 @@ public class DetectorBeanConfiguration {
 
     @Bean
     public GemlockExtractor gemlockExtractor() {
-        return new GemlockExtractor(externalIdFactory);
+        return new GemlockExtractor(externalIdFactory, extractionCache());
     }
 
     @Bean
@@ -459,7 +473,7 @@ public class DetectorBeanConfiguration {
 
     @Bean
     public YarnLockExtractor yarnLockExtractor() {
-        return new YarnLockExtractor(externalIdFactory, yarnListParser(), executableRunner, detectConfiguration);
+        return new YarnLockExtractor(externalIdFactory, yarnLockParser(), yarnListParser(), executableRunner, detectConfiguration);
     }
 
     @Bean
@@ -42,6 +42,7 @@ import com.synopsys.integration.detect.tool.docker.DockerProperties;
 import com.synopsys.integration.detect.tool.signaturescanner.BlackDuckSignatureScannerOptions;
 import com.synopsys.integration.detect.tool.signaturescanner.OfflineBlackDuckSignatureScanner;
 import com.synopsys.integration.detect.tool.signaturescanner.OnlineBlackDuckSignatureScanner;
+import com.synopsys.integration.detect.util.InterningExternalIdFactory;
 import com.synopsys.integration.detect.util.executable.CacheableExecutableFinder;
 import com.synopsys.integration.detect.util.executable.ExecutableFinder;
 import com.synopsys.integration.detect.util.executable.ExecutableRunner;
@@ -88,7 +89,7 @@ public class RunBeanConfiguration {
 
     @Bean
     public ExternalIdFactory externalIdFactory() {
-        return new ExternalIdFactory();
+        return new InterningExternalIdFactory();
     }
 
     @Bean
@@ -128,7 +129,7 @@ public class RunBeanConfiguration {
 
     @Bean
     public ExecutableRunner executableRunner() {
-        return new ExecutableRunner();
+        return new ExecutableRunner(detectConfigurationFactory().createExecutableRunnerOptions());
     }
 
     @Bean
@@ -25,12 +25,24 @@ package com.synopsys.integration.detect.configuration;
 
 import java.io.File;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.detect.detector.DetectorType;
+import com.synopsys.integration.detect.exception.DetectUserFriendlyException;
+import com.synopsys.integration.detect.exitcode.ExitCodeType;
 import com.synopsys.integration.detect.lifecycle.run.RunOptions;
+import com.synopsys.integration.detect.tool.detector.DetectorToolOptions;
 import com.synopsys.integration.detect.tool.signaturescanner.BlackDuckSignatureScannerOptions;
 import com.synopsys.integration.detect.util.EnumUtilExtension;
+import com.synopsys.integration.detect.util.executable.ExecutableRunnerOptions;
 import com.synopsys.integration.detect.util.filter.DetectOverrideableFilter;
 import com.synopsys.integration.detect.workflow.DetectToolFilter;
 import com.synopsys.integration.detect.workflow.bdio.BdioOptions;
@@ -44,6 +56,8 @@ import com.synopsys.integration.detect.workflow.search.SearchOptions;
 import com.synopsys.integration.blackduck.api.enumeration.PolicySeverityType;
 
 public class DetectConfigurationFactory {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
     DetectConfiguration detectConfiguration;
 
     public DetectConfigurationFactory(final DetectConfiguration detectConfiguration) {
@@ -100,7 +114,39 @@ public class DetectConfigurationFactory {
         final String excluded = detectConfiguration.getProperty(DetectProperty.DETECT_EXCLUDED_DETECTOR_TYPES, PropertyAuthority.None).toUpperCase();
         final String included = detectConfiguration.getProperty(DetectProperty.DETECT_INCLUDED_DETECTOR_TYPES, PropertyAuthority.None).toUpperCase();
         final DetectOverrideableFilter bomToolFilter = new DetectOverrideableFilter(excluded, included);
-        return new SearchOptions(directory, excludedDirectories, excludedDirectoryPatterns, forceNestedSearch, maxDepth, bomToolFilter);
+        final int parallelism = findParallelism(detectConfiguration.getIntegerProperty(DetectProperty.DETECT_DETECTOR_SEARCH_PARALLELISM, PropertyAuthority.None));
+        final boolean useSearchCache = detectConfiguration.getBooleanProperty(DetectProperty.DETECT_DETECTOR_SEARCH_CACHE, PropertyAuthority.None);
+        final boolean followSymLinks = detectConfiguration.getBooleanProperty(DetectProperty.DETECT_DETECTOR_SEARCH_FOLLOW_SYMLINKS, PropertyAuthority.None);
+        return new SearchOptions(directory, excludedDirectories, excludedDirectoryPatterns, forceNestedSearch, maxDepth, bomToolFilter, parallelism, useSearchCache, followSymLinks);
+    }
+
+    public DetectorToolOptions createDetectorToolOptions() throws DetectUserFriendlyException {
+        final boolean pipelined = detectConfiguration.getBooleanProperty(DetectProperty.DETECT_DETECTOR_PIPELINE, PropertyAuthority.None);
+        final int preparationParallelism = findParallelism(detectConfiguration.getIntegerProperty(DetectProperty.DETECT_DETECTOR_PREPARATION_PARALLELISM, PropertyAuthority.None));
+        final int extractionParallelism = findParallelism(detectConfiguration.getIntegerProperty(DetectProperty.DETECT_DETECTOR_EXTRACTION_PARALLELISM, PropertyAuthority.None));
+        final Map<DetectorType, Integer> extractionTypeLimits = new EnumMap<>(DetectorType.class);
+        for (final String typeLimit : detectConfiguration.getStringArrayProperty(DetectProperty.DETECT_DETECTOR_EXTRACTION_TYPE_LIMITS, PropertyAuthority.None)) {
+            if (StringUtils.isBlank(typeLimit)) {
+                continue;
+            }
+            final String detectorType = StringUtils.substringBefore(typeLimit, ":").trim().toUpperCase();
+            final String limit = StringUtils.substringAfter(typeLimit, ":").trim();
+            try {
+                extractionTypeLimits.put(DetectorType.valueOf(detectorType), Math.max(1, Integer.parseInt(limit)));
+            } catch (final IllegalArgumentException e) {
+                throw new DetectUserFriendlyException(String.format("The %s entry '%s' is not valid, expected DETECTOR_TYPE:LIMIT such as GRADLE:1.", DetectProperty.DETECT_DETECTOR_EXTRACTION_TYPE_LIMITS.getPropertyName(), typeLimit), e,
+                    ExitCodeType.FAILURE_CONFIGURATION);
+            }
+        }
+        final boolean useExtractionTimings = detectConfiguration.getBooleanProperty(DetectProperty.DETECT_DETECTOR_EXTRACTION_TIMINGS, PropertyAuthority.None);
+        return new DetectorToolOptions(pipelined, preparationParallelism, extractionParallelism, extractionTypeLimits, useExtractionTimings);
+    }
+
+    private int findParallelism(final int requestedParallelism) {
+        if (requestedParallelism < 0) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+        return Math.max(1, requestedParallelism);
     }
 
     public BdioOptions createBdioOptions() {
@@ -166,6 +212,27 @@ public class DetectConfigurationFactory {
         return new PolicyCheckOptions(severitiesToFailPolicyCheck);
     }
 
+    public ExecutableRunnerOptions createExecutableRunnerOptions() {
+        final long defaultTimeoutInSeconds = detectConfiguration.getLongProperty(DetectProperty.DETECT_EXECUTABLE_TIMEOUT, PropertyAuthority.None);
+        final Map<String, Long> timeoutOverridesInSeconds = new HashMap<>();
+        for (final String timeoutOverride : detectConfiguration.getStringArrayProperty(DetectProperty.DETECT_EXECUTABLE_TIMEOUT_OVERRIDES, PropertyAuthority.None)) {
+            if (StringUtils.isBlank(timeoutOverride)) {
+                continue;
+            }
+            final String executableName = StringUtils.substringBefore(timeoutOverride, ":").trim();
+            final String timeoutInSeconds = StringUtils.substringAfter(timeoutOverride, ":").trim();
+            try {
+                if (StringUtils.isBlank(executableName)) {
+                    throw new IllegalArgumentException("No executable name was given.");
+                }
+                timeoutOverridesInSeconds.put(executableName.toLowerCase(), Long.parseLong(timeoutInSeconds));
+            } catch (final IllegalArgumentException e) {
+                logger.warn(String.format("Ignoring the %s entry '%s', expected EXECUTABLE:SECONDS such as mvn:600.", DetectProperty.DETECT_EXECUTABLE_TIMEOUT_OVERRIDES.getPropertyName(), timeoutOverride));
+            }
+        }
+        return new ExecutableRunnerOptions(defaultTimeoutInSeconds, timeoutOverridesInSeconds);
+    }
+
     public long getTimeoutInSeconds() {
         if (detectConfiguration.wasPropertyActuallySet(DetectProperty.DETECT_API_TIMEOUT)) {
             final long timeout = detectConfiguration.getLongProperty(DetectProperty.DETECT_API_TIMEOUT, PropertyAuthority.None);
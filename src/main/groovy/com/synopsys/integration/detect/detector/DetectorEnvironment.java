@@ -27,6 +27,7 @@ import java.io.File;
 import java.util.Set;
 
 import com.synopsys.integration.detect.util.filter.DetectFilter;
+import com.synopsys.integration.detect.workflow.file.DirectoryListing;
 
 public class DetectorEnvironment {
 
@@ -35,9 +36,15 @@ public class DetectorEnvironment {
     private final int depth;
     private final DetectFilter detectorFilter;
     private final boolean forceNestedSearch;
+    private final DirectoryListing directoryListing;
 
     public DetectorEnvironment(final File directory, final Set<Detector> appliedToParent, final int depth, final DetectFilter detectorFilter, final boolean forceNestedSearch) {
-        this.directory = directory;
+        this(new DirectoryListing(directory), appliedToParent, depth, detectorFilter, forceNestedSearch);
+    }
+
+    public DetectorEnvironment(final DirectoryListing directoryListing, final Set<Detector> appliedToParent, final int depth, final DetectFilter detectorFilter, final boolean forceNestedSearch) {
+        this.directory = directoryListing.getDirectory();
+        this.directoryListing = directoryListing;
         this.appliedToParent = appliedToParent;
         this.depth = depth;
         this.detectorFilter = detectorFilter;
@@ -48,6 +55,10 @@ public class DetectorEnvironment {
         return directory;
     }
 
+    public DirectoryListing getDirectoryListing() {
+        return directoryListing;
+    }
+
     public Set<Detector> getAppliedToParent() {
         return appliedToParent;
     }
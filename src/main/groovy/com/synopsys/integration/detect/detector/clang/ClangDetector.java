@@ -60,7 +60,7 @@ public class ClangDetector extends Detector {
 
     @Override
     public DetectorResult applicable() {
-        jsonCompilationDatabaseFile = fileFinder.findFile(environment.getDirectory(), JSON_COMPILATION_DATABASE_FILENAME);
+        jsonCompilationDatabaseFile = fileFinder.findFile(environment.getDirectoryListing(), JSON_COMPILATION_DATABASE_FILENAME);
         if (jsonCompilationDatabaseFile == null) {
             return new FileNotFoundDetectorResult(JSON_COMPILATION_DATABASE_FILENAME);
         }
@@ -51,7 +51,7 @@ public class PodlockDetector extends Detector {
 
     @Override
     public DetectorResult applicable() {
-        foundPodlock = fileFinder.findFile(environment.getDirectory(), PODFILE_LOCK_FILENAME);
+        foundPodlock = fileFinder.findFile(environment.getDirectoryListing(), PODFILE_LOCK_FILENAME);
         if (foundPodlock == null) {
             return new FileNotFoundDetectorResult(PODFILE_LOCK_FILENAME);
         }
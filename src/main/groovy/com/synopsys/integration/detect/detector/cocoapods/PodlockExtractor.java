@@ -34,6 +34,8 @@ import org.slf4j.LoggerFactory;
 import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocation;
 import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocationType;
 import com.synopsys.integration.detect.workflow.extraction.Extraction;
+import com.synopsys.integration.detect.workflow.extraction.cache.ExtractionCache;
+import com.synopsys.integration.detect.workflow.extraction.cache.ExtractionCacheKey;
 import com.synopsys.integration.bdio.graph.DependencyGraph;
 import com.synopsys.integration.bdio.model.Forge;
 import com.synopsys.integration.bdio.model.externalid.ExternalId;
@@ -43,13 +45,20 @@ public class PodlockExtractor {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final PodlockParser podlockParser;
     private final ExternalIdFactory externalIdFactory;
+    private final ExtractionCache extractionCache;
 
-    public PodlockExtractor(final PodlockParser podlockParser, final ExternalIdFactory externalIdFactory) {
+    public PodlockExtractor(final PodlockParser podlockParser, final ExternalIdFactory externalIdFactory, final ExtractionCache extractionCache) {
         this.podlockParser = podlockParser;
         this.externalIdFactory = externalIdFactory;
+        this.extractionCache = extractionCache;
     }
 
     public Extraction extract(final File directory, final File podlock) {
+        final ExtractionCacheKey cacheKey = extractionCache.createKey("Podlock", directory).file(podlock);
+        return extractionCache.extract(cacheKey, () -> parse(directory, podlock));
+    }
+
+    private Extraction parse(final File directory, final File podlock) {
         String podLockText;
         try {
             logger.trace(String.format("Reading from the pod lock file %s", podlock.getAbsolutePath()));
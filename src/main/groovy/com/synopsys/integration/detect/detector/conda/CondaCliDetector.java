@@ -57,7 +57,7 @@ public class CondaCliDetector extends Detector {
 
     @Override
     public DetectorResult applicable() {
-        final File ymlFile = fileFinder.findFile(environment.getDirectory(), ENVIRONEMNT_YML);
+        final File ymlFile = fileFinder.findFile(environment.getDirectoryListing(), ENVIRONEMNT_YML);
         if (ymlFile == null) {
             return new FileNotFoundDetectorResult(ENVIRONEMNT_YML);
         }
@@ -58,7 +58,7 @@ public class CpanCliDetector extends Detector {
 
     @Override
     public DetectorResult applicable() {
-        final File makeFile = fileFinder.findFile(environment.getDirectory(), MAKEFILE);
+        final File makeFile = fileFinder.findFile(environment.getDirectoryListing(), MAKEFILE);
         if (makeFile == null) {
             return new FileNotFoundDetectorResult(MAKEFILE);
         }
@@ -51,7 +51,7 @@ public class PackratLockDetector extends Detector {
 
     @Override
     public DetectorResult applicable() {
-        packratlock = fileFinder.findFile(environment.getDirectory(), PACKRATLOCK_FILE_NAME);
+        packratlock = fileFinder.findFile(environment.getDirectoryListing(), PACKRATLOCK_FILE_NAME);
         if (packratlock == null) {
             return new FileNotFoundDetectorResult(PACKRATLOCK_FILE_NAME);
         }
@@ -35,6 +35,8 @@ import org.slf4j.LoggerFactory;
 import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocation;
 import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocationType;
 import com.synopsys.integration.detect.workflow.extraction.Extraction;
+import com.synopsys.integration.detect.workflow.extraction.cache.ExtractionCache;
+import com.synopsys.integration.detect.workflow.extraction.cache.ExtractionCacheKey;
 import com.synopsys.integration.detect.workflow.file.DetectFileFinder;
 import com.synopsys.integration.bdio.graph.DependencyGraph;
 import com.synopsys.integration.bdio.model.Forge;
@@ -46,14 +48,23 @@ public class PackratLockExtractor {
     private final PackratPackager packratPackager;
     private final ExternalIdFactory externalIdFactory;
     private final DetectFileFinder detectFileFinder;
+    private final ExtractionCache extractionCache;
 
-    public PackratLockExtractor(final PackratPackager packratPackager, final ExternalIdFactory externalIdFactory, final DetectFileFinder detectFileFinder) {
+    public PackratLockExtractor(final PackratPackager packratPackager, final ExternalIdFactory externalIdFactory, final DetectFileFinder detectFileFinder, final ExtractionCache extractionCache) {
         this.packratPackager = packratPackager;
         this.externalIdFactory = externalIdFactory;
         this.detectFileFinder = detectFileFinder;
+        this.extractionCache = extractionCache;
     }
 
     public Extraction extract(final File directory, final File packratlock) {
+        final ExtractionCacheKey cacheKey = extractionCache.createKey("Packrat Lock", directory)
+                                                .file(packratlock)
+                                                .file(new File(directory, "DESCRIPTION"));
+        return extractionCache.extract(cacheKey, () -> parse(directory, packratlock));
+    }
+
+    private Extraction parse(final File directory, final File packratlock) {
         try {
             String projectName = "";
             String projectVersion = "";
@@ -63,7 +63,7 @@ public class GoCliDetector extends Detector {
 
     @Override
     public DetectorResult applicable() {
-        final List<File> found = fileFinder.findFiles(environment.getDirectory(), GOFILE_FILENAME_PATTERN);
+        final List<File> found = fileFinder.findFiles(environment.getDirectoryListing(), GOFILE_FILENAME_PATTERN);
         if (found == null || found.size() == 0) {
             return new FileNotFoundDetectorResult(GOFILE_FILENAME_PATTERN);
         }
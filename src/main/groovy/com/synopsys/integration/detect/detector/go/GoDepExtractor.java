@@ -24,10 +24,13 @@
 package com.synopsys.integration.detect.detector.go;
 
 import java.io.File;
+import java.nio.charset.Charset;
 
 import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocation;
 import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocationType;
 import com.synopsys.integration.detect.workflow.extraction.Extraction;
+import com.synopsys.integration.detect.workflow.extraction.cache.ExtractionCache;
+import com.synopsys.integration.detect.workflow.extraction.cache.ExtractionCacheKey;
 import com.synopsys.integration.bdio.graph.DependencyGraph;
 import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
 import com.synopsys.integration.bdio.model.Forge;
@@ -37,13 +40,27 @@ import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 public class GoDepExtractor {
     private final DepPackager depPackager;
     private final ExternalIdFactory externalIdFactory;
+    private final ExtractionCache extractionCache;
 
-    public GoDepExtractor(final DepPackager depPackager, final ExternalIdFactory externalIdFactory) {
+    public GoDepExtractor(final DepPackager depPackager, final ExternalIdFactory externalIdFactory, final ExtractionCache extractionCache) {
         this.depPackager = depPackager;
         this.externalIdFactory = externalIdFactory;
+        this.extractionCache = extractionCache;
     }
 
+    // Only a directory with a Gopkg.lock is cached, without one dep init and ensure create the lock so the result depends on more than the directory contents.
     public Extraction extract(final File directory, final File goExe, final String goDepInspector) {
+        final File gopkgLock = new File(directory, GoLockDetector.GOPKG_LOCK_FILENAME);
+        if (!gopkgLock.exists()) {
+            return parse(directory, goDepInspector);
+        }
+        final ExtractionCacheKey cacheKey = extractionCache.createKey("Go Lock", directory)
+                                                .file(gopkgLock)
+                                                .setting("file.encoding", Charset.defaultCharset().name());
+        return extractionCache.extract(cacheKey, () -> parse(directory, goDepInspector));
+    }
+
+    private Extraction parse(final File directory, final String goDepInspector) {
         try {
             DependencyGraph graph = depPackager.makeDependencyGraph(directory.toString(), goDepInspector);
             if (graph == null) {
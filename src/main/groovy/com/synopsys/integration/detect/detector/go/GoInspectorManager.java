@@ -35,6 +35,7 @@ import com.synopsys.integration.detect.configuration.DetectProperty;
 import com.synopsys.integration.detect.configuration.PropertyAuthority;
 import com.synopsys.integration.detect.detector.DetectorException;
 import com.synopsys.integration.detect.type.ExecutableType;
+import com.synopsys.integration.detect.util.SingleFlight;
 import com.synopsys.integration.detect.util.executable.Executable;
 import com.synopsys.integration.detect.util.executable.ExecutableFinder;
 import com.synopsys.integration.detect.util.executable.ExecutableRunner;
@@ -49,8 +50,7 @@ public class GoInspectorManager {
     private final ExecutableRunner executableRunner;
     private final DetectConfiguration detectConfiguration;
 
-    private boolean hasResolvedInspector;
-    private String resolvedGoDep;
+    private final SingleFlight<String> resolvedGoDep = new SingleFlight<>();
 
     public GoInspectorManager(final DirectoryManager directoryManager, final ExecutableFinder executableFinder, final ExecutableRunner executableRunner,
         final DetectConfiguration detectConfiguration) {
@@ -62,11 +62,7 @@ public class GoInspectorManager {
 
     public String evaluate() throws DetectorException {
         try {
-            if (!hasResolvedInspector) {
-                resolvedGoDep = install();
-            }
-
-            return resolvedGoDep;
+            return resolvedGoDep.resolve(this::install);
         } catch (final Exception e) {
             throw new DetectorException(e);
         }
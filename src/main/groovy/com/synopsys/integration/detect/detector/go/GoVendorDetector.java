@@ -56,7 +56,7 @@ public class GoVendorDetector extends Detector {
 
     @Override
     public DetectorResult applicable() {
-        File vendorDir  = fileFinder.findFile(environment.getDirectory(), VENDOR_JSON_DIRNAME);
+        File vendorDir  = fileFinder.findFile(environment.getDirectoryListing(), VENDOR_JSON_DIRNAME);
         if (vendorDir == null) {
             logger.trace(String.format("Dir %s not found", VENDOR_JSON_DIRNAME));
             return new FileNotFoundDetectorResult(VENDOR_JSON_FILENAME);
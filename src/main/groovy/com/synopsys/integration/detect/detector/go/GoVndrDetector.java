@@ -51,7 +51,7 @@ public class GoVndrDetector extends Detector {
 
     @Override
     public DetectorResult applicable() {
-        vndrConfig = fileFinder.findFile(environment.getDirectory(), VNDR_CONF_FILENAME);
+        vndrConfig = fileFinder.findFile(environment.getDirectoryListing(), VNDR_CONF_FILENAME);
         if (vndrConfig == null) {
             return new FileNotFoundDetectorResult(VNDR_CONF_FILENAME);
         }
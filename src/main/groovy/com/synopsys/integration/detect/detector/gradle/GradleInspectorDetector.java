@@ -64,7 +64,7 @@ public class GradleInspectorDetector extends Detector {
 
     @Override
     public DetectorResult applicable() {
-        final File buildGradle = fileFinder.findFile(environment.getDirectory(), BUILD_GRADLE_FILENAME);
+        final File buildGradle = fileFinder.findFile(environment.getDirectoryListing(), BUILD_GRADLE_FILENAME);
         if (buildGradle == null) {
             return new FileNotFoundDetectorResult(BUILD_GRADLE_FILENAME);
         }
@@ -28,6 +28,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -41,23 +45,30 @@ import com.synopsys.integration.detect.util.executable.ExecutableOutput;
 import com.synopsys.integration.detect.util.executable.ExecutableRunner;
 import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocation;
 import com.synopsys.integration.detect.workflow.extraction.Extraction;
+import com.synopsys.integration.detect.workflow.extraction.cache.BuildOutputCache;
+import com.synopsys.integration.detect.workflow.extraction.cache.ExtractionCacheKey;
 import com.synopsys.integration.detect.workflow.file.DetectFileFinder;
+import com.synopsys.integration.detect.workflow.profiling.ParseTime;
 import com.synopsys.integration.util.NameVersion;
 
 public class GradleInspectorExtractor {
+    public static final List<String> BUILD_DESCRIPTOR_PATTERNS = Arrays.asList("*.gradle", "*.gradle.kts", "gradle.properties", "gradle-wrapper.properties");
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private final ExecutableRunner executableRunner;
     private final DetectFileFinder detectFileFinder;
     private final GradleReportParser gradleReportParser;
     private final DetectConfiguration detectConfiguration;
+    private final BuildOutputCache buildOutputCache;
 
     public GradleInspectorExtractor(final ExecutableRunner executableRunner, final DetectFileFinder detectFileFinder,
-        final GradleReportParser gradleReportParser, final DetectConfiguration detectConfiguration) {
+        final GradleReportParser gradleReportParser, final DetectConfiguration detectConfiguration, final BuildOutputCache buildOutputCache) {
         this.executableRunner = executableRunner;
         this.detectFileFinder = detectFileFinder;
         this.gradleReportParser = gradleReportParser;
         this.detectConfiguration = detectConfiguration;
+        this.buildOutputCache = buildOutputCache;
     }
 
     public Extraction extract(final File directory, final String gradleExe, final String gradleInspector, final File outputDirectory) {
@@ -69,6 +80,14 @@ public class GradleInspectorExtractor {
                 gradleCommand = gradleCommand.replaceAll("dependencies", "").trim();
                 Arrays.stream(gradleCommand.split(" ")).filter(StringUtils::isNotBlank).forEach(arguments::add);
             }
+            final ExtractionCacheKey cacheKey = buildOutputCache.createKey("Gradle Inspector", directory, BUILD_DESCRIPTOR_PATTERNS)
+                                                    .file(new File(gradleInspector))
+                                                    .setting(DetectProperty.DETECT_GRADLE_PATH, gradleExe)
+                                                    .setting(DetectProperty.DETECT_GRADLE_BUILD_COMMAND, String.join(" ", arguments));
+            if (buildOutputCache.restoreOutputDirectory(cacheKey, outputDirectory)) {
+                return parseOutputDirectory(outputDirectory);
+            }
+
             arguments.add("dependencies");
             arguments.add(String.format("--init-script=%s", gradleInspector));
             arguments.add(String.format("-DGRADLEEXTRACTIONDIR=%s", outputDirectory.getCanonicalPath()));
@@ -78,30 +97,8 @@ public class GradleInspectorExtractor {
             final ExecutableOutput output = executableRunner.execute(executable);
 
             if (output.getReturnCode() == 0) {
-                final File rootProjectMetadataFile = detectFileFinder.findFile(outputDirectory, "rootProjectMetadata.txt");
-                final List<File> codeLocationFiles = detectFileFinder.findFiles(outputDirectory, "*_dependencyGraph.txt");
-
-                final List<DetectCodeLocation> codeLocations = new ArrayList<>();
-                String projectName = null;
-                String projectVersion = null;
-                if (codeLocationFiles != null) {
-                    codeLocationFiles.stream()
-                        .map(codeLocationFile -> gradleReportParser.parseDependencies(codeLocationFile))
-                        .filter(Optional::isPresent)
-                        .map(Optional::get)
-                        .forEach(codeLocations::add);
-
-                    if (rootProjectMetadataFile != null) {
-                        final Optional<NameVersion> projectNameVersion = gradleReportParser.parseRootProjectNameVersion(rootProjectMetadataFile);
-                        if (projectNameVersion.isPresent()) {
-                            projectName = projectNameVersion.get().getName();
-                            projectVersion = projectNameVersion.get().getVersion();
-                        }
-                    } else {
-                        logger.warn("Gradle inspector did not create a meta data report so no project version information was found.");
-                    }
-                }
-                return new Extraction.Builder().success(codeLocations).projectName(projectName).projectVersion(projectVersion).build();
+                buildOutputCache.storeOutputDirectory(cacheKey, outputDirectory);
+                return parseOutputDirectory(outputDirectory);
             } else {
                 return new Extraction.Builder().failure("The gradle inspector returned a non-zero exit code: " + output.getReturnCode()).build();
             }
@@ -110,4 +107,59 @@ public class GradleInspectorExtractor {
         }
     }
 
+    private Extraction parseOutputDirectory(final File outputDirectory) {
+        final File rootProjectMetadataFile = detectFileFinder.findFile(outputDirectory, "rootProjectMetadata.txt");
+        final List<File> codeLocationFiles = detectFileFinder.findFiles(outputDirectory, "*_dependencyGraph.txt");
+
+        final List<DetectCodeLocation> codeLocations = new ArrayList<>();
+        final List<ParseTime> parseTimes = new ArrayList<>();
+        String projectName = null;
+        String projectVersion = null;
+        if (codeLocationFiles != null) {
+            parseCodeLocationFiles(codeLocationFiles, codeLocations, parseTimes);
+
+            if (rootProjectMetadataFile != null) {
+                final Optional<NameVersion> projectNameVersion = gradleReportParser.parseRootProjectNameVersion(rootProjectMetadataFile);
+                if (projectNameVersion.isPresent()) {
+                    projectName = projectNameVersion.get().getName();
+                    projectVersion = projectNameVersion.get().getVersion();
+                }
+            } else {
+                logger.warn("Gradle inspector did not create a meta data report so no project version information was found.");
+            }
+        }
+        return new Extraction.Builder().success(codeLocations).projectName(projectName).projectVersion(projectVersion).metaData(ParseTime.META_DATA_KEY, parseTimes).build();
+    }
+
+    // Multi-project builds write one report per project, the reports are parsed on a pool bounded by the processor count and kept in file order.
+    private void parseCodeLocationFiles(final List<File> codeLocationFiles, final List<DetectCodeLocation> codeLocations, final List<ParseTime> parseTimes) {
+        final int threads = Math.max(1, Math.min(codeLocationFiles.size(), Runtime.getRuntime().availableProcessors()));
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<Optional<DetectCodeLocation>>> parsedFiles = new ArrayList<>();
+            final ParseTime[] fileParseTimes = new ParseTime[codeLocationFiles.size()];
+            for (int i = 0; i < codeLocationFiles.size(); i++) {
+                final int fileIndex = i;
+                final File codeLocationFile = codeLocationFiles.get(i);
+                parsedFiles.add(executorService.submit(() -> {
+                    final long startTime = System.currentTimeMillis();
+                    final Optional<DetectCodeLocation> codeLocation = gradleReportParser.parseDependencies(codeLocationFile);
+                    fileParseTimes[fileIndex] = new ParseTime(codeLocationFile.getName(), System.currentTimeMillis() - startTime);
+                    return codeLocation;
+                }));
+            }
+            for (int i = 0; i < parsedFiles.size(); i++) {
+                parsedFiles.get(i).get().ifPresent(codeLocations::add);
+                parseTimes.add(fileParseTimes[i]);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while parsing the gradle inspector reports.", e);
+        } catch (final ExecutionException e) {
+            throw new RuntimeException("Parsing a gradle inspector report failed unexpectedly.", e.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
 }
@@ -36,6 +36,7 @@ import com.synopsys.integration.detect.configuration.DetectProperty;
 import com.synopsys.integration.detect.configuration.PropertyAuthority;
 import com.synopsys.integration.detect.detector.DetectorException;
 import com.synopsys.integration.detect.exception.DetectUserFriendlyException;
+import com.synopsys.integration.detect.util.SingleFlight;
 import com.synopsys.integration.detect.workflow.ArtifactResolver;
 import com.synopsys.integration.detect.workflow.ArtifactoryConstants;
 import com.synopsys.integration.detect.workflow.file.AirGapManager;
@@ -55,8 +56,7 @@ public class GradleInspectorManager {
     private final DetectConfiguration detectConfiguration;
     private final ArtifactResolver artifactResolver;
 
-    private String generatedGradleScriptPath = null;
-    private boolean hasResolvedInspector = false;
+    private final SingleFlight<String> generatedGradleScriptPath = new SingleFlight<>();
 
     public GradleInspectorManager(final DirectoryManager directoryManager, AirGapManager airGapManager, final Configuration configuration, final DetectConfiguration detectConfiguration,
         final ArtifactResolver artifactResolver) {
@@ -68,38 +68,49 @@ public class GradleInspectorManager {
     }
 
     public String getGradleInspector() throws DetectorException {
-        if (!hasResolvedInspector) {
-            hasResolvedInspector = true;
-            try {
-                final File airGapPath = deriveGradleAirGapDir();
-                final File generatedGradleScriptFile = directoryManager.getSharedFile(GRADLE_DIR_NAME, GENERATED_GRADLE_SCRIPT_NAME);
-                GradleScriptCreator gradleScriptCreator = new GradleScriptCreator(detectConfiguration, configuration);
-                if (airGapPath == null) {
-                    Optional<String> version = findVersion();
-                    if (version.isPresent()) {
-                        logger.info("Resolved the gradle inspector version: " + version.get());
-                        generatedGradleScriptPath = gradleScriptCreator.generateOnlineScript(generatedGradleScriptFile, version.get());
-                    } else {
-                        throw new DetectorException("Unable to find the gradle inspector version from artifactory.");
-                    }
+        if (generatedGradleScriptPath.hasResolved()) {
+            logger.debug("Already attempted to resolve the gradle inspector script, will not attempt again.");
+        }
+        final String gradleScriptPath;
+        try {
+            gradleScriptPath = generatedGradleScriptPath.resolve(this::generateGradleScript);
+        } catch (final DetectorException e) {
+            throw e;
+        } catch (final Exception e) {
+            throw new DetectorException(e);
+        }
+        if (StringUtils.isBlank(gradleScriptPath)) {
+            throw new DetectorException("Unable to find or create the gradle inspector script.");
+        }
+        return gradleScriptPath;
+    }
+
+    private String generateGradleScript() throws DetectorException {
+        String gradleScriptPath = null;
+        try {
+            final File airGapPath = deriveGradleAirGapDir();
+            final File generatedGradleScriptFile = directoryManager.getSharedFile(GRADLE_DIR_NAME, GENERATED_GRADLE_SCRIPT_NAME);
+            GradleScriptCreator gradleScriptCreator = new GradleScriptCreator(detectConfiguration, configuration);
+            if (airGapPath == null) {
+                Optional<String> version = findVersion();
+                if (version.isPresent()) {
+                    logger.info("Resolved the gradle inspector version: " + version.get());
+                    gradleScriptPath = gradleScriptCreator.generateOnlineScript(generatedGradleScriptFile, version.get());
                 } else {
-                    generatedGradleScriptPath = gradleScriptCreator.generateAirGapScript(generatedGradleScriptFile, airGapPath.getCanonicalPath());
+                    throw new DetectorException("Unable to find the gradle inspector version from artifactory.");
                 }
-            } catch (final Exception e) {
-                throw new DetectorException(e);
-            }
-            if (generatedGradleScriptPath == null) {
-                throw new DetectorException("Unable to initialize the gradle inspector.");
             } else {
-                logger.trace("Derived generated gradle script path: " + generatedGradleScriptPath);
+                gradleScriptPath = gradleScriptCreator.generateAirGapScript(generatedGradleScriptFile, airGapPath.getCanonicalPath());
             }
-        } else {
-            logger.debug("Already attempted to resolve the gradle inspector script, will not attempt again.");
+        } catch (final Exception e) {
+            throw new DetectorException(e);
         }
-        if (StringUtils.isBlank(generatedGradleScriptPath)) {
-            throw new DetectorException("Unable to find or create the gradle inspector script.");
+        if (gradleScriptPath == null) {
+            throw new DetectorException("Unable to initialize the gradle inspector.");
+        } else {
+            logger.trace("Derived generated gradle script path: " + gradleScriptPath);
         }
-        return generatedGradleScriptPath;
+        return gradleScriptPath;
     }
 
     private File deriveGradleAirGapDir() {
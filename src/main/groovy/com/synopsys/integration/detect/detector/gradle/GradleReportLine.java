@@ -32,6 +32,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 
 public class GradleReportLine {
@@ -93,7 +94,9 @@ public class GradleReportLine {
         final String group = gavPieces.get(0);
         final String artifact = gavPieces.get(1);
         final String version = gavPieces.get(2);
-        final Dependency dependency = new Dependency(artifact, version, externalIdFactory.createMavenExternalId(group, artifact, version));
+        final ExternalId externalId = externalIdFactory.createMavenExternalId(group, artifact, version);
+        // take the name and version from the id so the dependency shares the id's strings when the factory interns them
+        final Dependency dependency = new Dependency(externalId.name, externalId.version, externalId);
         return dependency;
     }
 
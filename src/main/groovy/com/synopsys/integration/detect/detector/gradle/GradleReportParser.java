@@ -59,8 +59,6 @@ public class GradleReportParser {
 
     private final ExternalIdFactory externalIdFactory;
 
-    private GradleReportConfigurationParser gradleReportConfigurationParser = new GradleReportConfigurationParser();
-
     public GradleReportParser(final ExternalIdFactory externalIdFactory) {
         this.externalIdFactory = externalIdFactory;
     }
@@ -74,10 +72,12 @@ public class GradleReportParser {
         boolean processingMetaData = false;
         final MutableDependencyGraph graph = new MutableMapDependencyGraph();
         final DependencyHistory history = new DependencyHistory();
+        // every blank line starts a new configuration, all parse state stays local so one parser can parse many reports at the same time
+        GradleReportConfigurationParser gradleReportConfigurationParser = new GradleReportConfigurationParser();
 
         try (FileInputStream dependenciesInputStream = new FileInputStream(codeLocationFile); BufferedReader reader = new BufferedReader(new InputStreamReader(dependenciesInputStream, StandardCharsets.UTF_8));) {
-            while (reader.ready()) {
-                final String line = reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
                 /**
                  * The meta data section will be at the end of the file after all of the "gradle dependencies" output
                  */
@@ -146,8 +146,8 @@ public class GradleReportParser {
         boolean processingMetaData = false;
 
         try (FileInputStream dependenciesInputStream = new FileInputStream(rootProjectMetadataFile); BufferedReader reader = new BufferedReader(new InputStreamReader(dependenciesInputStream, StandardCharsets.UTF_8));) {
-            while (reader.ready()) {
-                final String line = reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
 
                 if (line.startsWith(DETECT_META_DATA_HEADER)) {
                     processingMetaData = true;
@@ -0,0 +1,88 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.detector.maven;
+
+import java.util.Arrays;
+
+/*
+ * The colon separated parts of a maven coordinate, found by index so that only the parts that are actually used are ever turned into strings. Parts are
+ * split the same way String.split(":") splits them: a text without a colon is a single part and trailing empty parts are dropped.
+ */
+class GavParts {
+    private final String text;
+    private int[] starts = new int[8];
+    private int[] ends = new int[8];
+    private int count = 0;
+
+    GavParts(final String text, final int start) {
+        this.text = text;
+
+        int partStart = start;
+        int colon;
+        boolean foundColon = false;
+        while ((colon = text.indexOf(':', partStart)) >= 0) {
+            add(partStart, colon);
+            partStart = colon + 1;
+            foundColon = true;
+        }
+        add(partStart, text.length());
+
+        if (foundColon) {
+            while (count > 0 && starts[count - 1] == ends[count - 1]) {
+                count--;
+            }
+        }
+    }
+
+    int size() {
+        return count;
+    }
+
+    String part(final int index) {
+        return text.substring(starts[index], ends[index]);
+    }
+
+    boolean isBlank(final int index) {
+        for (int i = starts[index]; i < ends[index]; i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    boolean startsWith(final int index, final String prefix) {
+        return ends[index] - starts[index] >= prefix.length() && text.startsWith(prefix, starts[index]);
+    }
+
+    private void add(final int start, final int end) {
+        if (count == starts.length) {
+            starts = Arrays.copyOf(starts, count * 2);
+            ends = Arrays.copyOf(ends, count * 2);
+        }
+        starts[count] = start;
+        ends[count] = end;
+        count++;
+    }
+}
@@ -24,11 +24,14 @@
 package com.synopsys.integration.detect.detector.maven;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -40,16 +43,24 @@ import com.synopsys.integration.detect.util.executable.ExecutableOutput;
 import com.synopsys.integration.detect.util.executable.ExecutableRunner;
 import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocation;
 import com.synopsys.integration.detect.workflow.extraction.Extraction;
+import com.synopsys.integration.detect.workflow.extraction.cache.BuildOutputCache;
+import com.synopsys.integration.detect.workflow.extraction.cache.ExtractionCacheKey;
 
 public class MavenCliExtractor {
+    public static final String DEPENDENCY_TREE_OUTPUT_FILE = "dependencyTree.txt";
+    public static final List<String> BUILD_DESCRIPTOR_PATTERNS = Arrays.asList("pom.xml", "maven.config", "extensions.xml");
+
     private final ExecutableRunner executableRunner;
     private final MavenCodeLocationPackager mavenCodeLocationPackager;
     private final DetectConfiguration detectConfiguration;
+    private final BuildOutputCache buildOutputCache;
 
-    public MavenCliExtractor(final ExecutableRunner executableRunner, final MavenCodeLocationPackager mavenCodeLocationPackager, final DetectConfiguration detectConfiguration) {
+    public MavenCliExtractor(final ExecutableRunner executableRunner, final MavenCodeLocationPackager mavenCodeLocationPackager, final DetectConfiguration detectConfiguration,
+        final BuildOutputCache buildOutputCache) {
         this.executableRunner = executableRunner;
         this.mavenCodeLocationPackager = mavenCodeLocationPackager;
         this.detectConfiguration = detectConfiguration;
+        this.buildOutputCache = buildOutputCache;
     }
 
     public Extraction extract(final File directory, final String mavenExe) {
@@ -68,35 +79,47 @@ public class MavenCliExtractor {
             }
             arguments.add("dependency:tree");
 
-            final Executable mvnExecutable = new Executable(directory, mavenExe, arguments);
-            final ExecutableOutput mvnOutput = executableRunner.execute(mvnExecutable);
+            final ExtractionCacheKey cacheKey = buildOutputCache.createKey("Maven CLI", directory, BUILD_DESCRIPTOR_PATTERNS)
+                                                    .setting(DetectProperty.DETECT_MAVEN_PATH, mavenExe)
+                                                    .setting(DetectProperty.DETECT_MAVEN_BUILD_COMMAND, String.join(" ", arguments));
 
-            if (mvnOutput.getReturnCode() == 0) {
+            final String mavenScope = detectConfiguration.getProperty(DetectProperty.DETECT_MAVEN_SCOPE, PropertyAuthority.None);
+            final String excludedModules = detectConfiguration.getProperty(DetectProperty.DETECT_MAVEN_EXCLUDED_MODULES, PropertyAuthority.None);
+            final String includedModules = detectConfiguration.getProperty(DetectProperty.DETECT_MAVEN_INCLUDED_MODULES, PropertyAuthority.None);
+            final MavenCodeLocationPackager.DependencyTreeParse dependencyTreeParse = mavenCodeLocationPackager.startParse(directory.toString(), mavenScope, excludedModules, includedModules);
 
-                final String mavenScope = detectConfiguration.getProperty(DetectProperty.DETECT_MAVEN_SCOPE, PropertyAuthority.None);
-                final String excludedModules = detectConfiguration.getProperty(DetectProperty.DETECT_MAVEN_EXCLUDED_MODULES, PropertyAuthority.None);
-                final String includedModules = detectConfiguration.getProperty(DetectProperty.DETECT_MAVEN_INCLUDED_MODULES, PropertyAuthority.None);
-                final List<MavenParseResult> mavenResults = mavenCodeLocationPackager.extractCodeLocations(directory.toString(), mvnOutput.getStandardOutput(),
-                    mavenScope, excludedModules, includedModules);
+            final Optional<File> cachedOutput = buildOutputCache.findOutputFile(cacheKey, DEPENDENCY_TREE_OUTPUT_FILE);
+            if (cachedOutput.isPresent()) {
+                try (final Stream<String> lines = Files.lines(cachedOutput.get().toPath(), StandardCharsets.UTF_8)) {
+                    lines.forEach(dependencyTreeParse);
+                }
+            } else {
+                try (final BuildOutputCache.OutputRecorder outputRecorder = buildOutputCache.recordOutput(cacheKey, DEPENDENCY_TREE_OUTPUT_FILE)) {
+                    final Executable mvnExecutable = new Executable(directory, mavenExe, arguments);
+                    final ExecutableOutput mvnOutput = executableRunner.execute(mvnExecutable, outputRecorder.andThen(dependencyTreeParse));
+                    if (mvnOutput.getReturnCode() != 0) {
+                        final Extraction.Builder builder = new Extraction.Builder().failure(String.format("Executing command '%s' returned a non-zero exit code %s", String.join(" ", arguments), mvnOutput.getReturnCode()));
+                        return builder.build();
+                    }
+                    outputRecorder.commit();
+                }
+            }
+            final List<MavenParseResult> mavenResults = dependencyTreeParse.finish();
 
-                final List<DetectCodeLocation> codeLocations = mavenResults.stream()
-                                                                   .map(it -> it.codeLocation)
-                                                                   .collect(Collectors.toList());
+            final List<DetectCodeLocation> codeLocations = mavenResults.stream()
+                                                               .map(it -> it.codeLocation)
+                                                               .collect(Collectors.toList());
 
-                final Optional<MavenParseResult> firstWithName = mavenResults.stream()
-                                                                     .filter(it -> StringUtils.isNoneBlank(it.projectName))
-                                                                     .findFirst();
+            final Optional<MavenParseResult> firstWithName = mavenResults.stream()
+                                                                 .filter(it -> StringUtils.isNoneBlank(it.projectName))
+                                                                 .findFirst();
 
-                final Extraction.Builder builder = new Extraction.Builder().success(codeLocations);
-                if (firstWithName.isPresent()) {
-                    builder.projectName(firstWithName.get().projectName);
-                    builder.projectVersion(firstWithName.get().projectVersion);
-                }
-                return builder.build();
-            } else {
-                final Extraction.Builder builder = new Extraction.Builder().failure(String.format("Executing command '%s' returned a non-zero exit code %s", String.join(" ", arguments), mvnOutput.getReturnCode()));
-                return builder.build();
+            final Extraction.Builder builder = new Extraction.Builder().success(codeLocations);
+            if (firstWithName.isPresent()) {
+                builder.projectName(firstWithName.get().projectName);
+                builder.projectVersion(firstWithName.get().projectVersion);
             }
+            return builder.build();
         } catch (final Exception e) {
             return new Extraction.Builder().exception(e).build();
         }
@@ -27,7 +27,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Stack;
-import java.util.regex.Pattern;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -52,16 +52,9 @@ public class MavenCodeLocationPackager {
     public static final String ORPHAN_LIST_PARENT_NODE_GROUP = "none";
     public static final String ORPHAN_LIST_PARENT_NODE_VERSION = "none";
 
+    private static final int INDENTATION_LENGTH = 3;
+
     private final ExternalIdFactory externalIdFactory;
-    private List<MavenParseResult> codeLocations = new ArrayList<>();
-    private MavenParseResult currentMavenProject = null;
-    private Stack<Dependency> dependencyParentStack = new Stack<>();
-    // in-scope components found in an out-of-scope tree go in the orphans list
-    private final List<Dependency> orphans = new ArrayList<>();
-    private boolean parsingProjectSection;
-    private int level;
-    private boolean inOutOfScopeTree=false;
-    private MutableDependencyGraph currentGraph = null;
 
     public MavenCodeLocationPackager(final ExternalIdFactory externalIdFactory) {
         this.externalIdFactory = externalIdFactory;
@@ -69,40 +62,66 @@ public class MavenCodeLocationPackager {
 
     // mavenTextOutput should be the full output of mvn dependency:tree (no scope applied); scope filtering is now done by this method
     public List<MavenParseResult> extractCodeLocations(final String sourcePath, final String mavenOutputText, final String targetScope, final String excludedModules, final String includedModules) {
-        final ExcludedIncludedFilter filter = new ExcludedIncludedFilter(excludedModules, includedModules);
-        codeLocations = new ArrayList<>();
-        currentMavenProject = null;
-        dependencyParentStack = new Stack<>();
-        parsingProjectSection = false;
-        currentGraph = new MutableMapDependencyGraph();
-
-        level = 0;
+        final DependencyTreeParse dependencyTreeParse = startParse(sourcePath, targetScope, excludedModules, includedModules);
         for (final String currentLine : mavenOutputText.split(System.lineSeparator())) {
-            String line = currentLine.trim();
-            if (!isLineRelevant(line)) {
-                continue;
-            }
-            line = trimLogLevel(line);
-            if (StringUtils.isBlank(line)) {
-                continue;
+            dependencyTreeParse.accept(currentLine);
+        }
+        return dependencyTreeParse.finish();
+    }
+
+    /**
+     * Starts parsing mvn dependency:tree output one line at a time, so the output can be parsed while maven is still writing it. Each parse keeps its own
+     * state, so one packager can parse several outputs at the same time.
+     */
+    public DependencyTreeParse startParse(final String sourcePath, final String targetScope, final String excludedModules, final String includedModules) {
+        return new DependencyTreeParse(sourcePath, targetScope, new ExcludedIncludedFilter(excludedModules, includedModules));
+    }
+
+    public class DependencyTreeParse implements Consumer<String> {
+        private final String sourcePath;
+        private final String targetScope;
+        private final ExcludedIncludedFilter filter;
+
+        private final List<MavenParseResult> codeLocations = new ArrayList<>();
+        private final Stack<Dependency> dependencyParentStack = new Stack<>();
+        // in-scope components found in an out-of-scope tree go in the orphans list
+        private final List<Dependency> orphans = new ArrayList<>();
+        private MavenParseResult currentMavenProject = null;
+        private boolean parsingProjectSection = false;
+        private int level = 0;
+        private boolean inOutOfScopeTree = false;
+        private MutableDependencyGraph currentGraph = new MutableMapDependencyGraph();
+
+        private DependencyTreeParse(final String sourcePath, final String targetScope, final ExcludedIncludedFilter filter) {
+            this.sourcePath = sourcePath;
+            this.targetScope = targetScope;
+            this.filter = filter;
+        }
+
+        @Override
+        public void accept(final String currentLine) {
+            final String line = currentLine.trim();
+            final int contentStart = findContentStart(line);
+            if (contentStart < 0) {
+                return;
             }
-            if (isProjectSection(line)) {
+            if (indexOfEndOfSegments(line, contentStart, "---", "dependency", ":", "tree") >= 0) {
                 parsingProjectSection = true;
-                continue;
+                return;
             }
             if (!parsingProjectSection) {
-                continue;
+                return;
             }
-            if (isDependencyTreeUpdates(line)) {
-                continue;
+            if (line.indexOf("checking for updates", contentStart) >= 0) {
+                return;
             }
 
             if (parsingProjectSection && currentMavenProject == null) {
                 // this is the first line of a new code location, the following lines will be the tree of dependencies for this code location
                 currentGraph = new MutableMapDependencyGraph();
-                final MavenParseResult mavenProject = createMavenParseResult(sourcePath, line, currentGraph);
+                final MavenParseResult mavenProject = createMavenParseResult(sourcePath, line.substring(contentStart), currentGraph);
                 if (null != mavenProject && filter.shouldInclude(mavenProject.projectName)) {
-                    logger.trace(String.format("Project: %s", mavenProject.projectName));
+                    logger.trace("Project: {}", mavenProject.projectName);
                     this.currentMavenProject = mavenProject;
                     codeLocations.add(mavenProject);
                 } else {
@@ -112,33 +131,46 @@ public class MavenCodeLocationPackager {
                     parsingProjectSection = false;
                     level = 0;
                 }
-                continue;
+                return;
             }
 
-            final boolean finished = line.contains("--------");
+            final boolean finished = line.indexOf("--------", contentStart) >= 0;
             if (finished) {
                 currentMavenProject = null;
                 dependencyParentStack.clear();
                 parsingProjectSection = false;
                 level = 0;
-                continue;
+                return;
             }
 
             final int previousLevel = level;
-            final String cleanedLine = calculateCurrentLevelAndCleanLine(line);
-            final ScopedDependency dependency = textToDependency(cleanedLine);
+            final ScopedDependency dependency;
+            final int indentationEnd = findIndentationEnd(line, contentStart);
+            if (indentationEnd >= 0) {
+                level = (indentationEnd - contentStart) / INDENTATION_LENGTH;
+                dependency = textToDependency(line, indentationEnd);
+            } else {
+                final String content = line.substring(contentStart);
+                final String cleanedLine = calculateCurrentLevelAndCleanLine(content);
+                level = (content.length() - cleanedLine.length()) / INDENTATION_LENGTH;
+                dependency = textToDependency(cleanedLine);
+            }
             if (null == dependency) {
-                continue;
+                return;
             }
             if (currentMavenProject != null) {
                 if (level == 1) {
                     // a direct dependency, clear the stack and add this as a potential parent for the next line
                     if (dependency.isInScope(targetScope)) {
-                        logger.trace(String.format("Level 1 component %s:%s:%s:%s is in scope; adding it to hierarchy root", dependency.externalId.group, dependency.externalId.name, dependency.externalId.version, dependency.scope));
+                        if (logger.isTraceEnabled()) {
+                            logger.trace(String.format("Level 1 component %s:%s:%s:%s is in scope; adding it to hierarchy root", dependency.externalId.group, dependency.externalId.name, dependency.externalId.version, dependency.scope));
+                        }
                         currentGraph.addChildToRoot(dependency);
                         inOutOfScopeTree = false;
                     } else {
-                        logger.trace(String.format("Level 1 component %s:%s:%s:%s is a top-level out-of-scope component; entering non-scoped tree", dependency.externalId.group, dependency.externalId.name, dependency.externalId.version, dependency.scope));
+                        if (logger.isTraceEnabled()) {
+                            logger.trace(String.format("Level 1 component %s:%s:%s:%s is a top-level out-of-scope component; entering non-scoped tree", dependency.externalId.group, dependency.externalId.name, dependency.externalId.version, dependency.scope));
+                        }
                         inOutOfScopeTree = true;
                     }
                     dependencyParentStack.clear();
@@ -165,9 +197,11 @@ public class MavenCodeLocationPackager {
                 }
             }
         }
-        addOrphansToGraph(currentGraph, orphans);
 
-        return codeLocations;
+        public List<MavenParseResult> finish() {
+            addOrphansToGraph(currentGraph, orphans);
+            return codeLocations;
+        }
     }
 
     private void addOrphansToGraph(final MutableDependencyGraph graph, final List<Dependency> orphans) {
@@ -186,11 +220,14 @@ public class MavenCodeLocationPackager {
     private void addDependencyIfInScope(final MutableDependencyGraph currentGraph, final List<Dependency> orphans, final String targetScope, final boolean inOutOfScopeTree, final Dependency parent, final ScopedDependency dependency) {
         if (dependency.isInScope(targetScope)) {
             if (inOutOfScopeTree) {
-                logger.trace(
-                    String.format("component %s:%s:%s:%s is in scope but in a nonScope tree; adding it to orphans", dependency.externalId.group, dependency.externalId.name, dependency.externalId.version, dependency.scope));
+                if (logger.isTraceEnabled()) {
+                    logger.trace(String.format("component %s:%s:%s:%s is in scope but in a nonScope tree; adding it to orphans", dependency.externalId.group, dependency.externalId.name, dependency.externalId.version, dependency.scope));
+                }
                 orphans.add(dependency);
             } else {
-                logger.trace(String.format("component %s:%s:%s:%s is in scope and in an in-scope tree; adding it to hierarchy", dependency.externalId.group, dependency.externalId.name, dependency.externalId.version, dependency.scope));
+                if (logger.isTraceEnabled()) {
+                    logger.trace(String.format("component %s:%s:%s:%s is in scope and in an in-scope tree; adding it to hierarchy", dependency.externalId.group, dependency.externalId.name, dependency.externalId.version, dependency.scope));
+                }
                 currentGraph.addParentWithChild(parent, dependency);
             }
         }
@@ -209,91 +246,133 @@ public class MavenCodeLocationPackager {
         return null;
     }
 
+    // Every indentation string is INDENTATION_LENGTH characters long, so the level is the number of characters removed divided by that length.
     String calculateCurrentLevelAndCleanLine(final String line) {
-        level = 0;
         String cleanedLine = line;
         for (final String pattern : indentationStrings) {
             while (cleanedLine.contains(pattern)) {
-                level++;
-                cleanedLine = cleanedLine.replaceFirst(Pattern.quote(pattern), "");
+                cleanedLine = StringUtils.replaceOnce(cleanedLine, pattern, "");
             }
         }
 
         return cleanedLine;
     }
 
+    /*
+     * Finds the end of the indentation of a tree line by stepping over whole indentation strings from the start of the content, without creating any strings.
+     * Returns -1 when the line is not just leading indentation followed by a component, in which case the line has to be cleaned the long way.
+     */
+    int findIndentationEnd(final String line, final int start) {
+        int end = start;
+        while (end + INDENTATION_LENGTH <= line.length() && isIndentationAt(line, end)) {
+            end += INDENTATION_LENGTH;
+        }
+        if (end >= line.length() || Character.isWhitespace(line.charAt(end))) {
+            return -1;
+        }
+        for (final String pattern : indentationStrings) {
+            if (line.indexOf(pattern, end) >= 0) {
+                return -1;
+            }
+        }
+        return end;
+    }
+
+    private boolean isIndentationAt(final String line, final int index) {
+        for (final String pattern : indentationStrings) {
+            if (line.startsWith(pattern, index)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private Dependency createOrphanListParentDependency() {
         final ExternalId externalId = externalIdFactory.createMavenExternalId(ORPHAN_LIST_PARENT_NODE_GROUP, ORPHAN_LIST_PARENT_NODE_NAME, ORPHAN_LIST_PARENT_NODE_VERSION);
         return new Dependency(ORPHAN_LIST_PARENT_NODE_NAME, ORPHAN_LIST_PARENT_NODE_VERSION, externalId);
     }
 
     ScopedDependency textToDependency(final String componentText) {
-        if (!isGav(componentText)) {
+        return textToDependency(componentText, 0);
+    }
+
+    ScopedDependency textToDependency(final String line, final int start) {
+        final GavParts gavParts = new GavParts(line, start);
+        if (!isGav(gavParts, line, start)) {
             return null;
         }
-        final String[] gavParts = componentText.split(":");
-        final String group = gavParts[0];
-        final String artifact = gavParts[1];
+        final String group = gavParts.part(0);
+        final String artifact = gavParts.part(1);
 
-        final String scope = gavParts[gavParts.length - 1];
-        final boolean recognizedScope = KNOWN_SCOPES.stream().anyMatch(knownScope -> scope.startsWith(knownScope));
+        final int scopeIndex = gavParts.size() - 1;
+        final String scope = gavParts.part(scopeIndex);
+        final boolean recognizedScope = KNOWN_SCOPES.stream().anyMatch(knownScope -> gavParts.startsWith(scopeIndex, knownScope));
 
         if (!recognizedScope) {
-            logger.warn("This line can not be parsed correctly due to an unknown dependency format - it is unlikely a match will be found for this dependency: " + componentText);
+            logger.warn("This line can not be parsed correctly due to an unknown dependency format - it is unlikely a match will be found for this dependency: " + line.substring(start));
         }
-        final String version = gavParts[gavParts.length - 2];
+        final String version = gavParts.part(gavParts.size() - 2);
         final ExternalId externalId = externalIdFactory.createMavenExternalId(group, artifact, version);
-        return new ScopedDependency(artifact, version, externalId, scope);
+        return new ScopedDependency(externalId.name, externalId.version, externalId, scope);
     }
 
     Dependency textToProject(final String componentText) {
-        if (!isGav(componentText)) {
+        final GavParts gavParts = new GavParts(componentText, 0);
+        if (!isGav(gavParts, componentText, 0)) {
             return null;
         }
-        final String[] gavParts = componentText.split(":");
-        final String group = gavParts[0];
-        final String artifact = gavParts[1];
+        final String group = gavParts.part(0);
+        final String artifact = gavParts.part(1);
         String version;
-        if (gavParts.length == 4) {
+        if (gavParts.size() == 4) {
             // Dependency does not include the classifier
-            version = gavParts[gavParts.length - 1];
-        } else if (gavParts.length == 5) {
+            version = gavParts.part(gavParts.size() - 1);
+        } else if (gavParts.size() == 5) {
             // Dependency does include the classifier
-            version = gavParts[gavParts.length - 1];
+            version = gavParts.part(gavParts.size() - 1);
         } else {
-            logger.debug(String.format("%s does not look like a dependency we can parse", componentText));
+            logger.debug("{} does not look like a dependency we can parse", componentText);
             return null;
         }
         final ExternalId externalId = externalIdFactory.createMavenExternalId(group, artifact, version);
-        return new Dependency(artifact, version, externalId);
+        return new Dependency(externalId.name, externalId.version, externalId);
     }
 
     boolean isLineRelevant(final String line) {
-        final String editableLine = line;
-        if (!doesLineContainSegmentsInOrder(line, "[", "INFO", "]")) {
-            // Does not contain [INFO]
-            return false;
-        }
-        final int index = indexOfEndOfSegments(line, "[", "INFO", "]");
-        final String trimmedLine = editableLine.substring(index);
-
-        if (StringUtils.isBlank(trimmedLine) || trimmedLine.contains("Downloaded") || trimmedLine.contains("Downloading")) {
-            // Does not have content or this a line about download information
-            return false;
-        }
-        return true;
+        // Lines without [INFO], without content or about download information are not relevant
+        return findContentStart(line) >= 0;
     }
 
     String trimLogLevel(final String line) {
-        final String editableLine = line;
+        final int index = indexOfEndOfSegments(line, "[", "INFO", "]");
+        if (line.startsWith(" ", index)) {
+            return line.substring(index + 1);
+        }
+        return line.substring(index);
+    }
 
+    /*
+     * Returns the index where the content of a relevant [INFO] line starts, or -1 if the line is not relevant. This is isLineRelevant and trimLogLevel in one
+     * pass over the line.
+     */
+    int findContentStart(final String line) {
         final int index = indexOfEndOfSegments(line, "[", "INFO", "]");
-        String trimmedLine = editableLine.substring(index);
+        if (index < 0 || isBlankFrom(line, index) || line.indexOf("Downloaded", index) >= 0 || line.indexOf("Downloading", index) >= 0) {
+            return -1;
+        }
+        if (line.startsWith(" ", index)) {
+            return index + 1;
+        }
+        return index;
+    }
 
-        if (trimmedLine.startsWith(" ")) {
-            trimmedLine = trimmedLine.substring(1);
+    private boolean isBlankFrom(final String line, final int start) {
+        for (int i = start; i < line.length(); i++) {
+            if (!Character.isWhitespace(line.charAt(i))) {
+                return false;
+            }
         }
-        return trimmedLine;
+        return true;
     }
 
     boolean isProjectSection(final String line) {
@@ -302,59 +381,48 @@ public class MavenCodeLocationPackager {
     }
 
     boolean isDependencyTreeUpdates(final String line) {
-        if (line.contains("checking for updates")) {
-            return true;
-        } else {
-            return false;
-        }
+        return line.contains("checking for updates");
     }
 
     boolean isGav(final String componentText) {
-        final String debugMessage = String.format("%s does not look like a GAV we recognize", componentText);
-        final String[] gavParts = componentText.split(":");
-        if (gavParts.length >= 4) {
-            for (final String part : gavParts) {
-                if (StringUtils.isBlank(part)) {
-                    logger.debug(debugMessage);
+        return isGav(new GavParts(componentText, 0), componentText, 0);
+    }
+
+    private boolean isGav(final GavParts gavParts, final String line, final int start) {
+        if (gavParts.size() >= 4) {
+            for (int i = 0; i < gavParts.size(); i++) {
+                if (gavParts.isBlank(i)) {
+                    logger.debug("{} does not look like a GAV we recognize", line.substring(start));
                     return false;
                 }
             }
             return true;
         }
-        logger.debug(debugMessage);
+        logger.debug("{} does not look like a GAV we recognize", line.substring(start));
         return false;
     }
 
     boolean doesLineContainSegmentsInOrder(final String line, final String... segments) {
-        Boolean lineContainsSegments = true;
-
-        final int index = indexOfEndOfSegments(line, segments);
-        if (index == -1) {
-            lineContainsSegments = false;
-        }
-
-        return lineContainsSegments;
+        return indexOfEndOfSegments(line, segments) != -1;
     }
 
     int indexOfEndOfSegments(final String line, final String... segments) {
-        int endOfSegments = -1;
-        if (segments.length > 0) {
-            endOfSegments = 0;
-        }
+        return indexOfEndOfSegments(line, 0, segments);
+    }
 
-        String editableLine = line;
+    // Returns the index just past the last segment when all segments appear in order from the start index, otherwise -1.
+    int indexOfEndOfSegments(final String line, final int start, final String... segments) {
+        if (segments.length == 0) {
+            return -1;
+        }
+        int endOfSegments = start;
         for (final String segment : segments) {
-            final int index = editableLine.indexOf(segment);
+            final int index = line.indexOf(segment, endOfSegments);
             // If the string does not contain the segment indexOf returns -1
             if (index == -1) {
-                endOfSegments = -1;
-                break;
+                return -1;
             }
-            // Add the index to the total to keep track of the index in the original String
-            endOfSegments += (index + segment.length());
-
-            // cut the string off right after the segment we just found so we are only looking at the remainder of the line for the next segment
-            editableLine = editableLine.substring(index + segment.length());
+            endOfSegments = index + segment.length();
         }
         return endOfSegments;
     }
@@ -54,7 +54,7 @@ public class MavenPomDetector extends Detector {
 
     @Override
     public DetectorResult applicable() {
-        final File pom = fileFinder.findFile(environment.getDirectory(), POM_FILENAME);
+        final File pom = fileFinder.findFile(environment.getDirectoryListing(), POM_FILENAME);
         if (pom == null) {
             return new FileNotFoundDetectorResult(POM_FILENAME);
         }
@@ -54,7 +54,7 @@ public class MavenPomWrapperDetector extends Detector {
 
     @Override
     public DetectorResult applicable() {
-        final File pom = fileFinder.findFile(environment.getDirectory(), POM_WRAPPER_FILENAME);
+        final File pom = fileFinder.findFile(environment.getDirectoryListing(), POM_WRAPPER_FILENAME);
         if (pom == null) {
             return new FileNotFoundDetectorResult(POM_WRAPPER_FILENAME);
         }
@@ -57,7 +57,7 @@ public class NpmCliDetector extends Detector {
 
     @Override
     public DetectorResult applicable() {
-        final File packageJson = fileFinder.findFile(environment.getDirectory(), PACKAGE_JSON);
+        final File packageJson = fileFinder.findFile(environment.getDirectoryListing(), PACKAGE_JSON);
         if (packageJson == null) {
             return new FileNotFoundDetectorResult(PACKAGE_JSON);
         }
@@ -29,6 +29,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import org.apache.commons.io.input.CharSequenceReader;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -72,13 +73,14 @@ public class NpmCliExtractor {
         }
 
         final Executable npmLsExe = new Executable(directory, npmExe, exeArgs);
+        // The lines are collected once and parsed through a reader instead of being copied into the executable output, trimmed and copied again.
+        final StringBuilder standardOutput = new StringBuilder();
         ExecutableOutput executableOutput;
         try {
-            executableOutput = executableRunner.execute(npmLsExe);
+            executableOutput = executableRunner.execute(npmLsExe, line -> standardOutput.append(line).append(System.lineSeparator()));
         } catch (final Exception e) {
             return new Extraction.Builder().exception(e).build();
         }
-        final String standardOutput = executableOutput.getStandardOutput();
         final String errorOutput = executableOutput.getErrorOutput();
         if (StringUtils.isNotBlank(errorOutput)) {
             logger.error("Error when running npm ls -json command");
@@ -86,9 +88,11 @@ public class NpmCliExtractor {
             return new Extraction.Builder().failure("Npm wrote to stderr while running npm ls.").build();
         } else if (StringUtils.isNotBlank(standardOutput)) {
             logger.debug("Parsing npm ls file.");
-            logger.debug(standardOutput);
             try {
-                final NpmParseResult result = npmCliParser.generateCodeLocation(directory.getCanonicalPath(), standardOutput);
+                final NpmParseResult result = npmCliParser.generateCodeLocation(directory.getCanonicalPath(), new CharSequenceReader(standardOutput));
+                if (result == null) {
+                    return new Extraction.Builder().failure("Npm ls did not return a json object.").build();
+                }
                 return new Extraction.Builder().success(result.codeLocation).projectName(result.projectName).projectVersion(result.projectVersion).build();
             } catch (final IOException e) {
                 return new Extraction.Builder().exception(e).build();
@@ -23,6 +23,7 @@
  */
 package com.synopsys.integration.detect.detector.npm;
 
+import java.io.Reader;
 import java.util.Map.Entry;
 import java.util.Set;
 
@@ -67,8 +68,25 @@ public class NpmCliParser {
         return convertNpmJsonFileToCodeLocation(sourcePath, npmLsOutput);
     }
 
+    /**
+     * Parses the npm ls output straight from a reader, so the output does not have to be copied into a string first.
+     */
+    public NpmParseResult generateCodeLocation(final String sourcePath, final Reader npmLsOutput) {
+        logger.info("Generating results from npm ls -json");
+
+        final JsonElement npmJson = new JsonParser().parse(npmLsOutput);
+        if (!npmJson.isJsonObject()) {
+            logger.error("The npm ls -json output was not a json object");
+            return null;
+        }
+        return convertNpmJsonToCodeLocation(sourcePath, npmJson.getAsJsonObject());
+    }
+
     NpmParseResult convertNpmJsonFileToCodeLocation(final String sourcePath, final String npmLsOutput) {
-        final JsonObject npmJson = new JsonParser().parse(npmLsOutput).getAsJsonObject();
+        return convertNpmJsonToCodeLocation(sourcePath, new JsonParser().parse(npmLsOutput).getAsJsonObject());
+    }
+
+    private NpmParseResult convertNpmJsonToCodeLocation(final String sourcePath, final JsonObject npmJson) {
         final MutableDependencyGraph graph = new MutableMapDependencyGraph();
 
         final JsonElement projectNameElement = npmJson.getAsJsonPrimitive(JSON_NAME);
@@ -112,7 +130,7 @@ public class NpmCliParser {
 
             if (name != null && version != null) {
                 final ExternalId externalId = externalIdFactory.createNameVersionExternalId(Forge.NPM, name, version);
-                final Dependency child = new Dependency(name, version, externalId);
+                final Dependency child = new Dependency(externalId.name, externalId.version, externalId);
 
                 populateChildren(graph, child, children, false);
                 if (root) {
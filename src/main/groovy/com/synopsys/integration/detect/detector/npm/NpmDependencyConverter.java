@@ -23,18 +23,21 @@
  */
 package com.synopsys.integration.detect.detector.npm;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.synopsys.integration.detect.detector.npm.model.NpmDependency;
 import com.synopsys.integration.detect.detector.npm.model.NpmRequires;
 import com.synopsys.integration.detect.detector.npm.model.PackageJson;
-import com.synopsys.integration.detect.detector.npm.model.PackageLock;
-import com.synopsys.integration.detect.detector.npm.model.PackageLockDependency;
 import com.synopsys.integration.bdio.model.Forge;
 import com.synopsys.integration.bdio.model.dependency.Dependency;
 import com.synopsys.integration.bdio.model.externalid.ExternalId;
@@ -45,14 +48,33 @@ public class NpmDependencyConverter {
 
     public NpmDependencyConverter(final ExternalIdFactory externalIdFactory) {this.externalIdFactory = externalIdFactory;}
 
-    public NpmDependency convertLockFile(PackageLock packageLock, Optional<PackageJson> packageJsonOptional) {
-
-        NpmDependency root = createNpmDependency(packageLock.name, packageLock.version, false);
-
-        if (packageLock.dependencies != null) {
-            List<NpmDependency> children = convertPackageMapToDependencies(root, packageLock.dependencies);
-            root.addAllDependencies(children);
+    /**
+     * Reads a package-lock.json or npm-shrinkwrap.json straight into NpmDependency objects, so the lock file text and an intermediate object tree never have
+     * to be held in memory. The returned root dependency carries the name and version of the lock file.
+     */
+    public NpmDependency convertLockFile(final JsonReader lockFileReader, final Optional<PackageJson> packageJsonOptional) throws IOException {
+        String name = null;
+        String version = null;
+        List<NpmDependency> children = Collections.emptyList();
+        final List<NpmRequires> lockRequires = new ArrayList<>();
+
+        lockFileReader.beginObject();
+        while (lockFileReader.hasNext()) {
+            final String field = lockFileReader.nextName();
+            if ("name".equals(field)) {
+                name = nextStringOrNull(lockFileReader);
+            } else if ("version".equals(field)) {
+                version = nextStringOrNull(lockFileReader);
+            } else if ("dependencies".equals(field)) {
+                children = readPackageMap(lockFileReader, lockRequires);
+            } else {
+                lockFileReader.skipValue();
+            }
         }
+        lockFileReader.endObject();
+
+        final NpmDependency root = createNpmDependency(name, version, false);
+        adoptDependencies(root, children);
 
         if (packageJsonOptional.isPresent()) {
             PackageJson packageJson = packageJsonOptional.get();
@@ -66,50 +88,125 @@ public class NpmDependencyConverter {
                 root.addAllRequires(rootDevRequires);
             }
         } else {
-            if (packageLock.dependencies != null) {
-                List<NpmRequires> requires = packageLock.dependencies.entrySet().stream()
-                                                 .map(entry -> new NpmRequires(entry.getKey(), entry.getValue().version))
-                                                 .collect(Collectors.toList());
-
-                root.addAllRequires(requires);
-            }
+            root.addAllRequires(lockRequires);
         }
 
         return root;
     }
 
-    public List<NpmDependency> convertPackageMapToDependencies(NpmDependency parent, Map<String, PackageLockDependency> packageLockDependencyMap) {
-        List<NpmDependency> children = new ArrayList<>();
+    /**
+     * Reads a map of package name to package, returning the packages without a parent as the parent object may not have been read completely yet. Nested maps
+     * are read with an explicit stack of the packages still open, deeply nested lock files would otherwise overflow the call stack.
+     */
+    private List<NpmDependency> readPackageMap(final JsonReader reader, final List<NpmRequires> packageRequires) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return Collections.emptyList();
+        }
+        final PackageFrame lockFile = new PackageFrame(null);
+        final Deque<PackageFrame> open = new ArrayDeque<>();
+        reader.beginObject();
+        lockFile.readingDependencies = true;
+        open.push(lockFile);
+        while (!open.isEmpty()) {
+            final PackageFrame frame = open.peek();
+            if (frame.readingDependencies) {
+                if (!reader.hasNext()) {
+                    reader.endObject();
+                    frame.readingDependencies = false;
+                    if (frame == lockFile) {
+                        open.pop();
+                    }
+                    continue;
+                }
+                final String packageName = reader.nextName();
+                if (reader.peek() == JsonToken.NULL) {
+                    reader.nextNull();
+                    continue;
+                }
+                reader.beginObject();
+                open.push(new PackageFrame(packageName));
+                continue;
+            }
 
-        if (packageLockDependencyMap == null || packageLockDependencyMap.size() == 0) {
-            return children;
+            if (!reader.hasNext()) {
+                reader.endObject();
+                open.pop();
+                final NpmDependency dependency = createNpmDependency(frame.packageName, frame.version, frame.dev);
+                dependency.addAllRequires(frame.requires);
+                adoptDependencies(dependency, frame.children);
+                final PackageFrame parent = open.peek();
+                parent.children.add(dependency);
+                if (parent == lockFile) {
+                    packageRequires.add(new NpmRequires(frame.packageName, dependency.getVersion()));
+                }
+                continue;
+            }
+            final String field = reader.nextName();
+            if ("version".equals(field)) {
+                frame.version = nextStringOrNull(reader);
+            } else if ("dev".equals(field)) {
+                frame.dev = nextBooleanOrFalse(reader);
+            } else if ("requires".equals(field)) {
+                frame.requires = readRequires(reader);
+            } else if ("dependencies".equals(field) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                reader.beginObject();
+                frame.readingDependencies = true;
+            } else {
+                reader.skipValue();
+            }
         }
+        return lockFile.children;
+    }
 
-        for (Map.Entry<String, PackageLockDependency> packageEntry : packageLockDependencyMap.entrySet()) {
-            String packageName = packageEntry.getKey();
-            PackageLockDependency packageLockDependency = packageEntry.getValue();
+    private List<NpmRequires> readRequires(final JsonReader reader) throws IOException {
+        // Old lock files have "requires": true at the top level, only an object names the required packages
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            reader.skipValue();
+            return Collections.emptyList();
+        }
+        final List<NpmRequires> requires = new ArrayList<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            requires.add(new NpmRequires(name, nextStringOrNull(reader)));
+        }
+        reader.endObject();
+        return requires;
+    }
 
-            NpmDependency dependency = createNpmDependency(packageName, packageLockDependency.version, packageLockDependency.dev);
-            dependency.setParent(parent);
-            children.add(dependency);
+    private void adoptDependencies(final NpmDependency parent, final List<NpmDependency> children) {
+        children.forEach(child -> child.setParent(parent));
+        parent.addAllDependencies(children);
+    }
 
-            List<NpmRequires> requires = convertNameVersionMapToRequires(packageLockDependency.requires);
-            dependency.addAllRequires(requires);
+    private String nextStringOrNull(final JsonReader reader) throws IOException {
+        final JsonToken token = reader.peek();
+        if (token == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        } else if (token == JsonToken.BOOLEAN) {
+            return Boolean.toString(reader.nextBoolean());
+        }
+        return reader.nextString();
+    }
 
-            List<NpmDependency> grandChildren = convertPackageMapToDependencies(dependency, packageLockDependency.dependencies);
-            dependency.addAllDependencies(grandChildren);
+    private boolean nextBooleanOrFalse(final JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return false;
         }
-        return children;
+        return reader.nextBoolean();
     }
 
     private NpmDependency createNpmDependency(String name, String version, Boolean isDev) {
         ExternalId externalId = externalIdFactory.createNameVersionExternalId(Forge.NPM, name, version);
-        Dependency graphDependency = new Dependency(name, version, externalId);
+        Dependency graphDependency = new Dependency(externalId.name, externalId.version, externalId);
         boolean dev = false;
         if (isDev != null && isDev == true) {
             dev = true;
         }
-        return new NpmDependency(name, version, dev, graphDependency);
+        return new NpmDependency(externalId.name, externalId.version, dev, graphDependency);
 
     }
 
@@ -122,4 +219,18 @@ public class NpmDependencyConverter {
                    .collect(Collectors.toList());
     }
 
+    // A package whose object has been opened but not yet read to the end.
+    private static class PackageFrame {
+        private final String packageName;
+        private String version = null;
+        private boolean dev = false;
+        private List<NpmRequires> requires = Collections.emptyList();
+        private final List<NpmDependency> children = new ArrayList<>();
+        private boolean readingDependencies = false;
+
+        public PackageFrame(final String packageName) {
+            this.packageName = packageName;
+        }
+    }
+
 }
@@ -25,7 +25,9 @@ package com.synopsys.integration.detect.detector.npm;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Optional;
 
 import org.apache.commons.io.FileUtils;
@@ -34,27 +36,37 @@ import com.synopsys.integration.detect.configuration.DetectConfiguration;
 import com.synopsys.integration.detect.configuration.DetectProperty;
 import com.synopsys.integration.detect.configuration.PropertyAuthority;
 import com.synopsys.integration.detect.workflow.extraction.Extraction;
+import com.synopsys.integration.detect.workflow.extraction.cache.ExtractionCache;
+import com.synopsys.integration.detect.workflow.extraction.cache.ExtractionCacheKey;
 
 public class NpmLockfileExtractor {
     private final NpmLockfileParser npmLockfileParser;
     private final DetectConfiguration detectConfiguration;
+    private final ExtractionCache extractionCache;
 
-    public NpmLockfileExtractor(final NpmLockfileParser npmLockfileParser, final DetectConfiguration detectConfiguration) {
+    public NpmLockfileExtractor(final NpmLockfileParser npmLockfileParser, final DetectConfiguration detectConfiguration, final ExtractionCache extractionCache) {
         this.npmLockfileParser = npmLockfileParser;
         this.detectConfiguration = detectConfiguration;
+        this.extractionCache = extractionCache;
     }
 
     public Extraction extract(final File directory, final File lockfile, final Optional<File> packageJson) {
-        try {
-            final boolean includeDev = detectConfiguration.getBooleanProperty(DetectProperty.DETECT_NPM_INCLUDE_DEV_DEPENDENCIES, PropertyAuthority.None);
+        final boolean includeDev = detectConfiguration.getBooleanProperty(DetectProperty.DETECT_NPM_INCLUDE_DEV_DEPENDENCIES, PropertyAuthority.None);
+        final ExtractionCacheKey cacheKey = extractionCache.createKey("NPM Lockfile", directory)
+                                                .file(lockfile)
+                                                .file(packageJson.orElse(null))
+                                                .setting(DetectProperty.DETECT_NPM_INCLUDE_DEV_DEPENDENCIES, includeDev);
+        return extractionCache.extract(cacheKey, () -> parse(directory, lockfile, packageJson, includeDev));
+    }
 
-            String lockText = FileUtils.readFileToString(lockfile, StandardCharsets.UTF_8);
+    private Extraction parse(final File directory, final File lockfile, final Optional<File> packageJson, final boolean includeDev) {
+        try (final Reader lockReader = Files.newBufferedReader(lockfile.toPath(), StandardCharsets.UTF_8)) {
             Optional<String> packageText = Optional.empty();
             if (packageJson.isPresent()) {
                 packageText = Optional.of(FileUtils.readFileToString(packageJson.get(), StandardCharsets.UTF_8));
             }
 
-            final NpmParseResult result = npmLockfileParser.parse(directory.getCanonicalPath(), packageText, lockText, includeDev);
+            final NpmParseResult result = npmLockfileParser.parse(directory.getCanonicalPath(), packageText, lockReader, includeDev);
 
             return new Extraction.Builder().success(result.codeLocation).projectName(result.projectName).projectVersion(result.projectVersion).build();
 
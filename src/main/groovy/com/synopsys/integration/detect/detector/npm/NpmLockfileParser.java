@@ -23,14 +23,22 @@
  */
 package com.synopsys.integration.detect.detector.npm;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
 import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
 import com.synopsys.integration.detect.detector.npm.model.NpmDependency;
+import com.synopsys.integration.detect.detector.npm.model.NpmRequires;
 import com.synopsys.integration.detect.detector.npm.model.PackageJson;
-import com.synopsys.integration.detect.detector.npm.model.PackageLock;
 import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocation;
 import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocationType;
 import com.google.gson.Gson;
@@ -51,70 +59,87 @@ public class NpmLockfileParser {
     }
 
     public NpmParseResult parse(final String sourcePath, final Optional<String> packageJsonText, final String lockFileText, final boolean includeDevDependencies) {
+        try {
+            return parse(sourcePath, packageJsonText, new StringReader(lockFileText), includeDevDependencies);
+        } catch (final IOException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    public NpmParseResult parse(final String sourcePath, final Optional<String> packageJsonText, final Reader lockFileReader, final boolean includeDevDependencies) throws IOException {
         final MutableDependencyGraph dependencyGraph = new MutableMapDependencyGraph();
-        logger.info("Parsing lock file text: ");
-        logger.debug(lockFileText);
 
         Optional<PackageJson> packageJson = Optional.empty();
         if (packageJsonText.isPresent()) {
-            logger.debug(packageJsonText.get());
             packageJson = Optional.of(gson.fromJson(packageJsonText.get(), PackageJson.class));
         }
 
-        final PackageLock packageLock = gson.fromJson(lockFileText, PackageLock.class);
-        logger.debug(lockFileText);
+        logger.info("Parsing lock file.");
+        final NpmDependencyConverter dependencyConverter = new NpmDependencyConverter(externalIdFactory);
+        final NpmDependency rootDependency;
+        try (final JsonReader jsonReader = new JsonReader(lockFileReader)) {
+            // gson.fromJson reads leniently, keep accepting the same lock files
+            jsonReader.setLenient(true);
+            rootDependency = dependencyConverter.convertLockFile(jsonReader, packageJson);
+        }
 
         logger.info("Processing project.");
-        if (packageLock.dependencies != null) {
-            logger.info(String.format("Found %d dependencies.", packageLock.dependencies.size()));
-            //Convert to our custom format
-            NpmDependencyConverter dependencyConverter = new NpmDependencyConverter(externalIdFactory);
-            NpmDependency rootDependency = dependencyConverter.convertLockFile(packageLock, packageJson);
-            traverse(rootDependency, dependencyGraph, true, includeDevDependencies);
+        if (!rootDependency.getDependencies().isEmpty()) {
+            logger.info(String.format("Found %d dependencies.", rootDependency.getDependencies().size()));
+            traverse(rootDependency, dependencyGraph, includeDevDependencies);
         } else {
             logger.info("Lock file did not have a 'dependencies' section.");
         }
         logger.info("Finished processing.");
-        final ExternalId projectId = externalIdFactory.createNameVersionExternalId(Forge.NPM, packageLock.name, packageLock.version);
+        final ExternalId projectId = externalIdFactory.createNameVersionExternalId(Forge.NPM, rootDependency.getName(), rootDependency.getVersion());
         final DetectCodeLocation codeLocation = new DetectCodeLocation.Builder(DetectCodeLocationType.NPM, sourcePath, projectId, dependencyGraph).build();
-        return new NpmParseResult(packageLock.name, packageLock.version, codeLocation);
+        return new NpmParseResult(rootDependency.getName(), rootDependency.getVersion(), codeLocation);
     }
 
-    private void traverse(NpmDependency npmDependency, MutableDependencyGraph dependencyGraph, boolean atRoot, boolean includeDevDependencies) {
-        if (!shouldInclude(npmDependency, includeDevDependencies))
-            return;
+    // Walks the lock file depth first with an explicit stack, deeply nested lock files would otherwise overflow the call stack.
+    private void traverse(NpmDependency rootDependency, MutableDependencyGraph dependencyGraph, boolean includeDevDependencies) {
+        final Deque<NpmDependency> remaining = new ArrayDeque<>();
+        remaining.push(rootDependency);
+        while (!remaining.isEmpty()) {
+            final NpmDependency npmDependency = remaining.pop();
+            if (!shouldInclude(npmDependency, includeDevDependencies)) {
+                continue;
+            }
+            final boolean atRoot = npmDependency == rootDependency;
 
-        npmDependency.getRequires().forEach(required -> {
-            NpmDependency resolved = lookupDependency(npmDependency, required.getName());
-            logger.debug("Required package: " + required.getName() + " of version: " + required.getFuzzyVersion());
-            if (resolved != null) {
-                logger.debug("Found package: " + resolved.getName() + "with version: " + resolved.getVersion());
-                if (atRoot) {
-                    dependencyGraph.addChildToRoot(resolved.getGraphDependency());
+            for (final NpmRequires required : npmDependency.getRequires()) {
+                NpmDependency resolved = lookupDependency(npmDependency, required.getName());
+                logger.debug("Required package: {} of version: {}", required.getName(), required.getFuzzyVersion());
+                if (resolved != null) {
+                    logger.debug("Found package: {} with version: {}", resolved.getName(), resolved.getVersion());
+                    if (atRoot) {
+                        dependencyGraph.addChildToRoot(resolved.getGraphDependency());
+                    } else {
+                        dependencyGraph.addChildWithParent(resolved.getGraphDependency(), npmDependency.getGraphDependency());
+                    }
                 } else {
-                    dependencyGraph.addChildWithParent(resolved.getGraphDependency(), npmDependency.getGraphDependency());
+                    logger.error("No dependency found for package: " + required.getName());
                 }
-            } else {
-                logger.error("No dependency found for package: " + required.getName());
             }
-        });
 
-        npmDependency.getDependencies().forEach(child -> traverse(child, dependencyGraph, false, includeDevDependencies));
+            final List<NpmDependency> children = npmDependency.getDependencies();
+            for (int i = children.size() - 1; i >= 0; i--) {
+                remaining.push(children.get(i));
+            }
+        }
     }
 
     //returns the first dependency directly under this dependency or under a parent
     private NpmDependency lookupDependency(NpmDependency npmDependency, String name) {
-        for (NpmDependency current : npmDependency.getDependencies()) {
-            if (current.getName().equals(name)) {
-                return current;
+        Optional<NpmDependency> current = Optional.of(npmDependency);
+        while (current.isPresent()) {
+            final Optional<NpmDependency> found = current.get().findDependency(name);
+            if (found.isPresent()) {
+                return found.get();
             }
+            current = current.get().getParent();
         }
-
-        if (npmDependency.getParent().isPresent()) {
-            return lookupDependency(npmDependency.getParent().get(), name);
-        } else {
-            return null;
-        }
+        return null;
     }
 
     private boolean shouldInclude(final NpmDependency packageLockDependency, final boolean includeDevDependencies) {
@@ -58,12 +58,12 @@ public class NpmPackageLockDetector extends Detector {
 
     @Override
     public DetectorResult applicable() {
-        lockfile = fileFinder.findFile(environment.getDirectory(), PACKAGE_LOCK_JSON);
+        lockfile = fileFinder.findFile(environment.getDirectoryListing(), PACKAGE_LOCK_JSON);
         if (lockfile == null) {
             return new FileNotFoundDetectorResult(PACKAGE_LOCK_JSON);
         }
 
-        File foundPackageJson = fileFinder.findFile(environment.getDirectory(), PACKAGE_JSON);
+        File foundPackageJson = fileFinder.findFile(environment.getDirectoryListing(), PACKAGE_JSON);
         if (foundPackageJson == null) {
             logger.warn("Npm applied but it could not find a package.json so dependencies may not be entirely accurate.");
         } else {
@@ -25,7 +25,9 @@ package com.synopsys.integration.detect.detector.npm.model;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.synopsys.integration.bdio.model.dependency.Dependency;
@@ -46,6 +48,8 @@ public class NpmDependency {
     private NpmDependency parent;
     private final List<NpmRequires> requires = new ArrayList<NpmRequires>();
     private final List<NpmDependency> dependencies = new ArrayList<NpmDependency>();
+    // the first dependency added with a name wins, the same one a scan of the dependencies in order would find
+    private final Map<String, NpmDependency> dependenciesByName = new HashMap<>();
 
     public Optional<NpmDependency> getParent() {
         return Optional.ofNullable(parent);
@@ -69,10 +73,11 @@ public class NpmDependency {
 
     public void addDependency(NpmDependency dependency) {
         dependencies.add(dependency);
+        dependenciesByName.putIfAbsent(dependency.getName(), dependency);
     }
 
     public void addAllDependencies(Collection<NpmDependency> dependencies) {
-        this.dependencies.addAll(dependencies);
+        dependencies.forEach(this::addDependency);
     }
 
     public List<NpmRequires> getRequires() {
@@ -83,6 +88,10 @@ public class NpmDependency {
         return dependencies;
     }
 
+    public Optional<NpmDependency> findDependency(String name) {
+        return Optional.ofNullable(dependenciesByName.get(name));
+    }
+
     public String getName() {
         return name;
     }
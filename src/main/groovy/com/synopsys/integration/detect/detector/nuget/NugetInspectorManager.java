@@ -43,6 +43,7 @@ import com.synopsys.integration.detect.exception.DetectUserFriendlyException;
 import com.synopsys.integration.detect.type.ExecutableType;
 import com.synopsys.integration.detect.type.OperatingSystemType;
 import com.synopsys.integration.detect.util.DetectZipUtil;
+import com.synopsys.integration.detect.util.SingleFlight;
 import com.synopsys.integration.detect.util.executable.ExecutableFinder;
 import com.synopsys.integration.detect.util.executable.ExecutableRunner;
 import com.synopsys.integration.detect.workflow.ArtifactResolver;
@@ -64,8 +65,7 @@ public class NugetInspectorManager {
     private final DetectInfo detectInfo;
     private final DetectFileFinder detectFileFinder;
 
-    private boolean hasResolvedInspector;
-    private NugetInspector resolvedNugetInspector;
+    private final SingleFlight<NugetInspector> resolvedNugetInspector = new SingleFlight<>();
 
     public NugetInspectorManager(final DirectoryManager directoryManager, final ExecutableFinder executableFinder,
         final ExecutableRunner executableRunner, final DetectConfiguration detectConfiguration, final AirGapManager airGapManager, final ArtifactResolver artifactResolver,
@@ -83,12 +83,7 @@ public class NugetInspectorManager {
 
     public NugetInspector findNugetInspector() throws DetectorException {
         try {
-            if (!hasResolvedInspector) {
-                hasResolvedInspector = true;
-                resolvedNugetInspector = install();
-            }
-
-            return resolvedNugetInspector;
+            return resolvedNugetInspector.resolve(this::install);
         } catch (final Exception e) {
             throw new DetectorException(e);
         }
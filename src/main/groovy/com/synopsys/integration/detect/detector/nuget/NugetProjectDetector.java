@@ -106,7 +106,7 @@ public class NugetProjectDetector extends Detector {
     @Override
     public DetectorResult applicable() {
         for (final String filepattern : SUPPORTED_PROJECT_PATTERNS) {
-            if (fileFinder.findFile(environment.getDirectory(), filepattern) != null) {
+            if (fileFinder.findFile(environment.getDirectoryListing(), filepattern) != null) {
                 return new PassedDetectorResult();
             }
         }
@@ -61,7 +61,7 @@ public class NugetSolutionDetector extends Detector {
     @Override
     public DetectorResult applicable() {
         for (final String filepattern : SUPPORTED_SOLUTION_PATTERNS) {
-            if (fileFinder.findFile(environment.getDirectory(), filepattern) != null) {
+            if (fileFinder.findFile(environment.getDirectoryListing(), filepattern) != null) {
                 return new PassedDetectorResult();
             }
         }
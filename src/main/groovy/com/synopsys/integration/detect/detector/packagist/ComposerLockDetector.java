@@ -53,12 +53,12 @@ public class ComposerLockDetector extends Detector {
 
     @Override
     public DetectorResult applicable() {
-        composerLock = fileFinder.findFile(environment.getDirectory(), COMPOSER_LOCK);
+        composerLock = fileFinder.findFile(environment.getDirectoryListing(), COMPOSER_LOCK);
         if (composerLock == null) {
             return new FileNotFoundDetectorResult(COMPOSER_LOCK);
         }
 
-        composerJson = fileFinder.findFile(environment.getDirectory(), COMPOSER_JSON);
+        composerJson = fileFinder.findFile(environment.getDirectoryListing(), COMPOSER_JSON);
         if (composerJson == null) {
             return new FileNotFoundDetectorResult(COMPOSER_JSON);
         }
@@ -30,17 +30,30 @@ import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.synopsys.integration.detect.configuration.DetectProperty;
 import com.synopsys.integration.detect.workflow.extraction.Extraction;
+import com.synopsys.integration.detect.workflow.extraction.cache.ExtractionCache;
+import com.synopsys.integration.detect.workflow.extraction.cache.ExtractionCacheKey;
 
 public class ComposerLockExtractor {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final PackagistParser packagistParser;
+    private final ExtractionCache extractionCache;
 
-    public ComposerLockExtractor(final PackagistParser packagistParser) {
+    public ComposerLockExtractor(final PackagistParser packagistParser, final ExtractionCache extractionCache) {
         this.packagistParser = packagistParser;
+        this.extractionCache = extractionCache;
     }
 
     public Extraction extract(final File directory, final File composerJson, final File composerLock) {
+        final ExtractionCacheKey cacheKey = extractionCache.createKey("Composer Lock", directory)
+                                                .file(composerJson)
+                                                .file(composerLock)
+                                                .setting(DetectProperty.DETECT_PACKAGIST_INCLUDE_DEV_DEPENDENCIES, packagistParser.isIncludeDevDependencies());
+        return extractionCache.extract(cacheKey, () -> parse(directory, composerJson, composerLock));
+    }
+
+    private Extraction parse(final File directory, final File composerJson, final File composerLock) {
         try {
             final String composerJsonText = FileUtils.readFileToString(composerJson, StandardCharsets.UTF_8);
             final String composerLockText = FileUtils.readFileToString(composerLock, StandardCharsets.UTF_8);
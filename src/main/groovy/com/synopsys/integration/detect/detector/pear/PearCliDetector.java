@@ -57,7 +57,7 @@ public class PearCliDetector extends Detector {
 
     @Override
     public DetectorResult applicable() {
-        final File packageDotXml = fileFinder.findFile(environment.getDirectory(), PACKAGE_XML_FILENAME);
+        final File packageDotXml = fileFinder.findFile(environment.getDirectoryListing(), PACKAGE_XML_FILENAME);
         if (packageDotXml == null) {
             return new FileNotFoundDetectorResult(PACKAGE_XML_FILENAME);
         }
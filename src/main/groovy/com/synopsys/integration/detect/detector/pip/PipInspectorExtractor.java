@@ -28,6 +28,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -54,10 +55,9 @@ public class PipInspectorExtractor {
         Extraction extractionResult;
         try {
             final String projectName = getProjectName(directory, pythonExe, setupFile);
-            final Optional<PipParseResult> result;
-
-            final List<String> inspectorOutput = runInspector(directory, pythonExe, pipInspector, projectName, requirementFilePath);
-            result = pipInspectorTreeParser.parse(inspectorOutput, directory.toString());
+            final PipInspectorTreeParser.InspectorTreeParse inspectorTreeParse = pipInspectorTreeParser.startParse(directory.toString());
+            runInspector(directory, pythonExe, pipInspector, projectName, requirementFilePath, inspectorTreeParse);
+            final Optional<PipParseResult> result = inspectorTreeParse.finish();
 
             if (!result.isPresent()) {
                 extractionResult = new Extraction.Builder().failure("The Pip Inspector tree parser failed to produce output").build();
@@ -71,7 +71,8 @@ public class PipInspectorExtractor {
         return extractionResult;
     }
 
-    private List<String> runInspector(final File sourceDirectory, final String pythonPath, final File inspectorScript, final String projectName, final String requirementsFilePath) throws ExecutableRunnerException {
+    private void runInspector(final File sourceDirectory, final String pythonPath, final File inspectorScript, final String projectName, final String requirementsFilePath, final Consumer<String> outputConsumer)
+        throws ExecutableRunnerException {
         final List<String> inspectorArguments = new ArrayList<>();
         inspectorArguments.add(inspectorScript.getAbsolutePath());
 
@@ -85,7 +86,7 @@ public class PipInspectorExtractor {
         }
 
         final Executable pipInspector = new Executable(sourceDirectory, pythonPath, inspectorArguments);
-        return executableRunner.execute(pipInspector).getStandardOutputAsList();
+        executableRunner.execute(pipInspector, outputConsumer);
     }
 
     private String getProjectName(final File directory, final String pythonExe, final File setupFile) throws ExecutableRunnerException {
@@ -32,6 +32,7 @@ import org.apache.commons.io.IOUtils;
 
 import com.synopsys.integration.detect.detector.DetectorEnvironment;
 import com.synopsys.integration.detect.detector.DetectorException;
+import com.synopsys.integration.detect.util.SingleFlight;
 import com.synopsys.integration.detect.workflow.file.DetectFileUtils;
 import com.synopsys.integration.detect.workflow.file.DirectoryManager;
 
@@ -40,8 +41,7 @@ public class PipInspectorManager {
 
     private final DirectoryManager directoryManager;
 
-    private File resolvedInspector = null;
-    private boolean hasResolvedInspector = false;
+    private final SingleFlight<File> resolvedInspector = new SingleFlight<>();
 
     public PipInspectorManager(final DirectoryManager directoryManager) {
         this.directoryManager = directoryManager;
@@ -49,11 +49,7 @@ public class PipInspectorManager {
 
     public File findPipInspector(final DetectorEnvironment environment) throws DetectorException {
         try {
-            if (!hasResolvedInspector) {
-                hasResolvedInspector = true;
-                resolvedInspector = installInspector();
-            }
-            return resolvedInspector;
+            return resolvedInspector.resolve(this::installInspector);
         } catch (final Exception e) {
             throw new DetectorException(e);
         }
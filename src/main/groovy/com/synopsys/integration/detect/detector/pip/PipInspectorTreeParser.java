@@ -25,6 +25,7 @@ package com.synopsys.integration.detect.detector.pip;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -58,18 +59,35 @@ public class PipInspectorTreeParser {
     }
 
     public Optional<PipParseResult> parse(final List<String> pipInspectorOutputAsList, final String sourcePath) {
-        PipParseResult parseResult = null;
+        final InspectorTreeParse inspectorTreeParse = startParse(sourcePath);
+        pipInspectorOutputAsList.forEach(inspectorTreeParse);
+        return inspectorTreeParse.finish();
+    }
+
+    /**
+     * Starts parsing pip inspector output one line at a time, so the output can be parsed while the inspector is still writing it.
+     */
+    public InspectorTreeParse startParse(final String sourcePath) {
+        return new InspectorTreeParse(sourcePath);
+    }
+
+    public class InspectorTreeParse implements Consumer<String> {
+        private final String sourcePath;
+        private final MutableDependencyGraph graph = new MutableMapDependencyGraph();
+        private final DependencyHistory history = new DependencyHistory();
+        private Dependency project = null;
 
-        final MutableDependencyGraph graph = new MutableMapDependencyGraph();
-        final DependencyHistory history = new DependencyHistory();
-        Dependency project = null;
+        private InspectorTreeParse(final String sourcePath) {
+            this.sourcePath = sourcePath;
+        }
 
-        for (final String line : pipInspectorOutputAsList) {
+        @Override
+        public void accept(final String line) {
             final String trimmedLine = StringUtils.trimToEmpty(line);
             if (StringUtils.isEmpty(trimmedLine) || !trimmedLine.contains(SEPARATOR) || trimmedLine.startsWith(UNKNOWN_REQUIREMENTS_PREFIX) || trimmedLine.startsWith(UNPARSEABLE_REQUIREMENTS_PREFIX) || trimmedLine.startsWith(
                 UNKNOWN_PACKAGE_PREFIX)) {
                 parseErrorsFromLine(trimmedLine);
-                continue;
+                return;
             }
 
             final Dependency currentDependency = parseDependencyFromLine(trimmedLine, sourcePath);
@@ -93,12 +111,15 @@ public class PipInspectorTreeParser {
             history.add(currentDependency);
         }
 
-        if (project != null) {
-            final DetectCodeLocation codeLocation = new DetectCodeLocation.Builder(DetectCodeLocationType.PIP, sourcePath, project.externalId, graph).build();
-            parseResult = new PipParseResult(project.name, project.version, codeLocation);
-        }
+        public Optional<PipParseResult> finish() {
+            PipParseResult parseResult = null;
+            if (project != null) {
+                final DetectCodeLocation codeLocation = new DetectCodeLocation.Builder(DetectCodeLocationType.PIP, sourcePath, project.externalId, graph).build();
+                parseResult = new PipParseResult(project.name, project.version, codeLocation);
+            }
 
-        return Optional.ofNullable(parseResult);
+            return Optional.ofNullable(parseResult);
+        }
     }
 
     private void parseErrorsFromLine(final String trimmedLine) {
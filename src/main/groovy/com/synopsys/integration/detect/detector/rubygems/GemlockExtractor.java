@@ -35,6 +35,8 @@ import org.slf4j.LoggerFactory;
 import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocation;
 import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocationType;
 import com.synopsys.integration.detect.workflow.extraction.Extraction;
+import com.synopsys.integration.detect.workflow.extraction.cache.ExtractionCache;
+import com.synopsys.integration.detect.workflow.extraction.cache.ExtractionCacheKey;
 import com.synopsys.integration.bdio.graph.DependencyGraph;
 import com.synopsys.integration.bdio.model.Forge;
 import com.synopsys.integration.bdio.model.externalid.ExternalId;
@@ -43,12 +45,19 @@ import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 public class GemlockExtractor {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final ExternalIdFactory externalIdFactory;
+    private final ExtractionCache extractionCache;
 
-    public GemlockExtractor(final ExternalIdFactory externalIdFactory) {
+    public GemlockExtractor(final ExternalIdFactory externalIdFactory, final ExtractionCache extractionCache) {
         this.externalIdFactory = externalIdFactory;
+        this.extractionCache = extractionCache;
     }
 
     public Extraction extract(final File directory, final File gemlock) {
+        final ExtractionCacheKey cacheKey = extractionCache.createKey("Gemlock", directory).file(gemlock);
+        return extractionCache.extract(cacheKey, () -> parse(directory, gemlock));
+    }
+
+    private Extraction parse(final File directory, final File gemlock) {
         try {
             final List<String> gemlockText = Files.readAllLines(gemlock.toPath(), StandardCharsets.UTF_8);
             logger.debug(gemlockText.stream().collect(Collectors.joining("\n")));
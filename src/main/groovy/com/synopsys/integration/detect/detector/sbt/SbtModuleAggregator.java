@@ -23,6 +23,7 @@
  */
 package com.synopsys.integration.detect.detector.sbt;
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -76,7 +77,8 @@ public class SbtModuleAggregator {
         return aggregate;
     }
 
+    // Kept in the order the modules were found so the aggregated modules, and the code locations made from them, come out in the same order every run.
     private Set<SbtAggregate> uniqueAggregates(final List<SbtDependencyModule> modules) {
-        return modules.stream().map(module -> moduleToAggregate(module)).collect(Collectors.toSet());
+        return modules.stream().map(module -> moduleToAggregate(module)).collect(Collectors.toCollection(LinkedHashSet::new));
     }
 }
@@ -28,17 +28,17 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.Document;
-import org.xml.sax.SAXException;
 
 import com.synopsys.integration.detect.detector.DetectorType;
 import com.synopsys.integration.detect.workflow.file.DetectFileFinder;
@@ -64,7 +64,7 @@ public class SbtPackager {
         this.detectFileFinder = detectFileFinder;
     }
 
-    public SbtProject extractProject(final String path, final int depth, final String included, final String excluded) throws IOException, SAXException, ParserConfigurationException {
+    public SbtProject extractProject(final String path, final int depth, final String included, final String excluded) throws IOException, XMLStreamException {
         final List<SbtDependencyModule> rawModules = extractModules(path, depth, included, excluded);
         final List<SbtDependencyModule> modules = rawModules.stream().filter(it -> it.graph != null).collect(Collectors.toList());
         final int skipped = rawModules.size() - modules.size();
@@ -112,7 +112,7 @@ public class SbtPackager {
         return version;
     }
 
-    private List<SbtDependencyModule> extractModules(final String path, final int depth, final String included, final String excluded) throws IOException, SAXException, ParserConfigurationException {
+    private List<SbtDependencyModule> extractModules(final String path, final int depth, final String included, final String excluded) throws IOException, XMLStreamException {
         final List<File> sbtFiles = detectFileFinder.findFilesToDepth(path, BUILD_SBT_FILENAME, depth);
         final List<File> resolutionCaches = detectFileFinder.findDirectoriesContainingDirectoriesToDepth(path, RESOLUTION_CACHE_DIRECTORY, depth);
 
@@ -167,7 +167,7 @@ public class SbtPackager {
     }
 
     private List<SbtDependencyModule> extractReportModules(final String path, final File reportPath, final File source, final String included, final String excluded, final List<String> usedReports)
-        throws IOException, SAXException, ParserConfigurationException {
+        throws IOException, XMLStreamException {
         final List<SbtDependencyModule> modules = new ArrayList<>();
         final String canonical = reportPath.getCanonicalPath();
         if (usedReports.contains(canonical)) {
@@ -200,23 +200,13 @@ public class SbtPackager {
         return modules;
     }
 
-    private List<SbtDependencyModule> makeModuleAggregate(final List<File> reportFiles, final String include, final String exclude) throws SAXException, IOException, ParserConfigurationException {
-        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        final DocumentBuilder builder = factory.newDocumentBuilder();
-
+    private List<SbtDependencyModule> makeModuleAggregate(final List<File> reportFiles, final String include, final String exclude) throws IOException, XMLStreamException {
         final SbtReportParser parser = new SbtReportParser();
         final SbtDependencyResolver resolver = new SbtDependencyResolver(externalIdFactory);
         final ExcludedIncludedFilter filter = new ExcludedIncludedFilter(exclude, include);
         final SbtModuleAggregator aggregator = new SbtModuleAggregator();
 
-        final List<SbtDependencyModule> modules = new ArrayList<>();
-        for (final File reportFile : reportFiles) {
-            final Document xml = builder.parse(reportFile);
-            logger.debug(String.format("Parsing SBT report file: %s", reportFile.getCanonicalPath()));
-            final SbtReport report = parser.parseReportFromXml(xml);
-            final SbtDependencyModule tree = resolver.resolveReport(report);
-            modules.add(tree);
-        }
+        final List<SbtDependencyModule> modules = parseReportFiles(reportFiles, parser, resolver);
 
         final List<SbtDependencyModule> includedModules = modules.stream().filter(module -> filter.shouldInclude(module.configuration)).collect(Collectors.toList());
 
@@ -231,4 +221,38 @@ public class SbtPackager {
         return aggregator.aggregateModules(includedModules);
     }
 
+    // Large builds write hundreds of reports, they are parsed on a pool bounded by the processor count and kept in file order so the aggregate does not
+    // depend on which report finishes first.
+    private List<SbtDependencyModule> parseReportFiles(final List<File> reportFiles, final SbtReportParser parser, final SbtDependencyResolver resolver) throws IOException, XMLStreamException {
+        final int threads = Math.max(1, Math.min(reportFiles.size(), Runtime.getRuntime().availableProcessors()));
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<SbtDependencyModule>> parsedReports = new ArrayList<>();
+            for (final File reportFile : reportFiles) {
+                parsedReports.add(executorService.submit(() -> {
+                    logger.debug(String.format("Parsing SBT report file: %s", reportFile.getCanonicalPath()));
+                    final SbtReport report = parser.parseReport(reportFile);
+                    return resolver.resolveReport(report);
+                }));
+            }
+            final List<SbtDependencyModule> modules = new ArrayList<>();
+            for (final Future<SbtDependencyModule> parsedReport : parsedReports) {
+                modules.add(parsedReport.get());
+            }
+            return modules;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while parsing the SBT reports.", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else if (e.getCause() instanceof XMLStreamException) {
+                throw (XMLStreamException) e.getCause();
+            }
+            throw new RuntimeException("Parsing an SBT report failed unexpectedly.", e.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
 }
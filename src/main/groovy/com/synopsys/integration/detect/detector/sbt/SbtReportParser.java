@@ -23,14 +23,23 @@
  */
 package com.synopsys.integration.detect.detector.sbt;
 
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
-import org.w3c.dom.Document;
-import org.w3c.dom.Node;
-
-import com.synopsys.integration.detect.util.XmlUtil;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
+/**
+ * Streams an ivy resolution report into an SbtReport without building a document for it. Only direct children are read at each level, the same elements
+ * the report was previously read from, and everything else is skipped. A parser holds no state between reports, so one can be shared by many threads.
+ */
 public class SbtReportParser {
     private static final String IVY_REPORT_NODE_KEY = "ivy-report";
     private static final String INFO_NODE_KEY = "info";
@@ -43,46 +52,145 @@ public class SbtReportParser {
     private static final String CALLER_NODE_KEY = "caller";
     private static final String CALLER_REVISION_NODE_KEY = "callerrev";
 
-    public SbtReport parseReportFromXml(final Document xmlReport) {
-        final Node ivyReport = XmlUtil.getNode(IVY_REPORT_NODE_KEY, xmlReport);
-        final Node infoNode = XmlUtil.getNode(INFO_NODE_KEY, ivyReport);
-        final Node dependenciesNode = XmlUtil.getNode(DEPENDENCIES_NODE_KEY, ivyReport);
-        final List<Node> xmlModules = XmlUtil.getNodeList(MODULE_NODE_KEY, dependenciesNode);
+    private final XMLInputFactory xmlInputFactory;
 
-        final String organisation = XmlUtil.getAttribute(ORGANISATION_NODE_KEY, infoNode);
-        final String module = XmlUtil.getAttribute(MODULE_NODE_KEY, infoNode);
-        final String revision = XmlUtil.getAttribute(REVISION_NODE_KEY, infoNode);
-        final String configuration = XmlUtil.getAttribute(CONFIGURATION_NODE_KEY, infoNode);
-        final List<SbtModule> dependencies = xmlModules.stream().map(this::createModule).collect(Collectors.toList());
+    public SbtReportParser() {
+        xmlInputFactory = XMLInputFactory.newInstance();
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
 
-        return new SbtReport(organisation, module, revision, configuration, dependencies);
+    public SbtReport parseReport(final File reportFile) throws IOException, XMLStreamException {
+        try (final InputStream inputStream = new BufferedInputStream(new FileInputStream(reportFile))) {
+            return parseReport(inputStream);
+        }
     }
 
-    private SbtModule createModule(final Node xmlModule) {
-        final List<Node> xmlRevisions = XmlUtil.getNodeList(REVISION_NODE_KEY, xmlModule);
+    public SbtReport parseReport(final InputStream inputStream) throws XMLStreamException {
+        final XMLStreamReader reader = createReader(inputStream);
+        try {
+            if (!nextChildElement(reader) || !IVY_REPORT_NODE_KEY.equals(reader.getLocalName())) {
+                throw new XMLStreamException("The report did not start with an " + IVY_REPORT_NODE_KEY + " element.", reader.getLocation());
+            }
+
+            String organisation = null;
+            String module = null;
+            String revision = null;
+            String configuration = null;
+            List<SbtModule> dependencies = null;
+            boolean foundInfo = false;
+            while (nextChildElement(reader)) {
+                if (!foundInfo && INFO_NODE_KEY.equals(reader.getLocalName())) {
+                    foundInfo = true;
+                    organisation = getAttribute(reader, ORGANISATION_NODE_KEY);
+                    module = getAttribute(reader, MODULE_NODE_KEY);
+                    revision = getAttribute(reader, REVISION_NODE_KEY);
+                    configuration = getAttribute(reader, CONFIGURATION_NODE_KEY);
+                    skipElement(reader);
+                } else if (dependencies == null && DEPENDENCIES_NODE_KEY.equals(reader.getLocalName())) {
+                    dependencies = createModules(reader);
+                } else {
+                    skipElement(reader);
+                }
+            }
+
+            if (!foundInfo || dependencies == null) {
+                throw new XMLStreamException(String.format("The report was missing its %s or %s element.", INFO_NODE_KEY, DEPENDENCIES_NODE_KEY));
+            }
+            return new SbtReport(organisation, module, revision, configuration, dependencies);
+        } finally {
+            reader.close();
+        }
+    }
 
-        final String name = XmlUtil.getAttribute(NAME_NODE_KEY, xmlModule);
-        final String organisation = XmlUtil.getAttribute(ORGANISATION_NODE_KEY, xmlModule);
-        final List<SbtRevision> revisions = xmlRevisions.stream().map(this::createRevision).collect(Collectors.toList());
+    private XMLStreamReader createReader(final InputStream inputStream) throws XMLStreamException {
+        // The factory is only configured once, but it is not documented as thread safe, so readers are created one at a time.
+        synchronized (xmlInputFactory) {
+            return xmlInputFactory.createXMLStreamReader(inputStream);
+        }
+    }
 
-        return new SbtModule(organisation, name, revisions);
+    private List<SbtModule> createModules(final XMLStreamReader reader) throws XMLStreamException {
+        final List<SbtModule> modules = new ArrayList<>();
+        while (nextChildElement(reader)) {
+            if (MODULE_NODE_KEY.equals(reader.getLocalName())) {
+                modules.add(createModule(reader));
+            } else {
+                skipElement(reader);
+            }
+        }
+        return modules;
     }
 
-    private SbtRevision createRevision(final Node xmlRevision) {
-        final List<Node> xmlCallers = XmlUtil.getNodeList(CALLER_NODE_KEY, xmlRevision);
+    private SbtModule createModule(final XMLStreamReader reader) throws XMLStreamException {
+        final String name = getAttribute(reader, NAME_NODE_KEY);
+        final String organisation = getAttribute(reader, ORGANISATION_NODE_KEY);
+        final List<SbtRevision> revisions = new ArrayList<>();
+        while (nextChildElement(reader)) {
+            if (REVISION_NODE_KEY.equals(reader.getLocalName())) {
+                revisions.add(createRevision(reader));
+            } else {
+                skipElement(reader);
+            }
+        }
+
+        return new SbtModule(organisation, name, revisions);
+    }
 
-        final String name = XmlUtil.getAttribute(NAME_NODE_KEY, xmlRevision);
-        final List<SbtCaller> callers = xmlCallers.stream().map(this::createCaller).collect(Collectors.toList());
+    private SbtRevision createRevision(final XMLStreamReader reader) throws XMLStreamException {
+        final String name = getAttribute(reader, NAME_NODE_KEY);
+        final List<SbtCaller> callers = new ArrayList<>();
+        while (nextChildElement(reader)) {
+            if (CALLER_NODE_KEY.equals(reader.getLocalName())) {
+                callers.add(createCaller(reader));
+            } else {
+                skipElement(reader);
+            }
+        }
 
         return new SbtRevision(name, callers);
     }
 
-    private SbtCaller createCaller(final Node xmlCaller) {
-        final String organisation = XmlUtil.getAttribute(ORGANISATION_NODE_KEY, xmlCaller);
-        final String name = XmlUtil.getAttribute(NAME_NODE_KEY, xmlCaller);
-        final String revision = XmlUtil.getAttribute(CALLER_REVISION_NODE_KEY, xmlCaller);
+    private SbtCaller createCaller(final XMLStreamReader reader) throws XMLStreamException {
+        final String organisation = getAttribute(reader, ORGANISATION_NODE_KEY);
+        final String name = getAttribute(reader, NAME_NODE_KEY);
+        final String revision = getAttribute(reader, CALLER_REVISION_NODE_KEY);
+        skipElement(reader);
 
         return new SbtCaller(organisation, name, revision);
     }
 
+    private String getAttribute(final XMLStreamReader reader, final String key) throws XMLStreamException {
+        final String value = reader.getAttributeValue(null, key);
+        if (value == null) {
+            throw new XMLStreamException(String.format("The %s element was missing its %s attribute.", reader.getLocalName(), key), reader.getLocation());
+        }
+        return value;
+    }
+
+    // Moves to the next child element of the current element, returning false once the current element has ended instead.
+    private boolean nextChildElement(final XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    // Moves past the end of the current element, including anything nested in it.
+    private void skipElement(final XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
 }
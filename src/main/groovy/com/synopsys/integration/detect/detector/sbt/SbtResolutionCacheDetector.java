@@ -49,7 +49,7 @@ public class SbtResolutionCacheDetector extends Detector {
 
     @Override
     public DetectorResult applicable() {
-        final File build = fileFinder.findFile(environment.getDirectory(), BUILD_SBT_FILENAME);
+        final File build = fileFinder.findFile(environment.getDirectoryListing(), BUILD_SBT_FILENAME);
         if (build == null) {
             return new FileNotFoundDetectorResult(BUILD_SBT_FILENAME);
         }
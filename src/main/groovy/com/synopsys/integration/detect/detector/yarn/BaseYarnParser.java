@@ -24,14 +24,12 @@
 package com.synopsys.integration.detect.detector.yarn;
 
 public abstract class BaseYarnParser {
+    // Every two leading spaces are one level
     protected int getLineLevel(final String line) {
-        int level = 0;
-        String tmpLine = line;
-        while (tmpLine.startsWith("  ")) {
-            tmpLine = tmpLine.replaceFirst("  ", "");
-            level++;
+        int spaces = 0;
+        while (spaces < line.length() && line.charAt(spaces) == ' ') {
+            spaces++;
         }
-
-        return level;
+        return spaces / 2;
     }
 }
@@ -54,11 +54,13 @@ public class YarnListParser extends BaseYarnParser {
     }
 
     public DependencyGraph parseYarnList(final List<String> yarnLockText, final List<String> yarnListAsList) {
+        return parseYarnList(yarnLockParser.getYarnLockResolvedVersionMap(yarnLockText), yarnListAsList);
+    }
+
+    public DependencyGraph parseYarnList(final Map<String, String> yarnLockVersionMap, final List<String> yarnListAsList) {
         final MutableDependencyGraph graph = new MutableMapDependencyGraph();
         final DependencyHistory history = new DependencyHistory();
 
-        final Map<String, String> yarnLockVersionMap = yarnLockParser.getYarnLockResolvedVersionMap(yarnLockText);
-
         for (final String line : yarnListAsList) {
             final String lowerCaseLine = line.toLowerCase().trim();
             final String cleanedLine = line.replaceAll(NTH_DEPENDENCY_PREFIX, "").replaceAll(INNER_LEVEL_CHARACTER, "").replaceAll(LAST_DEPENDENCY_PREFIX, "");
@@ -102,7 +104,7 @@ public class YarnListParser extends BaseYarnParser {
         }
 
         final ExternalId externalId = externalIdFactory.createNameVersionExternalId(Forge.NPM, nameVersion.getName(), nameVersion.getVersion());
-        return new Dependency(nameVersion.getName(), nameVersion.getVersion(), externalId);
+        return new Dependency(externalId.name, externalId.version, externalId);
     }
 
 }
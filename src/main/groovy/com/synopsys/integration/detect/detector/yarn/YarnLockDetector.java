@@ -60,7 +60,7 @@ public class YarnLockDetector extends Detector {
 
     @Override
     public DetectorResult applicable() {
-        yarnlock = fileFinder.findFile(environment.getDirectory(), YARN_LOCK_FILENAME);
+        yarnlock = fileFinder.findFile(environment.getDirectoryListing(), YARN_LOCK_FILENAME);
         if (yarnlock == null) {
             return new FileNotFoundDetectorResult(YARN_LOCK_FILENAME);
         }
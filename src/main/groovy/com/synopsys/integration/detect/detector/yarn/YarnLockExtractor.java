@@ -23,11 +23,13 @@
  */
 package com.synopsys.integration.detect.detector.yarn;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -50,12 +52,15 @@ public class YarnLockExtractor {
     public static final String ERROR_FILE = "detect_yarn_error.txt";
 
     private final ExternalIdFactory externalIdFactory;
+    private final YarnLockParser yarnLockParser;
     private final YarnListParser yarnListParser;
     private final ExecutableRunner executableRunner;
     private final DetectConfiguration detectConfiguration;
 
-    public YarnLockExtractor(final ExternalIdFactory externalIdFactory, final YarnListParser yarnListParser, final ExecutableRunner executableRunner, final DetectConfiguration detectConfiguration) {
+    public YarnLockExtractor(final ExternalIdFactory externalIdFactory, final YarnLockParser yarnLockParser, final YarnListParser yarnListParser, final ExecutableRunner executableRunner,
+        final DetectConfiguration detectConfiguration) {
         this.externalIdFactory = externalIdFactory;
+        this.yarnLockParser = yarnLockParser;
         this.yarnListParser = yarnListParser;
         this.executableRunner = executableRunner;
         this.detectConfiguration = detectConfiguration;
@@ -63,7 +68,10 @@ public class YarnLockExtractor {
 
     public Extraction extract(final File directory, final File yarnlock, final String yarnExe) {
         try {
-            final List<String> yarnLockText = Files.readAllLines(yarnlock.toPath(), StandardCharsets.UTF_8);
+            final Map<String, String> yarnLockVersionMap;
+            try (final BufferedReader yarnLockReader = Files.newBufferedReader(yarnlock.toPath(), StandardCharsets.UTF_8)) {
+                yarnLockVersionMap = yarnLockParser.getYarnLockResolvedVersionMap(yarnLockReader);
+            }
             final List<String> exeArgs = Stream.of("list", "--emoji", "false").collect(Collectors.toCollection(ArrayList::new));
 
             if (detectConfiguration.getBooleanProperty(DetectProperty.DETECT_YARN_PROD_ONLY, PropertyAuthority.None)) {
@@ -78,7 +86,7 @@ public class YarnLockExtractor {
                 return builder.build();
             }
 
-            final DependencyGraph dependencyGraph = yarnListParser.parseYarnList(yarnLockText, executableOutput.getStandardOutputAsList());
+            final DependencyGraph dependencyGraph = yarnListParser.parseYarnList(yarnLockVersionMap, executableOutput.getStandardOutputAsList());
 
             final ExternalId externalId = externalIdFactory.createPathExternalId(Forge.NPM, directory.getCanonicalPath());
             final DetectCodeLocation detectCodeLocation = new DetectCodeLocation.Builder(DetectCodeLocationType.YARN, directory.getCanonicalPath(), externalId, dependencyGraph).build();
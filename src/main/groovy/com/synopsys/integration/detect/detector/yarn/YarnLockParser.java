@@ -23,14 +23,12 @@
  */
 package com.synopsys.integration.detect.detector.yarn;
 
+import java.io.BufferedReader;
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-
-import org.apache.commons.lang3.StringUtils;
 
 public class YarnLockParser extends BaseYarnParser {
     public static final String COMMENT_PREFIX = "#";
@@ -38,33 +36,94 @@ public class YarnLockParser extends BaseYarnParser {
     public static final String VERSION_SUFFIX = "\"";
 
     public Map<String, String> getYarnLockResolvedVersionMap(final List<String> yarnLockFileAsList) {
-        final Map<String, String> yarnLockResolvedVersions = new HashMap<>();
-        final List<String> fuzzyIds = new ArrayList<>();
+        final ResolvedVersionCollector collector = new ResolvedVersionCollector();
+        yarnLockFileAsList.forEach(collector::accept);
+        return collector.yarnLockResolvedVersions;
+    }
+
+    /**
+     * Reads the yarn.lock one line at a time, so the lock file never has to be held in memory.
+     */
+    public Map<String, String> getYarnLockResolvedVersionMap(final BufferedReader yarnLockReader) throws IOException {
+        final ResolvedVersionCollector collector = new ResolvedVersionCollector();
+        String line;
+        while ((line = yarnLockReader.readLine()) != null) {
+            collector.accept(line);
+        }
+        return collector.yarnLockResolvedVersions;
+    }
+
+    // Finds the fuzzy ids and versions by index within each line, only the ids and versions themselves become new strings.
+    private class ResolvedVersionCollector {
+        private final Map<String, String> yarnLockResolvedVersions = new HashMap<>();
+        // many entries resolve to the same version, keep a single copy of each version string
+        private final Map<String, String> versions = new HashMap<>();
+        private final List<String> fuzzyIds = new ArrayList<>();
 
-        for (final String line : yarnLockFileAsList) {
-            if (StringUtils.isBlank(line) || line.trim().startsWith(COMMENT_PREFIX)) {
-                continue;
+        private void accept(final String line) {
+            int start = 0;
+            while (start < line.length() && Character.isWhitespace(line.charAt(start))) {
+                start++;
+            }
+            if (start == line.length() || line.startsWith(COMMENT_PREFIX, start)) {
+                return;
             }
 
-            final String trimmedLine = line.trim();
             final int level = getLineLevel(line);
             if (level == 0) {
-                fuzzyIds.addAll(getFuzzyIdsFromLine(line));
-            } else if (level == 1 && trimmedLine.startsWith(VERSION_PREFIX)) {
-                final String resolvedVersion = trimmedLine.substring(VERSION_PREFIX.length(), trimmedLine.lastIndexOf(VERSION_SUFFIX));
-                fuzzyIds.stream().forEach(fuzzyId -> yarnLockResolvedVersions.put(fuzzyId, resolvedVersion));
+                addFuzzyIds(line);
+            } else if (level == 1 && line.startsWith(VERSION_PREFIX, start)) {
+                final int versionStart = start + VERSION_PREFIX.length();
+                final int versionEnd = Math.max(versionStart, line.lastIndexOf(VERSION_SUFFIX));
+                final String resolvedVersion = versions.computeIfAbsent(line.substring(versionStart, versionEnd), version -> version);
+                for (final String fuzzyId : fuzzyIds) {
+                    yarnLockResolvedVersions.put(fuzzyId, resolvedVersion);
+                }
                 fuzzyIds.clear();
             }
         }
 
-        return yarnLockResolvedVersions;
-    }
+        // Each comma separated entry is trimmed and has its quotes and colons removed, trailing empty entries are dropped like String.split drops them
+        private void addFuzzyIds(final String line) {
+            int limit = line.length();
+            while (limit > 0 && line.charAt(limit - 1) == ',') {
+                limit--;
+            }
+            int entryStart = 0;
+            while (limit > 0 && entryStart <= limit) {
+                int entryEnd = line.indexOf(',', entryStart);
+                if (entryEnd < 0 || entryEnd > limit) {
+                    entryEnd = limit;
+                }
+                fuzzyIds.add(cleanFuzzyId(line, entryStart, entryEnd));
+                entryStart = entryEnd + 1;
+            }
+        }
+
+        private String cleanFuzzyId(final String line, final int entryStart, final int entryEnd) {
+            int start = entryStart;
+            int end = entryEnd;
+            while (start < end && line.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && line.charAt(end - 1) <= ' ') {
+                end--;
+            }
 
-    private List<String> getFuzzyIdsFromLine(final String s) {
-        final String[] lines = s.split(",");
-        return Arrays.stream(lines)
-                   .map(line -> line.trim().replaceAll("\"", "").replaceAll(":", ""))
-                   .collect(Collectors.toList());
+            StringBuilder cleaned = null;
+            for (int i = start; i < end; i++) {
+                final char c = line.charAt(i);
+                if (c == '"' || c == ':') {
+                    if (cleaned == null) {
+                        cleaned = new StringBuilder(end - start);
+                        cleaned.append(line, start, i);
+                    }
+                } else if (cleaned != null) {
+                    cleaned.append(c);
+                }
+            }
+            return cleaned == null ? line.substring(start, end) : cleaned.toString();
+        }
     }
 
 }
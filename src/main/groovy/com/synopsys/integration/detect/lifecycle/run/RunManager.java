@@ -48,6 +48,7 @@ import com.synopsys.integration.detect.tool.ToolRunner;
 import com.synopsys.integration.detect.tool.binaryscanner.BinaryScanToolResult;
 import com.synopsys.integration.detect.tool.binaryscanner.BlackDuckBinaryScannerTool;
 import com.synopsys.integration.detect.tool.detector.DetectorTool;
+import com.synopsys.integration.detect.tool.detector.DetectorToolOptions;
 import com.synopsys.integration.detect.tool.detector.DetectorToolResult;
 import com.synopsys.integration.detect.tool.polaris.PolarisTool;
 import com.synopsys.integration.detect.tool.signaturescanner.BlackDuckSignatureScannerOptions;
@@ -151,7 +152,8 @@ public class RunManager {
                 final SearchOptions searchOptions = detectConfigurationFactory.createSearchOptions(directoryManager.getSourceDirectory());
                 final DetectorTool detectorTool = new DetectorTool(detectContext);
 
-                final DetectorToolResult detectorToolResult = detectorTool.performDetectors(searchOptions, projectBomTool);
+                final DetectorToolOptions detectorToolOptions = detectConfigurationFactory.createDetectorToolOptions();
+                final DetectorToolResult detectorToolResult = detectorTool.performDetectors(searchOptions, detectorToolOptions, projectBomTool);
                 runResult.addToolNameVersionIfPresent(DetectTool.DETECTOR, detectorToolResult.bomToolProjectNameVersion);
                 runResult.addDetectCodeLocations(detectorToolResult.bomToolCodeLocations);
                 runResult.addApplicableDetectors(detectorToolResult.applicableDetectorTypes);
@@ -51,7 +51,9 @@ public class RunResult {
     }
 
     public void addDetectCodeLocations(List<DetectCodeLocation> codeLocations) {
-        detectCodeLocations.addAll(codeLocations);
+        codeLocations.stream()
+            .map(DetectCodeLocation::compact)
+            .forEach(detectCodeLocations::add);
     }
 
     public void addDockerFile(Optional<File> dockerFile) {
@@ -23,28 +23,54 @@
  */
 package com.synopsys.integration.detect.tool.detector;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gson.Gson;
+import com.synopsys.integration.detect.DetectInfo;
+import com.synopsys.integration.detect.configuration.DetectConfiguration;
+import com.synopsys.integration.detect.configuration.DetectProperty;
+import com.synopsys.integration.detect.configuration.PropertyAuthority;
+import com.synopsys.integration.detect.detector.Detector;
 import com.synopsys.integration.detect.detector.DetectorFactory;
 import com.synopsys.integration.detect.exception.DetectUserFriendlyException;
 import com.synopsys.integration.detect.lifecycle.DetectContext;
 import com.synopsys.integration.detect.workflow.detector.DetectorManager;
 import com.synopsys.integration.detect.workflow.event.Event;
+import com.synopsys.integration.detect.workflow.event.EventListener;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
 import com.synopsys.integration.detect.workflow.extraction.ExtractionManager;
+import com.synopsys.integration.detect.workflow.file.DirectoryManager;
 import com.synopsys.integration.detect.workflow.extraction.PreparationManager;
+import com.synopsys.integration.detect.workflow.profiling.DetectorTime;
+import com.synopsys.integration.detect.workflow.profiling.DetectorTimings;
+import com.synopsys.integration.detect.workflow.profiling.ExtractionTimingStore;
+import com.synopsys.integration.detect.workflow.profiling.ExtractionTimings;
 import com.synopsys.integration.detect.workflow.project.DetectorEvaluationNameVersionDecider;
 import com.synopsys.integration.detect.workflow.project.DetectorNameVersionDecider;
 import com.synopsys.integration.detect.workflow.search.SearchManager;
 import com.synopsys.integration.detect.workflow.search.SearchOptions;
+import com.synopsys.integration.detect.workflow.search.cache.SearchCacheStore;
 import com.synopsys.integration.detect.workflow.search.rules.DetectorSearchEvaluator;
+import com.synopsys.integration.detect.workflow.search.result.DetectorEvaluation;
 import com.synopsys.integration.detect.workflow.search.rules.DetectorSearchProvider;
 import com.synopsys.integration.util.NameVersion;
 
 public class DetectorTool {
+    // The properties that decide which directories are searched and which detectors apply to them.
+    private static final List<DetectProperty> SEARCH_CACHE_PROPERTIES = Arrays.asList(DetectProperty.DETECT_DETECTOR_SEARCH_DEPTH, DetectProperty.DETECT_DETECTOR_SEARCH_CONTINUE,
+        DetectProperty.DETECT_DETECTOR_SEARCH_EXCLUSION, DetectProperty.DETECT_DETECTOR_SEARCH_EXCLUSION_PATTERNS, DetectProperty.DETECT_DETECTOR_SEARCH_EXCLUSION_DEFAULTS,
+        DetectProperty.DETECT_DETECTOR_SEARCH_FOLLOW_SYMLINKS, DetectProperty.DETECT_EXCLUDED_DETECTOR_TYPES, DetectProperty.DETECT_INCLUDED_DETECTOR_TYPES,
+        DetectProperty.DETECT_BITBAKE_BUILD_ENV_NAME, DetectProperty.DETECT_BITBAKE_PACKAGE_NAMES, DetectProperty.DETECT_PIP_REQUIREMENTS_PATH);
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final DetectContext detectContext;
 
@@ -52,7 +78,7 @@ public class DetectorTool {
         this.detectContext = detectContext;
     }
 
-    public DetectorToolResult performDetectors(SearchOptions searchOptions, String projectBomTool) throws DetectUserFriendlyException {
+    public DetectorToolResult performDetectors(SearchOptions searchOptions, DetectorToolOptions detectorToolOptions, String projectBomTool) throws DetectUserFriendlyException {
         logger.info("Preparing to initialize detectors.");
         DetectorFactory detectorFactory = detectContext.getBean(DetectorFactory.class);
         EventSystem eventSystem = detectContext.getBean(EventSystem.class);
@@ -61,15 +87,35 @@ public class DetectorTool {
         DetectorSearchProvider detectorSearchProvider = new DetectorSearchProvider(detectorFactory);
         DetectorSearchEvaluator detectorSearchEvaluator = new DetectorSearchEvaluator();
 
-        SearchManager searchManager = new SearchManager(searchOptions, detectorSearchProvider, detectorSearchEvaluator, eventSystem);
-        PreparationManager preparationManager = new PreparationManager(eventSystem);
-        ExtractionManager extractionManager = new ExtractionManager();
+        Optional<SearchCacheStore> searchCacheStore = Optional.empty();
+        if (searchOptions.useSearchCache) {
+            searchCacheStore = Optional.of(createSearchCacheStore(searchOptions));
+        }
+
+        SearchManager searchManager = new SearchManager(searchOptions, detectorSearchProvider, detectorSearchEvaluator, eventSystem, searchCacheStore);
+        PreparationManager preparationManager = new PreparationManager(eventSystem, detectorToolOptions.preparationParallelism);
+        Optional<ExtractionTimingStore> extractionTimingStore = Optional.empty();
+        Optional<ExtractionTimings> extractionTimings = Optional.empty();
+        if (detectorToolOptions.useExtractionTimings) {
+            extractionTimingStore = Optional.of(new ExtractionTimingStore(detectContext.getBean(Gson.class), detectContext.getBean(DirectoryManager.class).getCacheOutputDirectory()));
+            extractionTimings = Optional.of(extractionTimingStore.get().load());
+        }
+        ExtractionManager extractionManager = new ExtractionManager(eventSystem, detectorToolOptions.extractionParallelism, detectorToolOptions.extractionTypeLimits, extractionTimings);
 
-        DetectorManager detectorManager = new DetectorManager(searchManager, extractionManager, preparationManager, eventSystem);
+        DetectorManager detectorManager = new DetectorManager(searchManager, extractionManager, preparationManager, eventSystem, detectorToolOptions);
         logger.info("Running detectors.");
         DetectorToolResult detectorToolResult = detectorManager.runDetectors();
         logger.info("Finished running detectors.");
+        List<DetectorTime> extractionTimes = new ArrayList<>();
+        EventListener<DetectorTimings> timingListener = timings -> extractionTimes.addAll(timings.getExtractionTimings());
+        eventSystem.registerListener(Event.DetectorsProfiled, timingListener);
         eventSystem.publishEvent(Event.DetectorsComplete, detectorToolResult);
+        eventSystem.unregisterListener(Event.DetectorsProfiled, timingListener);
+        eventSystem.flush();
+
+        if (extractionTimingStore.isPresent()) {
+            saveExtractionTimings(extractionTimingStore.get(), extractionTimings.get(), detectorToolResult.evaluatedDetectors, extractionTimes);
+        }
 
         logger.info("Evaluating detectors for project info.");
 
@@ -80,4 +126,34 @@ public class DetectorTool {
 
         return detectorToolResult;
     }
+
+    private void saveExtractionTimings(ExtractionTimingStore extractionTimingStore, ExtractionTimings extractionTimings, List<DetectorEvaluation> evaluations, List<DetectorTime> extractionTimes) {
+        Map<Detector, DetectorEvaluation> evaluationsByDetector = new IdentityHashMap<>();
+        evaluations.stream()
+            .filter(DetectorEvaluation::isExtractable)
+            .forEach(evaluation -> evaluationsByDetector.put(evaluation.getDetector(), evaluation));
+
+        for (DetectorTime extractionTime : extractionTimes) {
+            DetectorEvaluation evaluation = evaluationsByDetector.get(extractionTime.getDetector());
+            if (evaluation != null) {
+                extractionTimings.record(evaluation, extractionTime.getMs());
+            }
+        }
+        extractionTimings.retainDirectories(evaluations);
+        extractionTimingStore.save(extractionTimings);
+    }
+
+    private SearchCacheStore createSearchCacheStore(SearchOptions searchOptions) {
+        Gson gson = detectContext.getBean(Gson.class);
+        DirectoryManager directoryManager = detectContext.getBean(DirectoryManager.class);
+        DetectInfo detectInfo = detectContext.getBean(DetectInfo.class);
+        DetectConfiguration detectConfiguration = detectContext.getBean(DetectConfiguration.class);
+
+        Map<String, String> searchProperties = new HashMap<>();
+        for (DetectProperty property : SEARCH_CACHE_PROPERTIES) {
+            searchProperties.put(property.getPropertyKey(), detectConfiguration.getPropertyValueAsString(property, PropertyAuthority.None));
+        }
+        String configurationKey = SearchCacheStore.createConfigurationKey(detectInfo.getDetectVersion(), searchProperties);
+        return new SearchCacheStore(gson, directoryManager.getCacheOutputDirectory(), searchOptions.searchPath, configurationKey);
+    }
 }
@@ -0,0 +1,45 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.tool.detector;
+
+import java.util.Map;
+
+import com.synopsys.integration.detect.detector.DetectorType;
+
+public class DetectorToolOptions {
+    public final boolean pipelined;
+    public final int preparationParallelism;
+    public final int extractionParallelism;
+    public final Map<DetectorType, Integer> extractionTypeLimits;
+    public final boolean useExtractionTimings;
+
+    public DetectorToolOptions(final boolean pipelined, final int preparationParallelism, final int extractionParallelism, final Map<DetectorType, Integer> extractionTypeLimits,
+        final boolean useExtractionTimings) {
+        this.pipelined = pipelined;
+        this.preparationParallelism = preparationParallelism;
+        this.extractionParallelism = extractionParallelism;
+        this.extractionTypeLimits = extractionTypeLimits;
+        this.useExtractionTimings = useExtractionTimings;
+    }
+}
@@ -39,6 +39,7 @@ import com.synopsys.integration.detect.configuration.DetectProperty;
 import com.synopsys.integration.detect.configuration.PropertyAuthority;
 import com.synopsys.integration.detect.detector.DetectorException;
 import com.synopsys.integration.detect.exception.DetectUserFriendlyException;
+import com.synopsys.integration.detect.util.SingleFlight;
 import com.synopsys.integration.detect.workflow.ArtifactResolver;
 import com.synopsys.integration.detect.workflow.ArtifactoryConstants;
 import com.synopsys.integration.detect.workflow.file.AirGapManager;
@@ -60,8 +61,7 @@ public class DockerInspectorManager {
     private final DetectConfiguration detectConfiguration;
     private final ArtifactResolver artifactResolver;
 
-    private DockerInspectorInfo resolvedInfo;
-    private boolean hasResolvedInspector;
+    private final SingleFlight<DockerInspectorInfo> resolvedInfo = new SingleFlight<>();
 
     public DockerInspectorManager(final DirectoryManager directoryManager, AirGapManager airGapManager, final DetectFileFinder detectFileFinder,
         final DetectConfiguration detectConfiguration, final ArtifactResolver artifactResolver) {
@@ -74,11 +74,7 @@ public class DockerInspectorManager {
 
     public DockerInspectorInfo getDockerInspector() throws DetectorException {
         try {
-            if (!hasResolvedInspector) {
-                hasResolvedInspector = true;
-                resolvedInfo = install();
-            }
-            return resolvedInfo;
+            return resolvedInfo.resolve(this::install);
         } catch (final Exception e) {
             throw new DetectorException(e);
         }
@@ -0,0 +1,118 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.util;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+
+/**
+ * An ExternalIdFactory that hands out one shared ExternalId per set of coordinates, and one shared copy of each coordinate string, for the whole run. The
+ * same dependencies show up in every module and configuration of a build, so this keeps a single copy of each in memory, and graph lookups of a shared
+ * ExternalId find it by reference before ever calling equals. Safe to use from multiple threads. The returned ExternalIds are shared, so they must not be
+ * modified.
+ */
+public class InterningExternalIdFactory extends ExternalIdFactory {
+    private final ConcurrentMap<String, String> strings = new ConcurrentHashMap<>();
+    private final ConcurrentMap<ExternalIdKey, ExternalId> externalIds = new ConcurrentHashMap<>();
+
+    @Override
+    public ExternalId createMavenExternalId(final String group, final String name, final String version) {
+        final ExternalIdKey key = new ExternalIdKey(Forge.MAVEN, intern(group), intern(name), intern(version), null, null);
+        return externalIds.computeIfAbsent(key, it -> super.createMavenExternalId(it.group, it.name, it.version));
+    }
+
+    @Override
+    public ExternalId createNameVersionExternalId(final Forge forge, final String name, final String version) {
+        final ExternalIdKey key = new ExternalIdKey(forge, null, intern(name), intern(version), null, null);
+        return externalIds.computeIfAbsent(key, it -> super.createNameVersionExternalId(forge, it.name, it.version));
+    }
+
+    @Override
+    public ExternalId createArchitectureExternalId(final Forge forge, final String name, final String version, final String architecture) {
+        final ExternalIdKey key = new ExternalIdKey(forge, null, intern(name), intern(version), intern(architecture), null);
+        return externalIds.computeIfAbsent(key, it -> super.createArchitectureExternalId(forge, it.name, it.version, it.architecture));
+    }
+
+    @Override
+    public ExternalId createPathExternalId(final Forge forge, final String path) {
+        final ExternalIdKey key = new ExternalIdKey(forge, null, null, null, null, intern(path));
+        return externalIds.computeIfAbsent(key, it -> super.createPathExternalId(forge, it.path));
+    }
+
+    public String intern(final String text) {
+        if (text == null) {
+            return null;
+        }
+        final String existing = strings.putIfAbsent(text, text);
+        return existing == null ? text : existing;
+    }
+
+    public int getExternalIdCount() {
+        return externalIds.size();
+    }
+
+    // Holds every field an id is built from, so equal keys always build equal ids.
+    private static class ExternalIdKey {
+        private final Forge forge;
+        private final String group;
+        private final String name;
+        private final String version;
+        private final String architecture;
+        private final String path;
+        private final int hash;
+
+        private ExternalIdKey(final Forge forge, final String group, final String name, final String version, final String architecture, final String path) {
+            this.forge = forge;
+            this.group = group;
+            this.name = name;
+            this.version = version;
+            this.architecture = architecture;
+            this.path = path;
+            this.hash = Objects.hash(forge.getName(), group, name, version, architecture, path);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ExternalIdKey)) {
+                return false;
+            }
+            final ExternalIdKey other = (ExternalIdKey) obj;
+            return hash == other.hash && forge.equals(other.forge) && Objects.equals(group, other.group) && Objects.equals(name, other.name) && Objects.equals(version, other.version)
+                       && Objects.equals(architecture, other.architecture) && Objects.equals(path, other.path);
+        }
+    }
+}
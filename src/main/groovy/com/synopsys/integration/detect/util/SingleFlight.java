@@ -0,0 +1,58 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.util;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+ * Runs a resolution at most once no matter how many threads ask for it. The first caller runs the resolver, everyone else waits for and shares its result.
+ * A failed resolution is remembered and rethrown to every caller, it is not attempted again.
+ */
+public class SingleFlight<T> {
+    private final AtomicReference<FutureTask<T>> resolution = new AtomicReference<>();
+
+    public T resolve(final Callable<T> resolver) throws Exception {
+        final FutureTask<T> task = new FutureTask<>(resolver);
+        if (resolution.compareAndSet(null, task)) {
+            task.run();
+        }
+        try {
+            return resolution.get().get();
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw e;
+        }
+    }
+
+    public boolean hasResolved() {
+        final FutureTask<T> task = resolution.get();
+        return task != null && task.isDone();
+    }
+}
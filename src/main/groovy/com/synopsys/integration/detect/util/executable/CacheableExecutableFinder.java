@@ -66,7 +66,7 @@ public class CacheableExecutableFinder {
         this.detectConfiguration = detectConfiguration;
     }
 
-    public File getExecutable(final CacheableExecutableType executableType) throws DetectorException {
+    public synchronized File getExecutable(final CacheableExecutableType executableType) throws DetectorException {
         if (alreadyFound.containsKey(executableType)) {
             logger.debug("Already found executable, resolving with cached value.");
             return alreadyFound.get(executableType);
@@ -114,7 +114,7 @@ public class CacheableExecutableFinder {
         return null;
     }
 
-    protected boolean isAlreadyFound(final CacheableExecutableType executableType) {
+    protected synchronized boolean isAlreadyFound(final CacheableExecutableType executableType) {
         return alreadyFound.containsKey(executableType);
     }
 
@@ -25,6 +25,7 @@ package com.synopsys.integration.detect.util.executable;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -70,6 +71,16 @@ public class Executable {
         return processBuilder;
     }
 
+    public String getExecutableName() {
+        final String executableName = new File(executablePath).getName().toLowerCase();
+        for (final String extension : Arrays.asList(".exe", ".cmd", ".bat")) {
+            if (executableName.endsWith(extension)) {
+                return executableName.substring(0, executableName.length() - extension.length());
+            }
+        }
+        return executableName;
+    }
+
     public String getMaskedExecutableDescription() {
         final List<String> arguments = new ArrayList<>();
         for (final String argument : createProcessBuilderArguments()) {
@@ -89,7 +89,7 @@ public class ExecutableFinder {
         return executableFile;
     }
 
-    private File findExecutableFileFromSystemPath(final String executable) {
+    private synchronized File findExecutableFileFromSystemPath(final String executable) {
         final String systemPath = System.getenv("PATH");
         if (!cachedSystemExecutables.containsKey(executable)) {
             cachedSystemExecutables.put(executable, findExecutableFileFromPath(systemPath, executable));
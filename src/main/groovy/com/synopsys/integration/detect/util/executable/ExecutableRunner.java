@@ -26,14 +26,29 @@ package com.synopsys.integration.detect.util.executable;
 import java.io.File;
 import java.io.InputStream;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class ExecutableRunner {
+    private static final long KILLED_STREAM_WAIT_IN_MILLISECONDS = 5000;
+
     private final Logger logger = LoggerFactory.getLogger(ExecutableRunner.class);
+    private final ExecutableRunnerOptions executableRunnerOptions;
+    private final ProcessTreeKiller processTreeKiller = new ProcessTreeKiller();
+
+    public ExecutableRunner() {
+        this(new ExecutableRunnerOptions(0, Collections.emptyMap()));
+    }
+
+    public ExecutableRunner(final ExecutableRunnerOptions executableRunnerOptions) {
+        this.executableRunnerOptions = executableRunnerOptions;
+    }
 
     public ExecutableOutput execute(File workingDirectory, final String exePath, final String... args) throws ExecutableRunnerException {
         final Executable exe = new Executable(workingDirectory, exePath, Arrays.asList(args));
@@ -73,34 +88,70 @@ public class ExecutableRunner {
         return runExecutable(executable, logger::debug, logger::trace);
     }
 
+    /**
+     * Hands every standard output line to the consumer as it is read instead of collecting it, so large outputs can be parsed with bounded memory. The
+     * consumer is called from a single stream thread and the standard output of the returned output is empty.
+     */
+    public ExecutableOutput execute(final Executable executable, final Consumer<String> standardOutputConsumer) throws ExecutableRunnerException {
+        return runExecutable(executable, logger::info, logger::trace, standardOutputConsumer);
+    }
+
     public ExecutableOutput runExecutable(final Executable executable, final Consumer<String> standardLoggingMethod, final Consumer<String> traceLoggingMethod) throws ExecutableRunnerException {
+        return runExecutable(executable, standardLoggingMethod, traceLoggingMethod, null);
+    }
+
+    private ExecutableOutput runExecutable(final Executable executable, final Consumer<String> standardLoggingMethod, final Consumer<String> traceLoggingMethod, final Consumer<String> standardOutputConsumer)
+        throws ExecutableRunnerException {
         standardLoggingMethod.accept(String.format("Running executable >%s", executable.getMaskedExecutableDescription()));
         try {
             final ProcessBuilder processBuilder = executable.createProcessBuilder();
             final Process process = processBuilder.start();
 
             try (InputStream standardOutputStream = process.getInputStream(); InputStream standardErrorStream = process.getErrorStream()) {
-                final ExecutableStreamThread standardOutputThread = new ExecutableStreamThread(standardOutputStream, standardLoggingMethod, traceLoggingMethod);
+                final ExecutableStreamThread standardOutputThread = new ExecutableStreamThread(standardOutputStream, standardLoggingMethod, traceLoggingMethod, standardOutputConsumer);
                 standardOutputThread.start();
 
                 final ExecutableStreamThread errorOutputThread = new ExecutableStreamThread(standardErrorStream, standardLoggingMethod, traceLoggingMethod);
                 errorOutputThread.start();
 
+                final long timeoutInSeconds = findTimeoutInSeconds(executable);
+                if (timeoutInSeconds > 0 && !process.waitFor(timeoutInSeconds, TimeUnit.SECONDS)) {
+                    logger.warn(String.format("Executable did not finish within %d seconds, killing it and its child processes: %s", timeoutInSeconds, executable.getMaskedExecutableDescription()));
+                    processTreeKiller.killTree(process);
+                    standardOutputThread.join(KILLED_STREAM_WAIT_IN_MILLISECONDS);
+                    errorOutputThread.join(KILLED_STREAM_WAIT_IN_MILLISECONDS);
+                    // Where child processes survive the kill (java 8) they still hold the pipes, so the streams are closed and the output read so far is used.
+                    standardOutputStream.close();
+                    standardErrorStream.close();
+                    final ExecutableOutput partialOutput = new ExecutableOutput(-1, StringUtils.trimToEmpty(standardOutputThread.getExecutableOutput()), StringUtils.trimToEmpty(errorOutputThread.getExecutableOutput()));
+                    throw new ExecutableTimeoutException(executable.getMaskedExecutableDescription(), timeoutInSeconds, partialOutput);
+                }
+
                 final int returnCode = process.waitFor();
                 standardLoggingMethod.accept("Executable finished: " + returnCode);
 
                 standardOutputThread.join();
                 errorOutputThread.join();
 
+                if (standardOutputThread.getConsumerFailure().isPresent()) {
+                    throw new ExecutableRunnerException(standardOutputThread.getConsumerFailure().get());
+                }
+
                 final String standardOutput = standardOutputThread.getExecutableOutput().trim();
                 final String errorOutput = errorOutputThread.getExecutableOutput().trim();
 
                 final ExecutableOutput output = new ExecutableOutput(returnCode, standardOutput, errorOutput);
                 return output;
             }
+        } catch (final ExecutableRunnerException e) {
+            throw e;
         } catch (final Exception e) {
             throw new ExecutableRunnerException(e);
         }
     }
 
+    private long findTimeoutInSeconds(final Executable executable) {
+        return executableRunnerOptions.timeoutOverridesInSeconds.getOrDefault(executable.getExecutableName(), executableRunnerOptions.defaultTimeoutInSeconds);
+    }
+
 }
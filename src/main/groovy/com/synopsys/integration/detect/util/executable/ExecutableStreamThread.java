@@ -28,20 +28,38 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Consumer;
 
+import org.slf4j.MDC;
+
 public class ExecutableStreamThread extends Thread {
     private final BufferedReader bufferedReader;
     private final StringBuilder stringBuilder;
     private final Consumer<String> outputLoggingMethod;
     private final Consumer<String> traceLoggingMethod;
+    private final Consumer<String> lineConsumer;
+    private final Map<String, String> diagnosticContext;
 
-    private String executableOutput;
+    private volatile RuntimeException consumerFailure;
 
     public ExecutableStreamThread(final InputStream executableStream, final Consumer<String> outputLoggingMethod, final Consumer<String> traceLoggingMethod) {
+        this(executableStream, outputLoggingMethod, traceLoggingMethod, null);
+    }
+
+    /**
+     * When a line consumer is given every line is handed to it as it is read and nothing is kept, so the executable output will be empty.
+     */
+    public ExecutableStreamThread(final InputStream executableStream, final Consumer<String> outputLoggingMethod, final Consumer<String> traceLoggingMethod, final Consumer<String> lineConsumer) {
         super(Thread.currentThread().getName() + "-Executable_Stream_Thread");
+        // A killed executable can leave child processes holding the stream open, which must not keep detect from exiting.
+        setDaemon(true);
         this.outputLoggingMethod = outputLoggingMethod;
         this.traceLoggingMethod = traceLoggingMethod;
+        this.lineConsumer = lineConsumer;
+        // The output is logged from this thread, so it keeps the context (such as the extraction id) of the thread that ran the executable.
+        this.diagnosticContext = MDC.getCopyOfContextMap();
         final InputStreamReader reader = new InputStreamReader(executableStream, StandardCharsets.UTF_8);
         this.bufferedReader = new BufferedReader(reader);
         this.stringBuilder = new StringBuilder();
@@ -49,22 +67,54 @@ public class ExecutableStreamThread extends Thread {
 
     @Override
     public void run() {
+        if (diagnosticContext != null) {
+            MDC.setContextMap(diagnosticContext);
+        }
         try {
             String line;
             final String separator = System.lineSeparator();
             while ((line = bufferedReader.readLine()) != null) {
-                stringBuilder.append(line + separator);
+                if (lineConsumer != null) {
+                    lineConsumer.accept(line);
+                } else {
+                    synchronized (stringBuilder) {
+                        stringBuilder.append(line).append(separator);
+                    }
+                }
                 outputLoggingMethod.accept(line);
             }
         } catch (final IOException e) {
             // Ignore
             traceLoggingMethod.accept(e.toString());
+        } catch (final RuntimeException e) {
+            // A failing consumer must not leave the process blocked on a full pipe, so the rest of the stream is drained.
+            traceLoggingMethod.accept(e.toString());
+            consumerFailure = e;
+            drain();
         }
-        this.executableOutput = stringBuilder.toString();
     }
 
+    /**
+     * The output read so far, this can be called while the thread is still running to get the partial output of an executable that was killed.
+     */
     public String getExecutableOutput() {
-        return executableOutput;
+        synchronized (stringBuilder) {
+            return stringBuilder.toString();
+        }
+    }
+
+    public Optional<RuntimeException> getConsumerFailure() {
+        return Optional.ofNullable(consumerFailure);
+    }
+
+    private void drain() {
+        try {
+            while (bufferedReader.readLine() != null) {
+                // Discarded, the consumer has already failed.
+            }
+        } catch (final IOException e) {
+            traceLoggingMethod.accept(e.toString());
+        }
     }
 
 }
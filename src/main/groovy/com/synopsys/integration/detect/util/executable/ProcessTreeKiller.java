@@ -0,0 +1,58 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.util.executable;
+
+import java.lang.reflect.Method;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class ProcessTreeKiller {
+    private final Logger logger = LoggerFactory.getLogger(ProcessTreeKiller.class);
+
+    // Build tools are usually wrapper scripts that start the real work in a child process, so killing only the direct process would leave it running.
+    // Detect is built for Java 8, so the Java 9 ProcessHandle api is looked up at runtime. On Java 8 only the direct process can be killed.
+    public void killTree(final Process process) {
+        try {
+            final Class<?> processHandleClass = Class.forName("java.lang.ProcessHandle");
+            final Method toHandle = Process.class.getMethod("toHandle");
+            final Method descendants = processHandleClass.getMethod("descendants");
+            final Method destroyForcibly = processHandleClass.getMethod("destroyForcibly");
+
+            final Object processHandle = toHandle.invoke(process);
+            final Stream<?> descendantHandles = (Stream<?>) descendants.invoke(processHandle);
+            final Iterator<?> descendantIterator = descendantHandles.iterator();
+            while (descendantIterator.hasNext()) {
+                destroyForcibly.invoke(descendantIterator.next());
+            }
+        } catch (final ClassNotFoundException | NoSuchMethodException e) {
+            logger.debug("Unable to find the child processes of the executable on this version of java, only the executable itself will be killed.");
+        } catch (final Exception e) {
+            logger.debug("Unable to kill the child processes of the executable: " + e.getMessage());
+        }
+        process.destroyForcibly();
+    }
+}
@@ -37,11 +37,11 @@ import com.synopsys.integration.detect.configuration.DetectProperty;
 import com.synopsys.integration.detect.configuration.PropertyAuthority;
 import com.synopsys.integration.detect.exception.DetectUserFriendlyException;
 import com.synopsys.integration.detect.workflow.codelocation.CodeLocationNameManager;
+import com.synopsys.integration.detect.workflow.codelocation.CompactDependencyGraph;
 import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocation;
 import com.synopsys.integration.detect.workflow.codelocation.FileNameUtils;
 import com.synopsys.integration.bdio.SimpleBdioFactory;
 import com.synopsys.integration.bdio.graph.DependencyGraph;
-import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
 import com.synopsys.integration.bdio.model.Forge;
 import com.synopsys.integration.bdio.model.SimpleBdioDocument;
 import com.synopsys.integration.bdio.model.dependency.Dependency;
@@ -89,15 +89,16 @@ public class AggregateBdioCreator {
     }
 
     private DependencyGraph createAggregateDependencyGraph(File sourcePath, final List<DetectCodeLocation> codeLocations) {
-        final MutableDependencyGraph aggregateDependencyGraph = simpleBdioFactory.createMutableDependencyGraph();
+        // Merged by id rather than copied into a map based graph, the bdio components are only created from it as the document is written.
+        final CompactDependencyGraph.Builder aggregateDependencyGraph = new CompactDependencyGraph.Builder();
 
         for (final DetectCodeLocation detectCodeLocation : codeLocations) {
             final Dependency codeLocationDependency = createAggregateDependency(sourcePath, detectCodeLocation);
-            aggregateDependencyGraph.addChildrenToRoot(codeLocationDependency);
+            aggregateDependencyGraph.addChildToRoot(codeLocationDependency);
             aggregateDependencyGraph.addGraphAsChildrenToParent(codeLocationDependency, detectCodeLocation.getDependencyGraph());
         }
 
-        return aggregateDependencyGraph;
+        return aggregateDependencyGraph.build();
     }
 
     private Dependency createAggregateDependency(File sourcePath, final DetectCodeLocation codeLocation) {
@@ -0,0 +1,366 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.codelocation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+
+/**
+ * A read only dependency graph that gives every unique dependency an int id and keeps the relationships in int arrays. The children of dependency i are
+ * children[childOffsets[i]] up to children[childOffsets[i + 1]], so a relationship costs four bytes instead of the map and set entries of a
+ * MutableMapDependencyGraph. As in MutableMapDependencyGraph, dependencies are identified by their external id.
+ */
+public class CompactDependencyGraph implements DependencyGraph {
+    private final Dependency[] dependencies;
+    private final Map<ExternalId, Integer> ids;
+    private final int[] roots;
+    private final int[] childOffsets;
+    private final int[] children;
+    private ParentIndex parentIndex;
+
+    private CompactDependencyGraph(final Dependency[] dependencies, final Map<ExternalId, Integer> ids, final int[] roots, final int[] childOffsets, final int[] children) {
+        this.dependencies = dependencies;
+        this.ids = ids;
+        this.roots = roots;
+        this.childOffsets = childOffsets;
+        this.children = children;
+    }
+
+    public static CompactDependencyGraph compact(final DependencyGraph dependencyGraph) {
+        if (dependencyGraph instanceof CompactDependencyGraph) {
+            return (CompactDependencyGraph) dependencyGraph;
+        }
+        return new Builder().addGraphAsChildrenToRoot(dependencyGraph).build();
+    }
+
+    public int getDependencyCount() {
+        return dependencies.length;
+    }
+
+    public int getRelationshipCount() {
+        return children.length;
+    }
+
+    @Override
+    public Set<Dependency> getRootDependencies() {
+        return toDependencies(roots, 0, roots.length);
+    }
+
+    @Override
+    public Set<ExternalId> getRootDependencyExternalIds() {
+        return toExternalIds(roots, 0, roots.length);
+    }
+
+    @Override
+    public boolean hasDependency(final ExternalId dependency) {
+        return ids.containsKey(dependency);
+    }
+
+    @Override
+    public boolean hasDependency(final Dependency dependency) {
+        return hasDependency(dependency.externalId);
+    }
+
+    @Override
+    public Dependency getDependency(final ExternalId dependency) {
+        final int id = findId(dependency);
+        return id < 0 ? null : dependencies[id];
+    }
+
+    @Override
+    public Set<Dependency> getChildrenForParent(final ExternalId parent) {
+        final int id = findId(parent);
+        return id < 0 ? new HashSet<>() : toDependencies(children, childOffsets[id], childOffsets[id + 1]);
+    }
+
+    @Override
+    public Set<Dependency> getChildrenForParent(final Dependency parent) {
+        return getChildrenForParent(parent.externalId);
+    }
+
+    @Override
+    public Set<ExternalId> getChildrenExternalIdsForParent(final ExternalId parent) {
+        final int id = findId(parent);
+        return id < 0 ? new HashSet<>() : toExternalIds(children, childOffsets[id], childOffsets[id + 1]);
+    }
+
+    @Override
+    public Set<ExternalId> getChildrenExternalIdsForParent(final Dependency parent) {
+        return getChildrenExternalIdsForParent(parent.externalId);
+    }
+
+    @Override
+    public Set<Dependency> getParentsForChild(final ExternalId child) {
+        final int id = findId(child);
+        if (id < 0) {
+            return new HashSet<>();
+        }
+        final ParentIndex index = getParentIndex();
+        return toDependencies(index.parents, index.parentOffsets[id], index.parentOffsets[id + 1]);
+    }
+
+    @Override
+    public Set<Dependency> getParentsForChild(final Dependency child) {
+        return getParentsForChild(child.externalId);
+    }
+
+    @Override
+    public Set<ExternalId> getParentExternalIdsForChild(final ExternalId child) {
+        final int id = findId(child);
+        if (id < 0) {
+            return new HashSet<>();
+        }
+        final ParentIndex index = getParentIndex();
+        return toExternalIds(index.parents, index.parentOffsets[id], index.parentOffsets[id + 1]);
+    }
+
+    @Override
+    public Set<ExternalId> getParentExternalIdsForChild(final Dependency child) {
+        return getParentExternalIdsForChild(child.externalId);
+    }
+
+    private int findId(final ExternalId externalId) {
+        final Integer id = ids.get(externalId);
+        return id == null ? -1 : id;
+    }
+
+    private Set<Dependency> toDependencies(final int[] source, final int start, final int end) {
+        final Set<Dependency> found = new LinkedHashSet<>(capacityFor(end - start));
+        for (int i = start; i < end; i++) {
+            found.add(dependencies[source[i]]);
+        }
+        return found;
+    }
+
+    private Set<ExternalId> toExternalIds(final int[] source, final int start, final int end) {
+        final Set<ExternalId> found = new LinkedHashSet<>(capacityFor(end - start));
+        for (int i = start; i < end; i++) {
+            found.add(dependencies[source[i]].externalId);
+        }
+        return found;
+    }
+
+    private static int capacityFor(final int size) {
+        return Math.max(16, (int) (size / 0.75f) + 1);
+    }
+
+    // Nothing written by detect asks for parents, so the reverse index is only built, once, when something does.
+    private synchronized ParentIndex getParentIndex() {
+        if (parentIndex == null) {
+            final int[] parentOffsets = new int[dependencies.length + 1];
+            for (final int child : children) {
+                parentOffsets[child + 1]++;
+            }
+            for (int i = 0; i < dependencies.length; i++) {
+                parentOffsets[i + 1] += parentOffsets[i];
+            }
+            final int[] parents = new int[children.length];
+            final int[] next = Arrays.copyOf(parentOffsets, dependencies.length);
+            for (int parent = 0; parent < dependencies.length; parent++) {
+                for (int i = childOffsets[parent]; i < childOffsets[parent + 1]; i++) {
+                    parents[next[children[i]]++] = parent;
+                }
+            }
+            parentIndex = new ParentIndex(parentOffsets, parents);
+        }
+        return parentIndex;
+    }
+
+    private static class ParentIndex {
+        private final int[] parentOffsets;
+        private final int[] parents;
+
+        public ParentIndex(final int[] parentOffsets, final int[] parents) {
+            this.parentOffsets = parentOffsets;
+            this.parents = parents;
+        }
+    }
+
+    /**
+     * Collects dependencies and relationships as pairs of ids and sorts them into a CompactDependencyGraph once. Repeated relationships are dropped when
+     * the graph is built. A builder builds a single graph.
+     */
+    public static class Builder {
+        private final Map<ExternalId, Integer> ids = new HashMap<>();
+        private final List<Dependency> dependencies = new ArrayList<>();
+        private int[] roots = new int[16];
+        private int rootCount = 0;
+        private int[] relationshipParents = new int[64];
+        private int[] relationshipChildren = new int[64];
+        private int relationshipCount = 0;
+
+        public Builder addChildToRoot(final Dependency child) {
+            addRoot(addDependency(child));
+            return this;
+        }
+
+        public Builder addParentWithChild(final Dependency parent, final Dependency child) {
+            addRelationship(addDependency(parent), addDependency(child));
+            return this;
+        }
+
+        public Builder addGraphAsChildrenToRoot(final DependencyGraph sourceGraph) {
+            for (final int root : addGraph(sourceGraph)) {
+                addRoot(root);
+            }
+            return this;
+        }
+
+        public Builder addGraphAsChildrenToParent(final Dependency parent, final DependencyGraph sourceGraph) {
+            final int parentId = addDependency(parent);
+            for (final int root : addGraph(sourceGraph)) {
+                addRelationship(parentId, root);
+            }
+            return this;
+        }
+
+        public CompactDependencyGraph build() {
+            final int dependencyCount = dependencies.size();
+            final int[] childOffsets = new int[dependencyCount + 1];
+            for (int i = 0; i < relationshipCount; i++) {
+                childOffsets[relationshipParents[i] + 1]++;
+            }
+            for (int i = 0; i < dependencyCount; i++) {
+                childOffsets[i + 1] += childOffsets[i];
+            }
+            final int[] children = new int[relationshipCount];
+            final int[] next = Arrays.copyOf(childOffsets, dependencyCount);
+            for (int i = 0; i < relationshipCount; i++) {
+                children[next[relationshipParents[i]]++] = relationshipChildren[i];
+            }
+
+            // Each range only ever moves down, so the distinct children can be packed in place.
+            int size = 0;
+            for (int parent = 0; parent < dependencyCount; parent++) {
+                final int start = childOffsets[parent];
+                final int end = childOffsets[parent + 1];
+                childOffsets[parent] = size;
+                size = sortDistinct(children, start, end, size);
+            }
+            childOffsets[dependencyCount] = size;
+
+            final int rootSize = sortDistinct(roots, 0, rootCount, 0);
+            final Dependency[] dependencyArray = dependencies.toArray(new Dependency[dependencyCount]);
+            return new CompactDependencyGraph(dependencyArray, ids, Arrays.copyOf(roots, rootSize), childOffsets, Arrays.copyOf(children, size));
+        }
+
+        private int addDependency(final Dependency dependency) {
+            final Integer existing = ids.get(dependency.externalId);
+            if (existing != null) {
+                return existing;
+            }
+            final int id = dependencies.size();
+            ids.put(dependency.externalId, id);
+            dependencies.add(dependency);
+            return id;
+        }
+
+        private void addRoot(final int id) {
+            if (rootCount == roots.length) {
+                roots = Arrays.copyOf(roots, rootCount * 2);
+            }
+            roots[rootCount++] = id;
+        }
+
+        private void addRelationship(final int parent, final int child) {
+            if (relationshipCount == relationshipParents.length) {
+                relationshipParents = Arrays.copyOf(relationshipParents, relationshipCount * 2);
+                relationshipChildren = Arrays.copyOf(relationshipChildren, relationshipCount * 2);
+            }
+            relationshipParents[relationshipCount] = parent;
+            relationshipChildren[relationshipCount] = child;
+            relationshipCount++;
+        }
+
+        // Copies every relationship reachable from the roots of the source graph and returns the ids of those roots.
+        private int[] addGraph(final DependencyGraph sourceGraph) {
+            if (sourceGraph instanceof CompactDependencyGraph) {
+                return addCompactGraph((CompactDependencyGraph) sourceGraph);
+            }
+
+            final Set<Dependency> sourceRoots = sourceGraph.getRootDependencies();
+            final int[] rootIds = new int[sourceRoots.size()];
+            final Set<ExternalId> visited = new HashSet<>();
+            final Deque<Dependency> toVisit = new ArrayDeque<>();
+            int rootIndex = 0;
+            for (final Dependency root : sourceRoots) {
+                rootIds[rootIndex++] = addDependency(root);
+                toVisit.push(root);
+            }
+            while (!toVisit.isEmpty()) {
+                final Dependency parent = toVisit.pop();
+                if (!visited.add(parent.externalId)) {
+                    continue;
+                }
+                final int parentId = addDependency(parent);
+                for (final Dependency child : sourceGraph.getChildrenForParent(parent)) {
+                    addRelationship(parentId, addDependency(child));
+                    toVisit.push(child);
+                }
+            }
+            return rootIds;
+        }
+
+        private int[] addCompactGraph(final CompactDependencyGraph sourceGraph) {
+            final int[] translatedIds = new int[sourceGraph.dependencies.length];
+            for (int i = 0; i < translatedIds.length; i++) {
+                translatedIds[i] = addDependency(sourceGraph.dependencies[i]);
+            }
+            for (int parent = 0; parent < translatedIds.length; parent++) {
+                for (int i = sourceGraph.childOffsets[parent]; i < sourceGraph.childOffsets[parent + 1]; i++) {
+                    addRelationship(translatedIds[parent], translatedIds[sourceGraph.children[i]]);
+                }
+            }
+            final int[] rootIds = new int[sourceGraph.roots.length];
+            for (int i = 0; i < rootIds.length; i++) {
+                rootIds[i] = translatedIds[sourceGraph.roots[i]];
+            }
+            return rootIds;
+        }
+
+        // Sorts values[start, end) and writes its distinct values from destination, which is never past start, returning the new end.
+        private static int sortDistinct(final int[] values, final int start, final int end, final int destination) {
+            Arrays.sort(values, start, end);
+            int size = destination;
+            for (int i = start; i < end; i++) {
+                if (size == destination || values[size - 1] != values[i]) {
+                    values[size++] = values[i];
+                }
+            }
+            return size;
+        }
+    }
+}
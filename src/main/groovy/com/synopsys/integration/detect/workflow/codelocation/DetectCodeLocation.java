@@ -85,4 +85,14 @@ public class DetectCodeLocation {
         return dependencyGraph;
     }
 
+    /**
+     * Returns this code location with its graph held as a CompactDependencyGraph, which is much smaller to keep around until the bdio is written.
+     */
+    public DetectCodeLocation compact() {
+        if (dependencyGraph == null || dependencyGraph instanceof CompactDependencyGraph) {
+            return this;
+        }
+        return new Builder(codeLocationType, sourcePath, externalId, CompactDependencyGraph.compact(dependencyGraph)).dockerImage(dockerImage).build();
+    }
+
 }
@@ -27,9 +27,22 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.synopsys.integration.detect.detector.DetectorType;
 import com.synopsys.integration.detect.exception.DetectUserFriendlyException;
+import com.synopsys.integration.detect.exitcode.ExitCodeType;
+import com.synopsys.integration.detect.tool.detector.DetectorToolOptions;
 import com.synopsys.integration.detect.tool.detector.DetectorToolResult;
 import com.synopsys.integration.detect.workflow.event.Event;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
@@ -44,34 +57,55 @@ import com.synopsys.integration.detect.workflow.status.DetectorStatus;
 import com.synopsys.integration.detect.workflow.status.StatusType;
 
 public class DetectorManager {
+    // The most evaluations the search may hand to preparation, and preparation to extraction, before extraction has taken them.
+    private static final int PIPELINE_CAPACITY = 100;
+
+    private final Logger logger = LoggerFactory.getLogger(DetectorManager.class);
 
     SearchManager searchManager;
     PreparationManager preparationManager;
     ExtractionManager extractionManager;
     EventSystem eventSystem;
+    DetectorToolOptions detectorToolOptions;
 
-    public DetectorManager(SearchManager searchManager, ExtractionManager extractionManager, PreparationManager preparationManager, EventSystem eventSystem) {
+    public DetectorManager(SearchManager searchManager, ExtractionManager extractionManager, PreparationManager preparationManager, EventSystem eventSystem, DetectorToolOptions detectorToolOptions) {
         this.searchManager = searchManager;
         this.extractionManager = extractionManager;
         this.preparationManager = preparationManager;
         this.eventSystem = eventSystem;
+        this.detectorToolOptions = detectorToolOptions;
     }
 
     public DetectorToolResult runDetectors() throws DetectUserFriendlyException {
         List<DetectorEvaluation> detectorEvaluations = new ArrayList<>();
 
-        //search
-        SearchResult searchResult = searchManager.performSearch();
-        eventSystem.publishEvent(Event.SearchCompleted, searchResult);
-        detectorEvaluations.addAll(searchResult.getDetectorEvaluations());
+        final SearchResult searchResult;
+        final PreparationResult preparationResult;
+        final ExtractionResult extractionResult;
+        if (detectorToolOptions.pipelined) {
+            searchResult = searchPreparingAndExtracting();
+            eventSystem.publishEvent(Event.SearchCompleted, searchResult);
+            detectorEvaluations.addAll(searchResult.getDetectorEvaluations());
+
+            preparationResult = preparationManager.createPreparationResult(detectorEvaluations);
+            eventSystem.publishEvent(Event.PreparationsCompleted, preparationResult);
 
-        //prepare
-        PreparationResult preparationResult = preparationManager.prepareExtractions(detectorEvaluations);
-        eventSystem.publishEvent(Event.PreparationsCompleted, preparationResult);
+            extractionResult = extractionManager.createExtractionResult(detectorEvaluations);
+            eventSystem.publishEvent(Event.ExtractionsCompleted, extractionResult);
+        } else {
+            //search
+            searchResult = searchManager.performSearch();
+            eventSystem.publishEvent(Event.SearchCompleted, searchResult);
+            detectorEvaluations.addAll(searchResult.getDetectorEvaluations());
 
-        //extract
-        ExtractionResult extractionResult = extractionManager.performExtractions(detectorEvaluations);
-        eventSystem.publishEvent(Event.ExtractionsCompleted, extractionResult);
+            //prepare
+            preparationResult = preparationManager.prepareExtractions(detectorEvaluations);
+            eventSystem.publishEvent(Event.PreparationsCompleted, preparationResult);
+
+            //extract
+            extractionResult = extractionManager.performExtractions(detectorEvaluations);
+            eventSystem.publishEvent(Event.ExtractionsCompleted, extractionResult);
+        }
 
         //create results
         DetectorToolResult detectorToolResult = new DetectorToolResult();
@@ -94,4 +128,71 @@ public class DetectorManager {
 
         return detectorToolResult;
     }
+
+    /**
+     * Searches on a separate thread and starts preparing every applicable evaluation on the preparation threads as soon as its directory has been searched. Prepared
+     * evaluations are handed to extraction in search order while the search continues, so extraction indexes match the sequential order unless the search itself is parallel.
+     * The search waits once PIPELINE_CAPACITY evaluations are being prepared or waiting for extraction to take them.
+     */
+    private SearchResult searchPreparingAndExtracting() throws DetectUserFriendlyException {
+        final BlockingQueue<Optional<Future<DetectorEvaluation>>> preparations = new LinkedBlockingQueue<>();
+        final Semaphore preparationPermits = new Semaphore(PIPELINE_CAPACITY);
+        final ExecutorService searchExecutor = Executors.newSingleThreadExecutor();
+        final ExecutorService preparationExecutor = Executors.newFixedThreadPool(Math.max(1, detectorToolOptions.preparationParallelism));
+        try {
+            final Future<SearchResult> searchFuture = searchExecutor.submit(() -> {
+                try {
+                    return searchManager.performSearch(evaluations -> evaluations.stream()
+                                                                          .filter(it -> it.isApplicable())
+                                                                          .forEach(it -> {
+                                                                              acquirePreparationPermit(preparationPermits);
+                                                                              preparations.add(Optional.of(preparationExecutor.submit(() -> {
+                                                                                  preparationManager.prepare(it);
+                                                                                  return it;
+                                                                              })));
+                                                                          }));
+                } finally {
+                    preparations.add(Optional.empty());
+                }
+            });
+
+            extractionManager.performExtractions(() -> takeNextExtractable(preparations, preparationPermits), PIPELINE_CAPACITY);
+
+            return searchFuture.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DetectUserFriendlyException("The detector pipeline was interrupted.", e, ExitCodeType.FAILURE_GENERAL_ERROR);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof DetectUserFriendlyException) {
+                throw (DetectUserFriendlyException) e.getCause();
+            }
+            throw new DetectUserFriendlyException("The detector search failed: " + e.getCause().getMessage(), e.getCause(), ExitCodeType.FAILURE_GENERAL_ERROR);
+        } finally {
+            searchExecutor.shutdownNow();
+            preparationExecutor.shutdownNow();
+        }
+    }
+
+    private void acquirePreparationPermit(final Semaphore preparationPermits) {
+        try {
+            preparationPermits.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for detector extractions to catch up with the search.", e);
+        }
+    }
+
+    private Optional<DetectorEvaluation> takeNextExtractable(final BlockingQueue<Optional<Future<DetectorEvaluation>>> preparations, final Semaphore preparationPermits)
+        throws InterruptedException, ExecutionException {
+        Optional<Future<DetectorEvaluation>> next = preparations.take();
+        while (next.isPresent()) {
+            final DetectorEvaluation detectorEvaluation = next.get().get();
+            preparationPermits.release();
+            if (detectorEvaluation.isExtractable()) {
+                return Optional.of(detectorEvaluation);
+            }
+            next = preparations.take();
+        }
+        return Optional.empty();
+    }
 }
@@ -23,10 +23,13 @@
  */
 package com.synopsys.integration.detect.workflow.event;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,30 +37,79 @@ import org.slf4j.LoggerFactory;
 public class EventSystem {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
-    Map<EventType, List<EventListener>> eventListenerMap = new HashMap<>();
+    Map<EventType, List<EventListener>> eventListenerMap = new ConcurrentHashMap<>();
+    Map<EventType, List<EventListener>> asyncEventListenerMap = new ConcurrentHashMap<>();
+
+    // Async listeners share one dispatcher thread so they see events in the order they were published.
+    private ExecutorService asyncDispatcher = null;
 
     public <T> void publishEvent(EventType<T> event, T payload) {
-        for (EventListener listener : safelyGetListeners(event)) {
+        for (EventListener listener : safelyGetListeners(eventListenerMap, event)) {
             listener.eventOccured(payload);
         }
+
+        final List<EventListener> asyncListeners = safelyGetListeners(asyncEventListenerMap, event);
+        if (!asyncListeners.isEmpty()) {
+            getAsyncDispatcher().submit(() -> {
+                for (EventListener listener : asyncListeners) {
+                    try {
+                        listener.eventOccured(payload);
+                    } catch (final Exception e) {
+                        logger.error("An event listener failed.", e);
+                    }
+                }
+            });
+        }
     }
 
     public <T> void registerListener(EventType<T> event, EventListener<T> listener) {
-        safelyGetListeners(event).add(listener);
+        safelyGetListeners(eventListenerMap, event).add(listener);
+    }
+
+    /*
+     * Async listeners are delivered events off the publishing thread. Use this for slow listeners, such as ones writing reports, and call flush before relying on what they have seen.
+     */
+    public <T> void registerAsyncListener(EventType<T> event, EventListener<T> listener) {
+        safelyGetListeners(asyncEventListenerMap, event).add(listener);
     }
 
     public <T> void unregisterListener(EventType<T> event, EventListener<T> listener) {
-        safelyGetListeners(event).remove(listener);
+        safelyGetListeners(eventListenerMap, event).remove(listener);
+        safelyGetListeners(asyncEventListenerMap, event).remove(listener);
+    }
+
+    // Waits until every event published so far has been delivered to the async listeners.
+    public void flush() {
+        final ExecutorService dispatcher;
+        synchronized (this) {
+            dispatcher = asyncDispatcher;
+        }
+        if (dispatcher == null) {
+            return;
+        }
+        try {
+            dispatcher.submit(() -> {
+            }).get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while waiting for event listeners to finish.");
+        } catch (final ExecutionException e) {
+            logger.error("Failed waiting for event listeners to finish.", e);
+        }
     }
 
-    private List<EventListener> safelyGetListeners(EventType event) {
-        List<EventListener> listeners;
-        if (eventListenerMap.containsKey(event)) {
-            listeners = eventListenerMap.get(event);
-        } else {
-            listeners = new ArrayList<>();
-            eventListenerMap.put(event, listeners);
+    private synchronized ExecutorService getAsyncDispatcher() {
+        if (asyncDispatcher == null) {
+            asyncDispatcher = Executors.newSingleThreadExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "Detect-Event-Dispatcher");
+                thread.setDaemon(true);
+                return thread;
+            });
         }
-        return listeners;
+        return asyncDispatcher;
+    }
+
+    private List<EventListener> safelyGetListeners(Map<EventType, List<EventListener>> listenerMap, EventType event) {
+        return listenerMap.computeIfAbsent(event, it -> new CopyOnWriteArrayList<>());
     }
 }
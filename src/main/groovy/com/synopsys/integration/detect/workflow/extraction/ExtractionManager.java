@@ -23,43 +23,161 @@
  */
 package com.synopsys.integration.detect.workflow.extraction;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 
 import com.synopsys.integration.detect.detector.DetectorType;
 import com.synopsys.integration.detect.detector.ExtractionId;
 import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocation;
+import com.synopsys.integration.detect.workflow.event.Event;
+import com.synopsys.integration.detect.workflow.event.EventSystem;
 import com.synopsys.integration.detect.workflow.extraction.Extraction.ExtractionResultType;
+import com.synopsys.integration.detect.workflow.profiling.ExtractionTimings;
 import com.synopsys.integration.detect.workflow.report.util.ObjectPrinter;
 import com.synopsys.integration.detect.workflow.report.util.ReportConstants;
 import com.synopsys.integration.detect.workflow.report.writer.InfoLogReportWriter;
 import com.synopsys.integration.detect.workflow.search.result.DetectorEvaluation;
 
 public class ExtractionManager {
+    public static final String EXTRACTION_ID_MDC_KEY = "extractionId";
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
-    public ExtractionManager() {
+    private final EventSystem eventSystem;
+    private final int parallelism;
+    private final Map<DetectorType, Integer> typeLimits;
+    private final Optional<ExtractionTimings> extractionTimings;
+
+    public ExtractionManager(final EventSystem eventSystem) {
+        this(eventSystem, 1, Collections.emptyMap(), Optional.empty());
+    }
+
+    public ExtractionManager(final EventSystem eventSystem, final int parallelism, final Map<DetectorType, Integer> typeLimits, final Optional<ExtractionTimings> extractionTimings) {
+        this.eventSystem = eventSystem;
+        this.parallelism = parallelism;
+        this.typeLimits = typeLimits;
+        this.extractionTimings = extractionTimings;
     }
 
     public ExtractionResult performExtractions(final List<DetectorEvaluation> results) {
         final List<DetectorEvaluation> extractable = results.stream().filter(result -> result.isExtractable()).collect(Collectors.toList());
 
+        if (parallelism > 1 && extractable.size() > 1) {
+            performExtractionsInParallel(extractable);
+            return createExtractionResult(results);
+        }
+
         for (int i = 0; i < extractable.size(); i++) {
             final DetectorEvaluation detectorEvaluation = extractable.get(i);
             final String progress = Integer.toString((int) Math.floor((i * 100.0f) / extractable.size()));
             logger.info(String.format("Extracting %d of %d (%s%%)", i + 1, extractable.size(), progress));
             logger.info(ReportConstants.SEPERATOR);
 
-            final ExtractionId extractionId = new ExtractionId(detectorEvaluation.getDetector().getDetectorType(), Integer.toString(i));
-            detectorEvaluation.setExtractionId(extractionId);
+            performExtraction(detectorEvaluation, i);
+        }
+
+        return createExtractionResult(results);
+    }
+
+    public void performExtraction(final DetectorEvaluation detectorEvaluation, final int extractionIndex) {
+        assignExtractionId(detectorEvaluation, extractionIndex);
+
+        extract(detectorEvaluation);
+    }
 
-            extract(extractable.get(i));
+    private void assignExtractionId(final DetectorEvaluation detectorEvaluation, final int extractionIndex) {
+        final ExtractionId extractionId = new ExtractionId(detectorEvaluation.getDetector().getDetectorType(), Integer.toString(extractionIndex));
+        detectorEvaluation.setExtractionId(extractionId);
+    }
+
+    // Ids are handed out in search order before anything runs so reports and code locations do not depend on which extraction finishes first.
+    private void performExtractionsInParallel(final List<DetectorEvaluation> extractable) {
+        for (int i = 0; i < extractable.size(); i++) {
+            assignExtractionId(extractable.get(i), i);
         }
 
+        final int threads = Math.min(parallelism, extractable.size());
+        logger.info(String.format("Extracting %d detectors using %d threads.", extractable.size(), threads));
+        logger.info(ReportConstants.SEPERATOR);
+
+        final ExtractionDispatcher dispatcher = new ExtractionDispatcher(threads);
+        try {
+            extractable.forEach(dispatcher::add);
+            int finished = 0;
+            while (finished < extractable.size()) {
+                dispatcher.dispatch();
+                final DispatchSignal signal = dispatcher.awaitSignal();
+                dispatcher.finished(signal.evaluation);
+                finished++;
+                final String progress = Integer.toString((int) Math.floor((finished * 100.0f) / extractable.size()));
+                logger.info(String.format("Finished extraction %d of %d (%s%%): %s", finished, extractable.size(), progress, signal.evaluation.getExtractionId().toUniqueString()));
+            }
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    /**
+     * Extracts detectors while they are still being found, using the same threads, type limits and order as performExtractions. The source is called from its
+     * own thread, blocks until the next extractable evaluation is ready and returns empty once there are no more. Ids follow the order of the source. The source
+     * is not called again while capacity evaluations are waiting to start, so it can not run arbitrarily far ahead of extraction.
+     */
+    public void performExtractions(final Callable<Optional<DetectorEvaluation>> source, final int capacity) {
+        final int threads = Math.max(1, parallelism);
+        logger.info(String.format("Extracting detectors as they are found using %d threads.", threads));
+        logger.info(ReportConstants.SEPERATOR);
+
+        final ExtractionDispatcher dispatcher = new ExtractionDispatcher(threads);
+        final ExecutorService sourceExecutor = Executors.newSingleThreadExecutor();
+        final Semaphore receivePermits = new Semaphore(capacity);
+        try {
+            sourceExecutor.submit(() -> dispatcher.receiveAll(source, receivePermits));
+            boolean sourceFinished = false;
+            int extractionIndex = 0;
+            int finished = 0;
+            while (!sourceFinished || dispatcher.isBusy()) {
+                final DispatchSignal signal = dispatcher.awaitSignal();
+                if (signal.evaluation == null) {
+                    sourceFinished = true;
+                } else if (signal.extracted) {
+                    dispatcher.finished(signal.evaluation);
+                    finished++;
+                    logger.info(String.format("Finished extraction %d of %d found so far: %s", finished, extractionIndex, signal.evaluation.getExtractionId().toUniqueString()));
+                } else {
+                    assignExtractionId(signal.evaluation, extractionIndex);
+                    extractionIndex++;
+                    dispatcher.add(signal.evaluation);
+                }
+                receivePermits.release(dispatcher.dispatch());
+            }
+        } finally {
+            sourceExecutor.shutdownNow();
+            dispatcher.shutdown();
+        }
+    }
+
+    public ExtractionResult createExtractionResult(final List<DetectorEvaluation> results) {
+        final List<DetectorEvaluation> extractable = results.stream().filter(result -> result.isExtractable()).collect(Collectors.toList());
+
         final Set<DetectorType> succesfulBomToolGroups = extractable.stream()
                                                              .filter(it -> it.wasExtractionSuccessful())
                                                              .map(it -> it.getDetector().getDetectorType())
@@ -78,18 +196,31 @@ public class ExtractionManager {
         return new ExtractionResult(codeLocations, succesfulBomToolGroups, failedBomToolGroups);
     }
 
+    // Everything logged on this thread while extracting carries the extraction id, which is how the diagnostic extraction logs tell concurrent extractions apart.
     private void extract(final DetectorEvaluation result) { //TODO: Replace reporting.
+        MDC.put(EXTRACTION_ID_MDC_KEY, result.getExtractionId().toUniqueString());
+        try {
+            performExtract(result);
+        } finally {
+            MDC.remove(EXTRACTION_ID_MDC_KEY);
+        }
+    }
 
+    private void performExtract(final DetectorEvaluation result) {
         logger.info("Starting extraction: " + result.getDetector().getDetectorType() + " - " + result.getDetector().getName());
         logger.info("Identifier: " + result.getExtractionId().toUniqueString());
         ObjectPrinter.printObjectPrivate(new InfoLogReportWriter(), result.getDetector());
         logger.info(ReportConstants.SEPERATOR);
 
+        eventSystem.publishEvent(Event.ExtractionStarted, result);
         try {
             result.setExtraction(result.getDetector().extract(result.getExtractionId()));
         } catch (final Exception e) {
             result.setExtraction(new Extraction.Builder().exception(e).build());
         }
+        // Code locations are kept until the bdio is written, so their graphs are compacted as soon as each extraction finishes.
+        result.getExtraction().codeLocations.replaceAll(DetectCodeLocation::compact);
+        eventSystem.publishEvent(Event.ExtractionEnded, result);
 
         logger.info(ReportConstants.SEPERATOR);
         logger.info("Finished extraction: " + result.getExtraction().result.toString());
@@ -103,4 +234,147 @@ public class ExtractionManager {
 
     }
 
+    /**
+     * Runs extractions on a fixed pool as they are added. Type limits are enforced on the dispatching thread so a worker never sits blocked waiting for a slot
+     * of its own type, and when timings are known the longest waiting extraction is started first. New evaluations and finished extractions arrive through one
+     * queue so the dispatching thread only ever waits in one place.
+     */
+    private class ExtractionDispatcher {
+        private final int threads;
+        private final ExecutorService executorService;
+        private final BlockingQueue<DispatchSignal> signals = new LinkedBlockingQueue<>();
+        private final List<DetectorEvaluation> pending = new LinkedList<>();
+        private final Map<DetectorEvaluation, Long> estimates = new IdentityHashMap<>();
+        private final Map<DetectorType, Integer> running = new EnumMap<>(DetectorType.class);
+        private int active = 0;
+
+        public ExtractionDispatcher(final int threads) {
+            this.threads = threads;
+            this.executorService = Executors.newFixedThreadPool(threads);
+            if (extractionTimings.isPresent()) {
+                // Starting the longest extractions first keeps one slow build from running alone at the end.
+                logger.info("Scheduling the longest extractions first using timings from previous runs.");
+            }
+        }
+
+        public void add(final DetectorEvaluation detectorEvaluation) {
+            if (!extractionTimings.isPresent()) {
+                pending.add(detectorEvaluation);
+                return;
+            }
+            // Inserted after every evaluation with an equal or longer estimate, so pending stays sorted longest first and ties keep the order they were added.
+            final long estimate = extractionTimings.get().estimate(detectorEvaluation);
+            estimates.put(detectorEvaluation, estimate);
+            final ListIterator<DetectorEvaluation> pendingIterator = pending.listIterator();
+            while (pendingIterator.hasNext()) {
+                if (estimates.get(pendingIterator.next()) < estimate) {
+                    pendingIterator.previous();
+                    break;
+                }
+            }
+            pendingIterator.add(detectorEvaluation);
+        }
+
+        /**
+         * Returns the number of extractions that were started.
+         */
+        public int dispatch() {
+            int started = 0;
+            final Iterator<DetectorEvaluation> pendingIterator = pending.iterator();
+            while (active < threads && pendingIterator.hasNext()) {
+                final DetectorEvaluation detectorEvaluation = pendingIterator.next();
+                final DetectorType detectorType = detectorEvaluation.getDetector().getDetectorType();
+                final int runningOfType = running.getOrDefault(detectorType, 0);
+                if (runningOfType >= typeLimits.getOrDefault(detectorType, Integer.MAX_VALUE)) {
+                    continue;
+                }
+                pendingIterator.remove();
+                running.put(detectorType, runningOfType + 1);
+                active++;
+                started++;
+                executorService.submit(() -> {
+                    try {
+                        extract(detectorEvaluation);
+                        signals.add(DispatchSignal.extracted(detectorEvaluation));
+                    } catch (final RuntimeException e) {
+                        signals.add(DispatchSignal.failed(new RuntimeException("A detector extraction failed unexpectedly.", e)));
+                    }
+                });
+            }
+            return started;
+        }
+
+        public void finished(final DetectorEvaluation detectorEvaluation) {
+            final DetectorType detectorType = detectorEvaluation.getDetector().getDetectorType();
+            running.put(detectorType, running.get(detectorType) - 1);
+            active--;
+        }
+
+        public boolean isBusy() {
+            return active > 0 || !pending.isEmpty();
+        }
+
+        // A permit is taken for every evaluation received and given back once it has been started.
+        public void receiveAll(final Callable<Optional<DetectorEvaluation>> source, final Semaphore receivePermits) {
+            try {
+                receivePermits.acquire();
+                Optional<DetectorEvaluation> next = source.call();
+                while (next.isPresent()) {
+                    signals.add(DispatchSignal.received(next.get()));
+                    receivePermits.acquire();
+                    next = source.call();
+                }
+                signals.add(DispatchSignal.sourceFinished());
+            } catch (final Exception e) {
+                signals.add(DispatchSignal.failed(new RuntimeException("Could not get the next detector to extract.", e)));
+            }
+        }
+
+        public DispatchSignal awaitSignal() {
+            final DispatchSignal signal;
+            try {
+                signal = signals.take();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for detector extractions to finish.", e);
+            }
+            if (signal.failure != null) {
+                throw signal.failure;
+            }
+            return signal;
+        }
+
+        public void shutdown() {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static class DispatchSignal {
+        private final DetectorEvaluation evaluation;
+        private final boolean extracted;
+        private final RuntimeException failure;
+
+        private DispatchSignal(final DetectorEvaluation evaluation, final boolean extracted, final RuntimeException failure) {
+            this.evaluation = evaluation;
+            this.extracted = extracted;
+            this.failure = failure;
+        }
+
+        public static DispatchSignal received(final DetectorEvaluation evaluation) {
+            return new DispatchSignal(evaluation, false, null);
+        }
+
+        public static DispatchSignal extracted(final DetectorEvaluation evaluation) {
+            return new DispatchSignal(evaluation, true, null);
+        }
+
+        public static DispatchSignal sourceFinished() {
+            return new DispatchSignal(null, false, null);
+        }
+
+        public static DispatchSignal failed(final RuntimeException failure) {
+            return new DispatchSignal(null, false, failure);
+        }
+    }
+
 }
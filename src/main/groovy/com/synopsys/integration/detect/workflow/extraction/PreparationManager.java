@@ -25,6 +25,11 @@ package com.synopsys.integration.detect.workflow.extraction;
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -40,12 +45,18 @@ public class PreparationManager {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private final EventSystem eventSystem;
+    private final int parallelism;
 
     public PreparationManager(final EventSystem eventSystem) {
+        this(eventSystem, 1);
+    }
+
+    public PreparationManager(final EventSystem eventSystem, final int parallelism) {
         this.eventSystem = eventSystem;
+        this.parallelism = parallelism;
     }
 
-    private void prepare(final DetectorEvaluation result) {
+    public void prepare(final DetectorEvaluation result) {
         if (result.isApplicable()) {
             eventSystem.publishEvent(Event.ExtractableStarted, result.getDetector());
             try {
@@ -59,10 +70,45 @@ public class PreparationManager {
     }
 
     public PreparationResult prepareExtractions(final List<DetectorEvaluation> results) {
-        for (final DetectorEvaluation result : results) {
-            prepare(result);
+        final List<DetectorEvaluation> applicable = results.stream().filter(result -> result.isApplicable()).collect(Collectors.toList());
+        if (parallelism > 1 && applicable.size() > 1) {
+            prepareInParallel(applicable);
+        } else {
+            for (final DetectorEvaluation result : results) {
+                prepare(result);
+            }
+        }
+
+        return createPreparationResult(results);
+    }
+
+    // Detectors mostly wait on the network or on processes here, shared inspectors are resolved once by their managers no matter how many detectors ask.
+    private void prepareInParallel(final List<DetectorEvaluation> applicable) {
+        final int threads = Math.min(parallelism, applicable.size());
+        logger.info(String.format("Preparing %d detectors using %d threads.", applicable.size(), threads));
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Callable<DetectorEvaluation>> preparations = applicable.stream()
+                                                                         .map(result -> (Callable<DetectorEvaluation>) () -> {
+                                                                             prepare(result);
+                                                                             return result;
+                                                                         })
+                                                                         .collect(Collectors.toList());
+            for (final Future<DetectorEvaluation> preparation : executorService.invokeAll(preparations)) {
+                preparation.get();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for detectors to be prepared.", e);
+        } catch (final ExecutionException e) {
+            throw new RuntimeException("A detector could not be prepared.", e.getCause());
+        } finally {
+            executorService.shutdownNow();
         }
+    }
 
+    public PreparationResult createPreparationResult(final List<DetectorEvaluation> results) {
         final Set<DetectorType> succesfulBomToolGroups = results.stream()
                                                              .filter(it -> it.isApplicable())
                                                              .filter(it -> it.isExtractable())
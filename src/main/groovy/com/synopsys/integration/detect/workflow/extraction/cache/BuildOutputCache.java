@@ -0,0 +1,271 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.extraction.cache;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.FilenameUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.detect.workflow.file.DirectoryManager;
+
+/*
+ * Keeps the raw output of build tools, such as the dependency:tree output of maven or the dependency graph files of the gradle inspector, so it can be
+ * replayed into the existing parsers while none of the build descriptors under the extraction directory have changed.
+ */
+public class BuildOutputCache {
+    public static final String BUILD_OUTPUT_CACHE_DIRECTORY = "build-outputs";
+
+    private static final Set<String> SKIPPED_DIRECTORIES = new HashSet<>(Arrays.asList("target", "build", "node_modules", ".git", ".gradle", ".idea"));
+
+    private final Logger logger = LoggerFactory.getLogger(BuildOutputCache.class);
+
+    private final boolean enabled;
+    private final DirectoryManager directoryManager;
+    private final String detectVersion;
+
+    public BuildOutputCache(final boolean enabled, final DirectoryManager directoryManager, final String detectVersion) {
+        this.enabled = enabled;
+        this.directoryManager = directoryManager;
+        this.detectVersion = detectVersion;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Creates a key from every build descriptor under the directory that matches one of the patterns. Nothing is searched when the cache is disabled.
+     */
+    public ExtractionCacheKey createKey(final String detectorName, final File directory, final List<String> descriptorPatterns) {
+        final ExtractionCacheKey key = new ExtractionCacheKey(detectorName, String.valueOf(detectVersion), directory);
+        if (enabled) {
+            try {
+                key.files(findDescriptors(directory, descriptorPatterns));
+            } catch (final IOException e) {
+                logger.debug(String.format("Unable to find the build descriptors in %s: %s", directory.getAbsolutePath(), e.getMessage()));
+                // A key that can never match again, the output must not be reused when the descriptors could not be checked.
+                key.setting("descriptors", "unavailable-" + System.nanoTime());
+            }
+        }
+        return key;
+    }
+
+    public Optional<File> findOutputFile(final ExtractionCacheKey key, final String fileName) {
+        return findEntry(key)
+                   .map(entry -> new File(entry, fileName))
+                   .filter(File::isFile);
+    }
+
+    /**
+     * Returns a recorder that writes output lines to a new cache entry as they are produced. The entry is only kept if the recorder is committed before it
+     * is closed. When the cache is disabled the recorder ignores every line.
+     */
+    public OutputRecorder recordOutput(final ExtractionCacheKey key, final String fileName) {
+        if (!enabled) {
+            return new OutputRecorder(null, null, null);
+        }
+        try {
+            final File entry = new File(getCacheDirectory(), key.hash());
+            getCacheDirectory().mkdirs();
+            final File temporaryDirectory = Files.createTempDirectory(getCacheDirectory().toPath(), "output").toFile();
+            final BufferedWriter writer = Files.newBufferedWriter(new File(temporaryDirectory, fileName).toPath(), StandardCharsets.UTF_8);
+            return new OutputRecorder(entry, temporaryDirectory, writer);
+        } catch (final IOException e) {
+            logger.debug(String.format("Unable to cache the build output: %s", e.getMessage()));
+            return new OutputRecorder(null, null, null);
+        }
+    }
+
+    /**
+     * Copies the cached output files into the output directory and returns true, or returns false when there is no cached output for the key.
+     */
+    public boolean restoreOutputDirectory(final ExtractionCacheKey key, final File outputDirectory) {
+        final Optional<File> entry = findEntry(key);
+        if (!entry.isPresent()) {
+            return false;
+        }
+        try {
+            FileUtils.copyDirectory(entry.get(), outputDirectory);
+            return true;
+        } catch (final IOException e) {
+            logger.debug(String.format("Unable to restore the cached build output %s: %s", entry.get().getAbsolutePath(), e.getMessage()));
+            return false;
+        }
+    }
+
+    public void storeOutputDirectory(final ExtractionCacheKey key, final File outputDirectory) {
+        store(key, entry -> FileUtils.copyDirectory(outputDirectory, entry));
+    }
+
+    private Optional<File> findEntry(final ExtractionCacheKey key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            final File entry = new File(getCacheDirectory(), key.hash());
+            if (entry.isDirectory()) {
+                logger.info(String.format("Using cached build output %s, the build files have not changed.", entry.getName()));
+                return Optional.of(entry);
+            }
+        } catch (final IOException e) {
+            logger.debug(String.format("Unable to create the build output cache key: %s", e.getMessage()));
+        }
+        return Optional.empty();
+    }
+
+    // The entry is filled in a temporary directory and then moved in place, so a half written entry is never found.
+    private void store(final ExtractionCacheKey key, final EntryWriter entryWriter) {
+        if (!enabled) {
+            return;
+        }
+        File temporaryDirectory = null;
+        try {
+            final File entry = new File(getCacheDirectory(), key.hash());
+            getCacheDirectory().mkdirs();
+            temporaryDirectory = Files.createTempDirectory(getCacheDirectory().toPath(), "output").toFile();
+            entryWriter.write(temporaryDirectory);
+            if (!entry.exists()) {
+                Files.move(temporaryDirectory.toPath(), entry.toPath());
+            }
+        } catch (final IOException e) {
+            logger.debug(String.format("Unable to cache the build output: %s", e.getMessage()));
+        } finally {
+            FileUtils.deleteQuietly(temporaryDirectory);
+        }
+    }
+
+    private File getCacheDirectory() {
+        return new File(directoryManager.getCacheOutputDirectory(), BUILD_OUTPUT_CACHE_DIRECTORY);
+    }
+
+    private List<File> findDescriptors(final File directory, final List<String> descriptorPatterns) throws IOException {
+        final List<File> descriptors = new ArrayList<>();
+        Files.walkFileTree(directory.toPath(), new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(final Path path, final BasicFileAttributes attributes) {
+                final boolean skipped = !path.equals(directory.toPath()) && SKIPPED_DIRECTORIES.contains(path.getFileName().toString());
+                return skipped ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(final Path path, final BasicFileAttributes attributes) {
+                final String fileName = path.getFileName().toString();
+                if (descriptorPatterns.stream().anyMatch(pattern -> FilenameUtils.wildcardMatch(fileName, pattern))) {
+                    descriptors.add(path.toFile());
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(final Path path, final IOException e) {
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        Collections.sort(descriptors);
+        return descriptors;
+    }
+
+    public class OutputRecorder implements Consumer<String>, Closeable {
+        private final File entry;
+        private final File temporaryDirectory;
+        private BufferedWriter writer;
+
+        private OutputRecorder(final File entry, final File temporaryDirectory, final BufferedWriter writer) {
+            this.entry = entry;
+            this.temporaryDirectory = temporaryDirectory;
+            this.writer = writer;
+        }
+
+        @Override
+        public void accept(final String line) {
+            if (writer == null) {
+                return;
+            }
+            try {
+                writer.write(line);
+                writer.newLine();
+            } catch (final IOException e) {
+                logger.debug(String.format("Unable to cache the build output, it will not be recorded: %s", e.getMessage()));
+                closeWriter();
+            }
+        }
+
+        public void commit() {
+            if (writer == null) {
+                return;
+            }
+            try {
+                writer.close();
+                writer = null;
+                if (!entry.exists()) {
+                    Files.move(temporaryDirectory.toPath(), entry.toPath());
+                }
+            } catch (final IOException e) {
+                logger.debug(String.format("Unable to cache the build output: %s", e.getMessage()));
+            }
+        }
+
+        @Override
+        public void close() {
+            closeWriter();
+            FileUtils.deleteQuietly(temporaryDirectory);
+        }
+
+        private void closeWriter() {
+            if (writer != null) {
+                try {
+                    writer.close();
+                } catch (final IOException e) {
+                    logger.debug(String.format("Unable to close the build output cache file: %s", e.getMessage()));
+                }
+                writer = null;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface EntryWriter {
+        void write(File entry) throws IOException;
+    }
+}
@@ -0,0 +1,252 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.extraction.cache;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.BdioId;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.detect.workflow.codelocation.CompactDependencyGraph;
+import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocation;
+import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocationType;
+
+/*
+ * Writes code locations in a compact binary form. Every string is written once and referred to by index afterwards, every dependency is written once and
+ * the graph is stored as index lists, so a large lock file with many repeated group and version strings stays small and is fast to read back.
+ */
+public class CodeLocationCodec {
+    private static final int FORMAT_VERSION = 1;
+    private static final Map<String, Forge> KNOWN_FORGES = findKnownForges();
+
+    public void write(final DataOutputStream output, final List<DetectCodeLocation> codeLocations) throws IOException {
+        output.writeInt(FORMAT_VERSION);
+        final StringTableWriter strings = new StringTableWriter(output);
+        output.writeInt(codeLocations.size());
+        for (final DetectCodeLocation codeLocation : codeLocations) {
+            strings.write(codeLocation.getCodeLocationType().name());
+            strings.write(codeLocation.getSourcePath());
+            strings.write(codeLocation.getDockerImage());
+            writeExternalId(strings, output, codeLocation.getExternalId());
+            writeGraph(strings, output, codeLocation.getDependencyGraph());
+        }
+    }
+
+    public List<DetectCodeLocation> read(final DataInputStream input) throws IOException {
+        final int formatVersion = input.readInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported cached code location format: " + formatVersion);
+        }
+        final StringTableReader strings = new StringTableReader(input);
+        final int codeLocationCount = input.readInt();
+        final List<DetectCodeLocation> codeLocations = new ArrayList<>(codeLocationCount);
+        for (int i = 0; i < codeLocationCount; i++) {
+            final DetectCodeLocationType codeLocationType = DetectCodeLocationType.valueOf(strings.read());
+            final String sourcePath = strings.read();
+            final String dockerImage = strings.read();
+            final ExternalId externalId = readExternalId(strings, input);
+            final DependencyGraph dependencyGraph = readGraph(strings, input);
+            codeLocations.add(new DetectCodeLocation.Builder(codeLocationType, sourcePath, externalId, dependencyGraph).dockerImage(dockerImage).build());
+        }
+        return codeLocations;
+    }
+
+    private void writeGraph(final StringTableWriter strings, final DataOutputStream output, final DependencyGraph graph) throws IOException {
+        final Map<Dependency, Integer> indexes = new LinkedHashMap<>();
+        final Deque<Dependency> toVisit = new ArrayDeque<>(graph.getRootDependencies());
+        while (!toVisit.isEmpty()) {
+            final Dependency dependency = toVisit.pop();
+            if (!indexes.containsKey(dependency)) {
+                indexes.put(dependency, indexes.size());
+                toVisit.addAll(graph.getChildrenForParent(dependency));
+            }
+        }
+
+        output.writeInt(indexes.size());
+        for (final Dependency dependency : indexes.keySet()) {
+            strings.write(dependency.name);
+            strings.write(dependency.version);
+            writeExternalId(strings, output, dependency.externalId);
+        }
+
+        writeIndexes(output, indexes, new ArrayList<>(graph.getRootDependencies()));
+        for (final Dependency dependency : indexes.keySet()) {
+            writeIndexes(output, indexes, new ArrayList<>(graph.getChildrenForParent(dependency)));
+        }
+    }
+
+    private DependencyGraph readGraph(final StringTableReader strings, final DataInputStream input) throws IOException {
+        final int dependencyCount = input.readInt();
+        final List<Dependency> dependencies = new ArrayList<>(dependencyCount);
+        for (int i = 0; i < dependencyCount; i++) {
+            final String name = strings.read();
+            final String version = strings.read();
+            final ExternalId externalId = readExternalId(strings, input);
+            dependencies.add(new Dependency(name, version, externalId));
+        }
+
+        final CompactDependencyGraph.Builder graph = new CompactDependencyGraph.Builder();
+        for (final Dependency root : readIndexes(input, dependencies)) {
+            graph.addChildToRoot(root);
+        }
+        for (final Dependency parent : dependencies) {
+            for (final Dependency child : readIndexes(input, dependencies)) {
+                graph.addParentWithChild(parent, child);
+            }
+        }
+        return graph.build();
+    }
+
+    private void writeIndexes(final DataOutputStream output, final Map<Dependency, Integer> indexes, final List<Dependency> dependencies) throws IOException {
+        output.writeInt(dependencies.size());
+        for (final Dependency dependency : dependencies) {
+            output.writeInt(indexes.get(dependency));
+        }
+    }
+
+    private List<Dependency> readIndexes(final DataInputStream input, final List<Dependency> dependencies) throws IOException {
+        final int count = input.readInt();
+        final List<Dependency> found = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            found.add(dependencies.get(input.readInt()));
+        }
+        return found;
+    }
+
+    private void writeExternalId(final StringTableWriter strings, final DataOutputStream output, final ExternalId externalId) throws IOException {
+        strings.write(externalId.forge.getName());
+        strings.write(externalId.group);
+        strings.write(externalId.name);
+        strings.write(externalId.version);
+        strings.write(externalId.architecture);
+        strings.write(externalId.path);
+        if (externalId.moduleNames == null) {
+            output.writeInt(-1);
+        } else {
+            output.writeInt(externalId.moduleNames.length);
+            for (final String moduleName : externalId.moduleNames) {
+                strings.write(moduleName);
+            }
+        }
+    }
+
+    private ExternalId readExternalId(final StringTableReader strings, final DataInputStream input) throws IOException {
+        final String forgeName = strings.read();
+        final Forge forge = KNOWN_FORGES.getOrDefault(forgeName, new Forge(BdioId.BDIO_ID_SEPARATOR, BdioId.BDIO_ID_SEPARATOR, forgeName));
+        final ExternalId externalId = new ExternalId(forge);
+        externalId.group = strings.read();
+        externalId.name = strings.read();
+        externalId.version = strings.read();
+        externalId.architecture = strings.read();
+        externalId.path = strings.read();
+        final int moduleNameCount = input.readInt();
+        if (moduleNameCount >= 0) {
+            externalId.moduleNames = new String[moduleNameCount];
+            for (int i = 0; i < moduleNameCount; i++) {
+                externalId.moduleNames[i] = strings.read();
+            }
+        }
+        return externalId;
+    }
+
+    // Only the forge name is cached, so it is mapped back to the shared constant (with its separators) whenever there is one.
+    private static Map<String, Forge> findKnownForges() {
+        final Map<String, Forge> forges = new HashMap<>();
+        for (final Field field : Forge.class.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && Forge.class.equals(field.getType())) {
+                try {
+                    final Forge forge = (Forge) field.get(null);
+                    forges.put(forge.getName(), forge);
+                } catch (final IllegalAccessException e) {
+                    // Not a usable constant, forges with this name will be recreated instead.
+                }
+            }
+        }
+        return forges;
+    }
+
+    private static class StringTableWriter {
+        private final DataOutputStream output;
+        private final Map<String, Integer> indexes = new HashMap<>();
+
+        public StringTableWriter(final DataOutputStream output) {
+            this.output = output;
+        }
+
+        // -1 is null, an already written string is its index and a new string is -2 followed by its bytes.
+        public void write(final String value) throws IOException {
+            if (value == null) {
+                output.writeInt(-1);
+                return;
+            }
+            final Integer index = indexes.get(value);
+            if (index != null) {
+                output.writeInt(index);
+            } else {
+                indexes.put(value, indexes.size());
+                final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                output.writeInt(-2);
+                output.writeInt(bytes.length);
+                output.write(bytes);
+            }
+        }
+    }
+
+    private static class StringTableReader {
+        private final DataInputStream input;
+        private final List<String> strings = new ArrayList<>();
+
+        public StringTableReader(final DataInputStream input) {
+            this.input = input;
+        }
+
+        public String read() throws IOException {
+            final int index = input.readInt();
+            if (index == -1) {
+                return null;
+            } else if (index == -2) {
+                final byte[] bytes = new byte[input.readInt()];
+                input.readFully(bytes);
+                final String value = new String(bytes, StandardCharsets.UTF_8);
+                strings.add(value);
+                return value;
+            }
+            return strings.get(index);
+        }
+    }
+}
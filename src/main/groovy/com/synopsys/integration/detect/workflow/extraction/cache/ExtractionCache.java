@@ -0,0 +1,145 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.extraction.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocation;
+import com.synopsys.integration.detect.workflow.extraction.Extraction;
+import com.synopsys.integration.detect.workflow.file.DirectoryManager;
+
+public class ExtractionCache {
+    public static final String EXTRACTION_CACHE_DIRECTORY = "extractions";
+
+    private final Logger logger = LoggerFactory.getLogger(ExtractionCache.class);
+
+    private final boolean enabled;
+    private final DirectoryManager directoryManager;
+    private final String detectVersion;
+    private final CodeLocationCodec codeLocationCodec = new CodeLocationCodec();
+
+    public ExtractionCache(final boolean enabled, final DirectoryManager directoryManager, final String detectVersion) {
+        this.enabled = enabled;
+        this.directoryManager = directoryManager;
+        this.detectVersion = detectVersion;
+    }
+
+    public static ExtractionCache disabled() {
+        return new ExtractionCache(false, null, null);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public ExtractionCacheKey createKey(final String detectorName, final File directory) {
+        return new ExtractionCacheKey(detectorName, String.valueOf(detectVersion), directory);
+    }
+
+    /**
+     * Returns the cached extraction for the key when there is one, otherwise runs the extractor and caches its result if it succeeded.
+     */
+    public Extraction extract(final ExtractionCacheKey key, final Supplier<Extraction> extractor) {
+        if (!enabled) {
+            return extractor.get();
+        }
+
+        final File cacheFile;
+        try {
+            cacheFile = new File(getCacheDirectory(), key.hash() + ".bin");
+        } catch (final IOException e) {
+            logger.debug(String.format("Unable to create the extraction cache key, the extraction will not be cached: %s", e.getMessage()));
+            return extractor.get();
+        }
+
+        if (cacheFile.isFile()) {
+            try {
+                final Extraction extraction = read(cacheFile);
+                logger.info(String.format("Using cached extraction %s, the input files have not changed.", cacheFile.getName()));
+                return extraction;
+            } catch (final IOException | RuntimeException e) {
+                logger.debug(String.format("Unable to read the cached extraction %s, it will be extracted again: %s", cacheFile.getAbsolutePath(), e.getMessage()));
+            }
+        }
+
+        final Extraction extraction = extractor.get();
+        if (extraction.result == Extraction.ExtractionResultType.SUCCESS) {
+            try {
+                write(cacheFile, extraction);
+            } catch (final IOException | RuntimeException e) {
+                logger.debug(String.format("Unable to cache the extraction in %s: %s", cacheFile.getAbsolutePath(), e.getMessage()));
+            }
+        }
+        return extraction;
+    }
+
+    private File getCacheDirectory() {
+        return new File(directoryManager.getCacheOutputDirectory(), EXTRACTION_CACHE_DIRECTORY);
+    }
+
+    private Extraction read(final File cacheFile) throws IOException {
+        try (final DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile.toPath())))) {
+            final String projectName = input.readBoolean() ? input.readUTF() : null;
+            final String projectVersion = input.readBoolean() ? input.readUTF() : null;
+            final List<DetectCodeLocation> codeLocations = codeLocationCodec.read(input);
+            return new Extraction.Builder().success(codeLocations).projectName(projectName).projectVersion(projectVersion).build();
+        }
+    }
+
+    // Written to a temporary file first so a concurrent or interrupted run never sees half an entry.
+    private void write(final File cacheFile, final Extraction extraction) throws IOException {
+        final File cacheDirectory = cacheFile.getParentFile();
+        cacheDirectory.mkdirs();
+        final File temporaryFile = File.createTempFile("extraction", ".tmp", cacheDirectory);
+        try {
+            try (final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile.toPath())))) {
+                writeOptional(output, extraction.projectName);
+                writeOptional(output, extraction.projectVersion);
+                codeLocationCodec.write(output, extraction.codeLocations);
+            }
+            Files.move(temporaryFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporaryFile.toPath());
+        }
+    }
+
+    private void writeOptional(final DataOutputStream output, final String value) throws IOException {
+        output.writeBoolean(value != null);
+        if (value != null) {
+            output.writeUTF(value);
+        }
+    }
+}
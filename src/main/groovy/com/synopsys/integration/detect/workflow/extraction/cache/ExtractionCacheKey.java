@@ -0,0 +1,120 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.extraction.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.synopsys.integration.detect.configuration.DetectProperty;
+
+/*
+ * Identifies an extraction by everything that can change its result: the detector, the detect version, the directory, the relevant properties and the
+ * content of the input files. Files are only read when the key is hashed, so building a key for a disabled cache costs nothing.
+ */
+public class ExtractionCacheKey {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final List<String> identifiers = new ArrayList<>();
+    private final Map<String, String> settings = new TreeMap<>();
+    private final List<File> inputFiles = new ArrayList<>();
+
+    public ExtractionCacheKey(final String detectorName, final String detectVersion, final File directory) {
+        identifiers.add(detectorName);
+        identifiers.add(detectVersion);
+        identifiers.add(directory.getAbsolutePath());
+    }
+
+    public ExtractionCacheKey file(final File inputFile) {
+        if (inputFile != null) {
+            inputFiles.add(inputFile);
+        }
+        return this;
+    }
+
+    public ExtractionCacheKey files(final List<File> inputFiles) {
+        inputFiles.forEach(this::file);
+        return this;
+    }
+
+    public ExtractionCacheKey setting(final DetectProperty property, final Object value) {
+        return setting(property.getPropertyKey(), value);
+    }
+
+    public ExtractionCacheKey setting(final String name, final Object value) {
+        settings.put(name, String.valueOf(value));
+        return this;
+    }
+
+    public String hash() throws IOException {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IOException("SHA-256 is not available to hash the extraction cache key.", e);
+        }
+
+        for (final String identifier : identifiers) {
+            update(digest, identifier);
+        }
+        for (final Map.Entry<String, String> setting : settings.entrySet()) {
+            update(digest, setting.getKey() + "=" + setting.getValue());
+        }
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        for (final File inputFile : inputFiles) {
+            update(digest, inputFile.getAbsolutePath());
+            if (!inputFile.isFile()) {
+                digest.update((byte) 1);
+                continue;
+            }
+            try (final InputStream inputStream = Files.newInputStream(inputFile.toPath())) {
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+            digest.update((byte) 0);
+        }
+
+        final byte[] bytes = digest.digest();
+        final StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (final byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    private void update(final MessageDigest digest, final String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+}
@@ -26,9 +26,17 @@ package com.synopsys.integration.detect.workflow.file;
 import java.io.File;
 import java.io.FilenameFilter;
 import java.io.IOException;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -78,8 +86,20 @@ public class DetectFileFinder {
     }
 
     public File findFile(final File sourceDirectory, final String filenamePattern) {
-        final File foundFile;
         final List<File> foundFiles = findFiles(sourceDirectory, filenamePattern);
+        return selectFoundFile(foundFiles, sourceDirectory, filenamePattern);
+    }
+
+    /**
+     * Finds a file in an already listed directory without touching the file system.
+     */
+    public File findFile(final DirectoryListing directoryListing, final String filenamePattern) {
+        final List<File> foundFiles = findFiles(directoryListing, filenamePattern);
+        return selectFoundFile(foundFiles, directoryListing.getDirectory(), filenamePattern);
+    }
+
+    private File selectFoundFile(final List<File> foundFiles, final File sourceDirectory, final String filenamePattern) {
+        final File foundFile;
         if (foundFiles == null || foundFiles.isEmpty()) {
             logger.debug(String.format("Could not find any matches for %s in %s", filenamePattern, sourceDirectory.getAbsolutePath()));
             foundFile = null;
@@ -99,26 +119,39 @@ public class DetectFileFinder {
         if (!sourceDirectory.isDirectory()) {
             return null;
         }
-        final File[] foundFiles = sourceDirectory.listFiles((FilenameFilter) (directoryContainingTheFile, filename) -> FilenameUtils.wildcardMatchOnSystem(filename, filenamePattern));
+        final FilenamePatternMatcher filenamePatternMatcher = FilenamePatternMatcher.compile(filenamePattern);
+        final File[] foundFiles = sourceDirectory.listFiles((FilenameFilter) (directoryContainingTheFile, filename) -> filenamePatternMatcher.matches(filename));
         if (foundFiles == null || foundFiles.length == 0) {
             return null;
         }
         return Arrays.asList(foundFiles);
     }
 
+    public List<File> findFiles(final DirectoryListing directoryListing, final String filenamePattern) {
+        final List<File> foundFiles = directoryListing.findFiles(filenamePattern);
+        if (foundFiles.isEmpty()) {
+            return null;
+        }
+        return foundFiles;
+    }
+
     public List<File> findFilesToDepth(final File sourceDirectory, final String filenamePattern, final int maxDepth) {
-        return findFilesRecursive(sourceDirectory, 0, maxDepth, null, true, filenamePattern);
+        return walkForFiles(sourceDirectory, maxDepth, null, true, FilenamePatternMatcher.compile(filenamePattern));
     }
 
     /**
      * Will recursively look for files/directories matching these name patterns within the source directory. It will not look for matching files/directories within a directory that matched one of the patterns.
      */
     public List<File> findAllFilesToMaxDepth(final File sourceDirectory, final String... filenamePatterns) {
-        return findFilesRecursive(sourceDirectory, 0, Integer.MAX_VALUE, null, false, filenamePatterns);
+        return walkForFiles(sourceDirectory, Integer.MAX_VALUE, null, false, FilenamePatternMatcher.compile(filenamePatterns));
     }
 
     public List<File> findAllFilesToDepth(final File sourceDirectory, final StringBuilder maxDepthHitMsgPattern, final int maxDepth, final String... filenamePatterns) {
-        return findFilesRecursive(sourceDirectory, 0, maxDepth, maxDepthHitMsgPattern, false, filenamePatterns);
+        return findAllFilesToDepth(sourceDirectory, maxDepthHitMsgPattern, maxDepth, FilenamePatternMatcher.compile(filenamePatterns));
+    }
+
+    public List<File> findAllFilesToDepth(final File sourceDirectory, final StringBuilder maxDepthHitMsgPattern, final int maxDepth, final FilenamePatternMatcher filenamePatternMatcher) {
+        return walkForFiles(sourceDirectory, maxDepth, maxDepthHitMsgPattern, false, filenamePatternMatcher);
     }
 
     public List<File> findDirectoriesContainingDirectoriesToDepth(final String sourcePath, final String filenamePattern, final int maxDepth) {
@@ -126,73 +159,162 @@ public class DetectFileFinder {
     }
 
     public List<File> findDirectoriesContainingDirectoriesToDepth(final File sourceDirectory, final String directoryPattern, final int maxDepth) {
-        return findDirectoriesContainingDirectoriesToDepthRecursive(sourceDirectory, directoryPattern, 0, maxDepth);
+        return walkForDirectoriesContainingDirectories(sourceDirectory, FilenamePatternMatcher.compile(directoryPattern), maxDepth);
+    }
+
+    public List<File> findDirectoriesContainingFilesToDepth(final File sourceDirectory, final String filenamePattern, final int maxDepth) {
+        return walkForDirectoriesContainingFiles(sourceDirectory, FilenamePatternMatcher.compile(filenamePattern), maxDepth);
     }
 
-    private List<File> findFilesRecursive(final File sourceDirectory, final int currentDepth, final int maxDepth, StringBuilder maxDepthHitMsgPattern, final Boolean recurseIntoDirectoryMatch, final String... filenamePatterns) {
+    private List<File> walkForFiles(final File sourceDirectory, final int maxDepth, final StringBuilder maxDepthHitMsgPattern, final boolean recurseIntoDirectoryMatch, final FilenamePatternMatcher filenamePatternMatcher) {
         final List<File> files = new ArrayList<>();
-        if (currentDepth >= maxDepth) {
-            if (StringUtils.isNotBlank(maxDepthHitMsgPattern)) {
-                logger.warn(String.format(maxDepthHitMsgPattern.toString(), sourceDirectory.getAbsolutePath()));
-                // Ensure msg only shown once
-                maxDepthHitMsgPattern.setLength(0);
-            }
-        } else if (sourceDirectory.isDirectory()) {
-            File[] children = sourceDirectory.listFiles();
-            if (children != null && children.length > 0 && null != filenamePatterns && filenamePatterns.length >= 1) {
-                for (final File file : children) {
-                    final boolean fileMatchesPatterns = Arrays.stream(filenamePatterns).anyMatch(pattern -> FilenameUtils.wildcardMatchOnSystem(file.getName(), pattern));
-
-                    if (fileMatchesPatterns) {
-                        files.add(file);
-                    }
+        if (maxDepth <= 0) {
+            logMaxDepthHit(maxDepthHitMsgPattern, sourceDirectory);
+            return files;
+        }
+        if (!sourceDirectory.isDirectory() || filenamePatternMatcher.isEmpty()) {
+            return files;
+        }
 
-                    if (file.isDirectory() && (!fileMatchesPatterns || recurseIntoDirectoryMatch)) {
-                        // only go into the directory if it is not a match OR it is a match and the flag is set to go into matching directories
-                        files.addAll(findFilesRecursive(file, currentDepth + 1, maxDepth, maxDepthHitMsgPattern, recurseIntoDirectoryMatch, filenamePatterns));
+        walk(sourceDirectory, maxDepth, new DepthTrackingFileVisitor() {
+            @Override
+            protected FileVisitResult visitDirectory(final Path directory, final int depth) {
+                if (depth > 0 && filenamePatternMatcher.matches(directory.getFileName().toString())) {
+                    files.add(directory.toFile());
+                    // only go into the directory if it is not a match OR it is a match and the flag is set to go into matching directories
+                    if (!recurseIntoDirectoryMatch) {
+                        return FileVisitResult.SKIP_SUBTREE;
                     }
                 }
-            } else if (children == null) {
-                logger.warn("Directory contents could not be accessed: " + sourceDirectory.getAbsolutePath());
+                return FileVisitResult.CONTINUE;
             }
-        }
+
+            @Override
+            protected void visitEntry(final Path file, final BasicFileAttributes attributes, final int depth) {
+                final boolean fileMatchesPatterns = filenamePatternMatcher.matches(file.getFileName().toString());
+                if (fileMatchesPatterns) {
+                    files.add(file.toFile());
+                }
+                // directories are only handed to visitEntry once they are at the maximum depth
+                if (attributes.isDirectory() && (!fileMatchesPatterns || recurseIntoDirectoryMatch)) {
+                    logMaxDepthHit(maxDepthHitMsgPattern, file.toFile());
+                }
+            }
+        });
         return files;
     }
 
-    private List<File> findDirectoriesContainingDirectoriesToDepthRecursive(final File sourceDirectory, final String directoryPattern, final int currentDepth, final int maxDepth) {
+    private List<File> walkForDirectoriesContainingDirectories(final File sourceDirectory, final FilenamePatternMatcher directoryPatternMatcher, final int maxDepth) {
         final List<File> files = new ArrayList<>();
-        if (currentDepth > maxDepth || !sourceDirectory.isDirectory()) {
+        if (maxDepth < 0 || !sourceDirectory.isDirectory()) {
             return files;
         }
-        for (final File file : sourceDirectory.listFiles()) {
-            if (file.isDirectory()) {
-                if (FilenameUtils.wildcardMatchOnSystem(file.getName(), directoryPattern)) {
-                    files.add(file);
-                } else {
-                    files.addAll(findDirectoriesContainingDirectoriesToDepthRecursive(file, directoryPattern, currentDepth + 1, maxDepth));
+
+        walk(sourceDirectory, childDepth(maxDepth), new DepthTrackingFileVisitor() {
+            @Override
+            protected FileVisitResult visitDirectory(final Path directory, final int depth) {
+                if (depth > 0 && directoryPatternMatcher.matches(directory.getFileName().toString())) {
+                    files.add(directory.toFile());
+                    return FileVisitResult.SKIP_SUBTREE;
                 }
+                return FileVisitResult.CONTINUE;
             }
-        }
+
+            @Override
+            protected void visitEntry(final Path file, final BasicFileAttributes attributes, final int depth) {
+                if (attributes.isDirectory() && directoryPatternMatcher.matches(file.getFileName().toString())) {
+                    files.add(file.toFile());
+                }
+            }
+        });
         return files;
     }
 
-    public List<File> findDirectoriesContainingFilesToDepth(final File sourceDirectory, final String filenamePattern, final int maxDepth) {
-        return findDirectoriesContainingFilesRecursive(sourceDirectory, filenamePattern, 0, maxDepth);
+    private List<File> walkForDirectoriesContainingFiles(final File sourceDirectory, final FilenamePatternMatcher filenamePatternMatcher, final int maxDepth) {
+        final Set<File> files = new LinkedHashSet<>();
+        if (maxDepth < 0 || !sourceDirectory.isDirectory()) {
+            return new ArrayList<>(files);
+        }
+
+        walk(sourceDirectory, childDepth(maxDepth), new DepthTrackingFileVisitor() {
+            @Override
+            protected void visitEntry(final Path file, final BasicFileAttributes attributes, final int depth) {
+                if (!attributes.isDirectory() && filenamePatternMatcher.matches(file.getFileName().toString())) {
+                    files.add(file.getParent().toFile());
+                }
+            }
+        });
+        return new ArrayList<>(files);
     }
 
-    private List<File> findDirectoriesContainingFilesRecursive(final File sourceDirectory, final String filenamePattern, final int currentDepth, final int maxDepth) {
-        final Set<File> files = new HashSet<>();
-        if (currentDepth > maxDepth || !sourceDirectory.isDirectory()) {
-            return new ArrayList<>(files);
+    private int childDepth(final int maxDepth) {
+        // the children of a directory at maxDepth are still inspected
+        return maxDepth == Integer.MAX_VALUE ? maxDepth : maxDepth + 1;
+    }
+
+    private void logMaxDepthHit(final StringBuilder maxDepthHitMsgPattern, final File directory) {
+        if (StringUtils.isNotBlank(maxDepthHitMsgPattern)) {
+            logger.warn(String.format(maxDepthHitMsgPattern.toString(), directory.getAbsolutePath()));
+            // Ensure msg only shown once
+            maxDepthHitMsgPattern.setLength(0);
+        }
+    }
+
+    private void walk(final File sourceDirectory, final int maxDepth, final DepthTrackingFileVisitor visitor) {
+        try {
+            Files.walkFileTree(sourceDirectory.toPath(), EnumSet.of(FileVisitOption.FOLLOW_LINKS), maxDepth, visitor);
+        } catch (final IOException e) {
+            logger.warn("Directory contents could not be accessed: " + sourceDirectory.getAbsolutePath());
+            logger.debug(e.getMessage(), e);
         }
-        for (final File file : sourceDirectory.listFiles()) {
-            if (file.isDirectory()) {
-                files.addAll(findDirectoriesContainingFilesRecursive(file, filenamePattern, currentDepth + 1, maxDepth));
-            } else if (FilenameUtils.wildcardMatchOnSystem(file.getName(), filenamePattern)) {
-                files.add(sourceDirectory);
+    }
+
+    /**
+     * Reports the depth of every entry relative to the walk's starting directory (which is at depth 0). Each entry's attributes are read once by the walk and handed over as is.
+     * Files.walkFileTree hands directories at the maximum depth to visitFile, so visitEntry sees those as well as all non-directory entries.
+     */
+    private abstract class DepthTrackingFileVisitor extends SimpleFileVisitor<Path> {
+        private int directoryDepth = -1;
+
+        protected FileVisitResult visitDirectory(final Path directory, final int depth) {
+            return FileVisitResult.CONTINUE;
+        }
+
+        protected abstract void visitEntry(Path file, BasicFileAttributes attributes, int depth);
+
+        @Override
+        public FileVisitResult preVisitDirectory(final Path directory, final BasicFileAttributes attributes) {
+            final FileVisitResult result = visitDirectory(directory, directoryDepth + 1);
+            if (result == FileVisitResult.CONTINUE) {
+                directoryDepth++;
             }
+            return result;
+        }
+
+        @Override
+        public FileVisitResult visitFile(final Path file, final BasicFileAttributes attributes) {
+            visitEntry(file, attributes, directoryDepth + 1);
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(final Path file, final IOException e) {
+            if (e instanceof FileSystemLoopException) {
+                logger.debug("Skipping symbolic link loop: " + file.toString());
+            } else {
+                logger.warn("Directory contents could not be accessed: " + file.toString());
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult postVisitDirectory(final Path directory, final IOException e) {
+            directoryDepth--;
+            if (e != null) {
+                logger.warn("Directory contents could not be accessed: " + directory.toString());
+            }
+            return FileVisitResult.CONTINUE;
         }
-        return new ArrayList<>(files);
     }
 
     public File findContainingDir(final File givenDir, int numberOfLevelsToWalkBack) {
@@ -0,0 +1,97 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A snapshot of the children of a single directory. The directory is listed at most once, every lookup after that is answered in memory.
+ */
+public class DirectoryListing {
+    private final Logger logger = LoggerFactory.getLogger(DirectoryListing.class);
+
+    private final File directory;
+    private List<File> files;
+
+    /**
+     * Creates a listing that reads the directory the first time it is queried.
+     */
+    public DirectoryListing(final File directory) {
+        this.directory = directory;
+    }
+
+    public DirectoryListing(final File directory, final List<File> files) {
+        this.directory = directory;
+        this.files = Collections.unmodifiableList(files);
+    }
+
+    public static DirectoryListing read(final File directory) throws IOException {
+        final List<File> files = new ArrayList<>();
+        try (final DirectoryStream<Path> stream = Files.newDirectoryStream(directory.toPath())) {
+            for (final Path path : stream) {
+                files.add(path.toFile());
+            }
+        }
+        return new DirectoryListing(directory, files);
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    public synchronized List<File> getFiles() {
+        if (files == null) {
+            final File[] children = directory.listFiles();
+            if (children == null) {
+                logger.debug("Directory contents could not be accessed: " + directory.getAbsolutePath());
+                files = Collections.emptyList();
+            } else {
+                files = Collections.unmodifiableList(Arrays.asList(children));
+            }
+        }
+        return files;
+    }
+
+    public List<File> findFiles(final String filenamePattern) {
+        return findFiles(FilenamePatternMatcher.compile(filenamePattern));
+    }
+
+    public List<File> findFiles(final FilenamePatternMatcher filenamePatternMatcher) {
+        return getFiles().stream()
+                   .filter(file -> filenamePatternMatcher.matches(file.getName()))
+                   .collect(Collectors.toList());
+    }
+}
@@ -43,7 +43,8 @@ public class DirectoryManager {
 
     private enum OutputDirectory {
         Runs("runs"),
-        Tools("tools");
+        Tools("tools"),
+        Cache("cache");
 
         private String directoryName;
 
@@ -143,7 +144,7 @@ public class DirectoryManager {
         return userHome;
     }
 
-    public File getExtractionOutputDirectory(final ExtractionId extractionId) {
+    public synchronized File getExtractionOutputDirectory(final ExtractionId extractionId) {
         if (extractionDirectories.containsKey(extractionId)) {
             return extractionDirectories.get(extractionId);
         } else {
@@ -217,6 +218,10 @@ public class DirectoryManager {
         return new File(getSharedDirectory(sharedDirectory), fileName);
     }
 
+    public File getCacheOutputDirectory() { // shared across all invocations of detect (search and extraction caches)
+        return getOutputDirectory(OutputDirectory.Cache);
+    }
+
     public File getPermanentDirectory() { // shared across all invocations of detect (scan cli)
         return getOutputDirectory(OutputDirectory.Tools);
     }
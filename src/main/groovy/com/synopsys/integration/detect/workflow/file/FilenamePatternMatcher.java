@@ -0,0 +1,162 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.file;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.IOCase;
+
+/**
+ * Matches file names against a set of wildcard patterns ('*' and '?') the same way FilenameUtils.wildcardMatchOnSystem does, but compiles the patterns once.
+ * Literal names are looked up in a hash set, '*suffix' patterns are checked with endsWith and every other glob is folded into a single regular expression.
+ */
+public class FilenamePatternMatcher {
+    private final List<String> patterns;
+    private final boolean caseSensitive;
+    private final Set<String> literalNames = new HashSet<>();
+    private final List<String> suffixes = new ArrayList<>();
+    private final Pattern globPattern;
+
+    private FilenamePatternMatcher(final List<String> patterns, final boolean caseSensitive) {
+        this.patterns = patterns;
+        this.caseSensitive = caseSensitive;
+
+        final List<String> globRegexes = new ArrayList<>();
+        for (final String pattern : patterns) {
+            if (pattern == null) {
+                continue;
+            }
+            final int firstWildcard = indexOfWildcard(pattern, 0);
+            if (firstWildcard < 0) {
+                literalNames.add(normalizeCase(pattern));
+            } else if (firstWildcard == 0 && pattern.charAt(0) == '*' && indexOfWildcard(pattern, 1) < 0) {
+                suffixes.add(normalizeCase(pattern.substring(1)));
+            } else {
+                globRegexes.add(toRegex(pattern));
+            }
+        }
+
+        if (globRegexes.isEmpty()) {
+            globPattern = null;
+        } else {
+            final int flags = caseSensitive ? 0 : Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+            globPattern = Pattern.compile(String.join("|", globRegexes), flags | Pattern.DOTALL);
+        }
+    }
+
+    public static FilenamePatternMatcher compile(final String... patterns) {
+        final List<String> patternList = new ArrayList<>();
+        if (patterns != null) {
+            for (final String pattern : patterns) {
+                patternList.add(pattern);
+            }
+        }
+        return compile(patternList);
+    }
+
+    public static FilenamePatternMatcher compile(final List<String> patterns) {
+        return new FilenamePatternMatcher(patterns, IOCase.SYSTEM.isCaseSensitive());
+    }
+
+    public static FilenamePatternMatcher compileCaseSensitive(final List<String> patterns) {
+        return new FilenamePatternMatcher(patterns, true);
+    }
+
+    public boolean isEmpty() {
+        return literalNames.isEmpty() && suffixes.isEmpty() && globPattern == null;
+    }
+
+    public List<String> getPatterns() {
+        return patterns;
+    }
+
+    public boolean matches(final String filename) {
+        if (filename == null) {
+            return false;
+        }
+        final String normalizedFilename = normalizeCase(filename);
+        if (literalNames.contains(normalizedFilename)) {
+            return true;
+        }
+        for (final String suffix : suffixes) {
+            if (normalizedFilename.endsWith(suffix)) {
+                return true;
+            }
+        }
+        return globPattern != null && globPattern.matcher(filename).matches();
+    }
+
+    /**
+     * Finds the first pattern that matches. Only intended for reporting, the patterns are tested one by one after the compiled match succeeds.
+     */
+    public Optional<String> findMatchingPattern(final String filename) {
+        if (!matches(filename)) {
+            return Optional.empty();
+        }
+        final IOCase ioCase = caseSensitive ? IOCase.SENSITIVE : IOCase.INSENSITIVE;
+        return patterns.stream()
+                   .filter(pattern -> pattern != null && FilenameUtils.wildcardMatch(filename, pattern, ioCase))
+                   .findFirst();
+    }
+
+    private String normalizeCase(final String text) {
+        return caseSensitive ? text : text.toLowerCase(Locale.ROOT);
+    }
+
+    private static int indexOfWildcard(final String pattern, final int fromIndex) {
+        for (int i = fromIndex; i < pattern.length(); i++) {
+            final char c = pattern.charAt(i);
+            if (c == '*' || c == '?') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String toRegex(final String pattern) {
+        final StringBuilder regex = new StringBuilder("(?:");
+        int literalStart = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            final char c = pattern.charAt(i);
+            if (c == '*' || c == '?') {
+                if (i > literalStart) {
+                    regex.append(Pattern.quote(pattern.substring(literalStart, i)));
+                }
+                regex.append(c == '*' ? ".*" : ".");
+                literalStart = i + 1;
+            }
+        }
+        if (literalStart < pattern.length()) {
+            regex.append(Pattern.quote(pattern.substring(literalStart)));
+        }
+        return regex.append(")").toString();
+    }
+}
@@ -34,6 +34,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.synopsys.integration.detect.workflow.file.DetectFileFinder;
+import com.synopsys.integration.detect.workflow.file.FilenamePatternMatcher;
 
 public class ExclusionPatternCreator {
     private final Logger logger = LoggerFactory.getLogger(ExclusionPatternCreator.class);
@@ -53,7 +54,8 @@ public class ExclusionPatternCreator {
         final Set<String> scanExclusionPatterns = new HashSet<>();
         try {
             final String scanTargetPath = scanTarget.getCanonicalPath();
-            final List<File> matchingFiles = detectFileFinder.findAllFilesToDepth(scanTarget, new StringBuilder(maxDepthHitMsg), maxDepth, hubSignatureScannerExclusionNamePatterns);
+            final FilenamePatternMatcher exclusionNameMatcher = FilenamePatternMatcher.compile(hubSignatureScannerExclusionNamePatterns);
+            final List<File> matchingFiles = detectFileFinder.findAllFilesToDepth(scanTarget, new StringBuilder(maxDepthHitMsg), maxDepth, exclusionNameMatcher);
             for (final File matchingFile : matchingFiles) {
                 final String matchingFilePath = matchingFile.getCanonicalPath();
                 final String scanExclusionPattern = createExclusionPatternFromPaths(scanTargetPath, matchingFilePath);
@@ -52,8 +52,8 @@ public abstract class PhoneHomeManager {
         this.eventSystem = eventSystem;
         this.additionalMetaData = additionalMetaData;
 
-        eventSystem.registerListener(Event.SearchCompleted, event -> searchCompleted(event));
-        eventSystem.registerListener(Event.DetectorsProfiled, event -> startPhoneHome(event.getAggregateTimings()));
+        eventSystem.registerAsyncListener(Event.SearchCompleted, event -> searchCompleted(event));
+        eventSystem.registerAsyncListener(Event.DetectorsProfiled, event -> startPhoneHome(event.getAggregateTimings()));
     }
 
     public abstract PhoneHomeResponse phoneHome(final Map<String, String> metadata);
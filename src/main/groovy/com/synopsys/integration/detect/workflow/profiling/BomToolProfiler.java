@@ -23,19 +23,25 @@
  */
 package com.synopsys.integration.detect.workflow.profiling;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.synopsys.integration.detect.detector.Detector;
 import com.synopsys.integration.detect.detector.DetectorType;
 import com.synopsys.integration.detect.workflow.event.Event;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.detect.workflow.extraction.Extraction;
+import com.synopsys.integration.detect.workflow.search.result.DetectorEvaluation;
 
 public class BomToolProfiler {
     public BomToolTimekeeper applicableTimekeeper = new BomToolTimekeeper();
     public BomToolTimekeeper extractableTimekeeper = new BomToolTimekeeper();
     public BomToolTimekeeper extractionTimekeeper = new BomToolTimekeeper();
+    private final Map<Detector, List<ParseTime>> parseTimes = new ConcurrentHashMap<>();
     private EventSystem eventSystem;
 
     public BomToolProfiler(EventSystem eventSystem) {
@@ -45,7 +51,7 @@ public class BomToolProfiler {
         eventSystem.registerListener(Event.ExtractableStarted, event -> extractableStarted(event));
         eventSystem.registerListener(Event.ExtractableEnded, event -> extractableEnded(event));
         eventSystem.registerListener(Event.ExtractionStarted, event -> extractionStarted(event.getDetector()));
-        eventSystem.registerListener(Event.ExtractionEnded, event -> extractionEnded(event.getDetector()));
+        eventSystem.registerListener(Event.ExtractionEnded, event -> extractionEnded(event));
         eventSystem.registerListener(Event.DetectorsComplete, event -> bomToolsComplete());
     }
 
@@ -69,8 +75,26 @@ public class BomToolProfiler {
         extractionTimekeeper.started(detector);
     }
 
-    private void extractionEnded(final Detector detector) {
-        extractionTimekeeper.ended(detector);
+    private void extractionEnded(final DetectorEvaluation evaluation) {
+        extractionTimekeeper.ended(evaluation.getDetector());
+        final Extraction extraction = evaluation.getExtraction();
+        if (extraction != null) {
+            final Optional<Object> extractionParseTimes = extraction.getMetaDataValue(ParseTime.META_DATA_KEY);
+            extractionParseTimes.ifPresent(times -> parseTimes.put(evaluation.getDetector(), toParseTimes(times)));
+        }
+    }
+
+    // Meta data is untyped, so only the elements that really are parse times are kept.
+    private List<ParseTime> toParseTimes(final Object metaDataValue) {
+        final List<ParseTime> times = new ArrayList<>();
+        if (metaDataValue instanceof List) {
+            for (final Object time : (List<?>) metaDataValue) {
+                if (time instanceof ParseTime) {
+                    times.add((ParseTime) time);
+                }
+            }
+        }
+        return times;
     }
 
     public List<DetectorTime> getApplicableTimings() {
@@ -85,8 +109,12 @@ public class BomToolProfiler {
         return extractionTimekeeper.getTimings();
     }
 
+    public Map<Detector, List<ParseTime>> getParseTimings() {
+        return parseTimes;
+    }
+
     public void bomToolsComplete() {
-        DetectorTimings timings = new DetectorTimings(getAggregateBomToolGroupTimes(), getApplicableTimings(), getExtractableTimings(), getExtractionTimings());
+        DetectorTimings timings = new DetectorTimings(getAggregateBomToolGroupTimes(), getApplicableTimings(), getExtractableTimings(), getExtractionTimings(), getParseTimings());
         eventSystem.publishEvent(Event.DetectorsProfiled, timings);
     }
 
@@ -26,6 +26,7 @@ package com.synopsys.integration.detect.workflow.profiling;
 import java.util.List;
 import java.util.Map;
 
+import com.synopsys.integration.detect.detector.Detector;
 import com.synopsys.integration.detect.detector.DetectorType;
 
 public class DetectorTimings {
@@ -33,13 +34,15 @@ public class DetectorTimings {
     private final List<DetectorTime> applicableTimings;
     private final List<DetectorTime> extractableTimings;
     private final List<DetectorTime> extractionTimings;
+    private final Map<Detector, List<ParseTime>> parseTimings;
 
     public DetectorTimings(final Map<DetectorType, Long> aggregateTimings, final List<DetectorTime> applicableTimings,
-        final List<DetectorTime> extractableTimings, final List<DetectorTime> extractionTimings) {
+        final List<DetectorTime> extractableTimings, final List<DetectorTime> extractionTimings, final Map<Detector, List<ParseTime>> parseTimings) {
         this.aggregateTimings = aggregateTimings;
         this.applicableTimings = applicableTimings;
         this.extractableTimings = extractableTimings;
         this.extractionTimings = extractionTimings;
+        this.parseTimings = parseTimings;
     }
 
     public Map<DetectorType, Long> getAggregateTimings() {
@@ -58,4 +61,8 @@ public class DetectorTimings {
         return extractionTimings;
     }
 
+    public Map<Detector, List<ParseTime>> getParseTimings() {
+        return parseTimings;
+    }
+
 }
@@ -0,0 +1,83 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.profiling;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+
+public class ExtractionTimingStore {
+    public static final String EXTRACTION_TIMINGS_FILENAME = "extractionTimings.json";
+
+    private final Logger logger = LoggerFactory.getLogger(ExtractionTimingStore.class);
+
+    private final Gson gson;
+    private final File timingsFile;
+
+    public ExtractionTimingStore(final Gson gson, final File cacheDirectory) {
+        this.gson = gson;
+        this.timingsFile = new File(cacheDirectory, EXTRACTION_TIMINGS_FILENAME);
+    }
+
+    public ExtractionTimings load() {
+        if (!timingsFile.exists()) {
+            logger.debug("No extraction timings were found from previous runs.");
+            return ExtractionTimings.empty();
+        }
+
+        try {
+            final String timingsJson = FileUtils.readFileToString(timingsFile, StandardCharsets.UTF_8);
+            final Type timingsType = new TypeToken<Map<String, Map<String, Long>>>() {}.getType();
+            final Map<String, Map<String, Long>> directories = gson.fromJson(timingsJson, timingsType);
+            if (directories == null) {
+                return ExtractionTimings.empty();
+            }
+            logger.debug(String.format("Loaded extraction timings for %d directories.", directories.size()));
+            return new ExtractionTimings(directories);
+        } catch (final IOException | JsonParseException e) {
+            logger.warn(String.format("Unable to read the extraction timings %s: %s", timingsFile.getAbsolutePath(), e.getMessage()));
+            return ExtractionTimings.empty();
+        }
+    }
+
+    public void save(final ExtractionTimings extractionTimings) {
+        try {
+            FileUtils.writeStringToFile(timingsFile, gson.toJson(new TreeMap<>(extractionTimings.getDirectories())), StandardCharsets.UTF_8);
+            logger.debug(String.format("Saved extraction timings to %s.", timingsFile.getAbsolutePath()));
+        } catch (final IOException e) {
+            logger.warn(String.format("Unable to save the extraction timings %s: %s", timingsFile.getAbsolutePath(), e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.profiling;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.synopsys.integration.detect.workflow.search.result.DetectorEvaluation;
+
+/*
+ * Extraction durations from previous runs keyed by directory and then by detector descriptive name.
+ */
+public class ExtractionTimings {
+    private final Map<String, Map<String, Long>> directories;
+
+    public ExtractionTimings(final Map<String, Map<String, Long>> directories) {
+        this.directories = directories;
+    }
+
+    public static ExtractionTimings empty() {
+        return new ExtractionTimings(new HashMap<>());
+    }
+
+    // A detector that has not run in this directory before is assumed to take as long as it took on average in other directories.
+    public long estimate(final DetectorEvaluation detectorEvaluation) {
+        final String detectorName = detectorEvaluation.getDetector().getDescriptiveName();
+        final Map<String, Long> detectorTimings = directories.get(directoryKey(detectorEvaluation));
+        if (detectorTimings != null && detectorTimings.containsKey(detectorName)) {
+            return detectorTimings.get(detectorName);
+        }
+
+        final OptionalDouble average = directories.values().stream()
+                                           .filter(it -> it.containsKey(detectorName))
+                                           .mapToLong(it -> it.get(detectorName))
+                                           .average();
+        return (long) average.orElse(0);
+    }
+
+    public void record(final DetectorEvaluation detectorEvaluation, final long ms) {
+        directories.computeIfAbsent(directoryKey(detectorEvaluation), it -> new HashMap<>()).put(detectorEvaluation.getDetector().getDescriptiveName(), ms);
+    }
+
+    // Directories are keyed by absolute path, so only the directories evaluated in this run are kept to stop the timings growing with every source tree.
+    public void retainDirectories(final List<DetectorEvaluation> detectorEvaluations) {
+        final Set<String> directoryKeys = detectorEvaluations.stream()
+                                              .map(this::directoryKey)
+                                              .collect(Collectors.toSet());
+        directories.keySet().retainAll(directoryKeys);
+    }
+
+    public Map<String, Map<String, Long>> getDirectories() {
+        return directories;
+    }
+
+    private String directoryKey(final DetectorEvaluation detectorEvaluation) {
+        return detectorEvaluation.getEnvironment().getDirectory().getAbsolutePath();
+    }
+}
@@ -0,0 +1,48 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.profiling;
+
+/**
+ * How long an extractor took to parse one of the files it read. Extractors hand these to the profiler as a list under META_DATA_KEY in their extraction meta
+ * data.
+ */
+public class ParseTime {
+    public static final String META_DATA_KEY = "parseTimes";
+
+    private final String name;
+    private final long ms;
+
+    public ParseTime(final String name, final long ms) {
+        this.name = name;
+        this.ms = ms;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getMs() {
+        return ms;
+    }
+}
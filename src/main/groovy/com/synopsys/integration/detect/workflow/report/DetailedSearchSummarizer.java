@@ -59,13 +59,13 @@ public class DetailedSearchSummarizer extends DetectorEvaluationSummarizer {
         for (final DetectorEvaluation evaluation : evaluations) {
             if (evaluation.isApplicable()) {
                 final String reason = "Search: " + evaluation.getSearchabilityMessage() + " Applicable: " + evaluation.getApplicabilityMessage();
-                applicable.add(new DetailedSearchSummaryBomToolData(evaluation.getDetector(), reason));
+                applicable.add(new DetailedSearchSummaryBomToolData(evaluation.getDetectorDescriptiveName(), reason));
             } else if (evaluation.isSearchable()) {
                 final String reason = evaluation.getApplicabilityMessage();
-                notApplicable.add(new DetailedSearchSummaryBomToolData(evaluation.getDetector(), reason));
+                notApplicable.add(new DetailedSearchSummaryBomToolData(evaluation.getDetectorDescriptiveName(), reason));
             } else {
                 final String reason = evaluation.getSearchabilityMessage();
-                notSearchable.add(new DetailedSearchSummaryBomToolData(evaluation.getDetector(), reason));
+                notSearchable.add(new DetailedSearchSummaryBomToolData(evaluation.getDetectorDescriptiveName(), reason));
             }
         }
 
@@ -23,19 +23,17 @@
  */
 package com.synopsys.integration.detect.workflow.report;
 
-import com.synopsys.integration.detect.detector.Detector;
-
 public class DetailedSearchSummaryBomToolData {
-    private final Detector detector;
+    private final String detectorDescriptiveName;
     private final String reason;
 
-    public DetailedSearchSummaryBomToolData(final Detector detector, final String reason) {
-        this.detector = detector;
+    public DetailedSearchSummaryBomToolData(final String detectorDescriptiveName, final String reason) {
+        this.detectorDescriptiveName = detectorDescriptiveName;
         this.reason = reason;
     }
 
-    public Detector getDetector() {
-        return detector;
+    public String getDetectorDescriptiveName() {
+        return detectorDescriptiveName;
     }
 
     public String getReason() {
@@ -58,7 +58,7 @@ public class DetailedSearchSummaryReporter {
     private List<String> printDetails(final ReportWriter writer, final String prefix, final List<DetailedSearchSummaryBomToolData> details) {
         final List<String> toPrint = new ArrayList<>();
         for (final DetailedSearchSummaryBomToolData detail : details) {
-            toPrint.add(prefix + detail.getDetector().getDescriptiveName() + ": " + detail.getReason());
+            toPrint.add(prefix + detail.getDetectorDescriptiveName() + ": " + detail.getReason());
         }
         return toPrint;
     }
@@ -27,8 +27,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.synopsys.integration.detect.detector.Detector;
 import com.synopsys.integration.detect.workflow.profiling.DetectorTime;
 import com.synopsys.integration.detect.workflow.profiling.DetectorTimings;
+import com.synopsys.integration.detect.workflow.profiling.ParseTime;
 import com.synopsys.integration.detect.workflow.report.writer.ReportWriter;
 
 public class ProfilingReporter {
@@ -45,6 +47,21 @@ public class ProfilingReporter {
         writer.writeLine("Extraction Times");
         writer.writeSeperator();
         writeReport(writer, detectorTimings.getExtractionTimings());
+        if (!detectorTimings.getParseTimings().isEmpty()) {
+            writer.writeSeperator();
+            writer.writeLine("Parse Times");
+            writer.writeSeperator();
+            writeParseReport(writer, detectorTimings.getParseTimings());
+        }
+    }
+
+    private void writeParseReport(final ReportWriter writer, final Map<Detector, List<ParseTime>> parseTimings) {
+        for (final Map.Entry<Detector, List<ParseTime>> detectorParseTimes : parseTimings.entrySet()) {
+            final String name = detectorParseTimes.getKey().getDescriptiveName();
+            for (final ParseTime parseTime : detectorParseTimes.getValue()) {
+                writer.writeLine("\t" + padToLength(name, 30) + "\t" + parseTime.getName() + "\t" + parseTime.getMs());
+            }
+        }
     }
 
     private void writeAggregateReport(final ReportWriter writer, final List<DetectorTime> timings) {
@@ -0,0 +1,60 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.search;
+
+/**
+ * A child of a searched directory that the search may descend into, either a directory itself or a symbolic link to one. The modification time is only
+ * kept for directories, links are resolved again whenever they are searched.
+ */
+public class ChildDirectory {
+    private final String name;
+    private final long lastModified;
+    private final boolean symbolicLink;
+
+    private ChildDirectory(final String name, final long lastModified, final boolean symbolicLink) {
+        this.name = name;
+        this.lastModified = lastModified;
+        this.symbolicLink = symbolicLink;
+    }
+
+    public static ChildDirectory directory(final String name, final long lastModified) {
+        return new ChildDirectory(name, lastModified, false);
+    }
+
+    public static ChildDirectory symbolicLink(final String name) {
+        return new ChildDirectory(name, 0, true);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public boolean isSymbolicLink() {
+        return symbolicLink;
+    }
+}
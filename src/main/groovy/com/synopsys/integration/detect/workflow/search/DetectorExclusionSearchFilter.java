@@ -25,27 +25,44 @@ package com.synopsys.integration.detect.workflow.search;
 
 import java.io.File;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import org.apache.commons.io.FilenameUtils;
-import org.apache.commons.io.filefilter.WildcardFileFilter;
+import com.synopsys.integration.detect.workflow.file.FilenamePatternMatcher;
 
+/**
+ * Excluded directory names are matched on the system's case sensitivity, excluded name patterns are case sensitive. Both are compiled once and only the name
+ * of the file is checked, so the file system is never touched. Every exclusion is counted against the pattern that caused it, so it must only be asked about
+ * directories.
+ */
 public class DetectorExclusionSearchFilter implements DetectorSearchFilter {
-    private List<String> excludedDirectories;
-    private WildcardFileFilter fileFilter;
+    private final FilenamePatternMatcher excludedDirectoryMatcher;
+    private final FilenamePatternMatcher excludedDirectoryNamePatternMatcher;
+    private final Map<String, AtomicInteger> skipCounts = new ConcurrentHashMap<>();
 
     public DetectorExclusionSearchFilter(List<String> excludedDirectories, List<String> excludedDirectoryNamePatterns){
-        this.excludedDirectories = excludedDirectories;
-        fileFilter = new WildcardFileFilter(excludedDirectoryNamePatterns);
+        excludedDirectoryMatcher = FilenamePatternMatcher.compile(excludedDirectories);
+        excludedDirectoryNamePatternMatcher = FilenamePatternMatcher.compileCaseSensitive(excludedDirectoryNamePatterns);
     }
 
     @Override
     public boolean shouldExclude(File file) {
-        for (final String excludedDirectory : excludedDirectories) {
-            if (FilenameUtils.wildcardMatchOnSystem(file.getName(), excludedDirectory)) {
-                return true;
-            }
+        final String name = file.getName();
+        Optional<String> matchingPattern = excludedDirectoryMatcher.findMatchingPattern(name);
+        if (!matchingPattern.isPresent()) {
+            matchingPattern = excludedDirectoryNamePatternMatcher.findMatchingPattern(name);
         }
 
-        return fileFilter.accept(file); //returns TRUE if it matches one of the file filters.
+        matchingPattern.ifPresent(pattern -> skipCounts.computeIfAbsent(pattern, key -> new AtomicInteger()).incrementAndGet());
+        return matchingPattern.isPresent();
+    }
+
+    public Map<String, Integer> getSkipCounts() {
+        final Map<String, Integer> counts = new TreeMap<>();
+        skipCounts.forEach((pattern, count) -> counts.put(pattern, count.get()));
+        return counts;
     }
 }
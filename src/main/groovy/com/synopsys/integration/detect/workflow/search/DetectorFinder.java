@@ -26,14 +26,19 @@ package com.synopsys.integration.detect.workflow.search;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
+import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,20 +48,47 @@ import com.synopsys.integration.detect.detector.DetectorException;
 import com.synopsys.integration.detect.detector.DetectorType;
 import com.synopsys.integration.detect.exception.DetectUserFriendlyException;
 import com.synopsys.integration.detect.exitcode.ExitCodeType;
+import com.synopsys.integration.detect.workflow.file.DirectoryListing;
+import com.synopsys.integration.detect.workflow.search.cache.CachedDirectory;
+import com.synopsys.integration.detect.workflow.search.cache.SearchCache;
 import com.synopsys.integration.detect.workflow.search.result.DetectorEvaluation;
 import com.synopsys.integration.detect.workflow.search.rules.DetectorSearchRuleSet;
 
 public class DetectorFinder {
     private final Logger logger = LoggerFactory.getLogger(DetectorFinder.class);
 
+    /**
+     * The initial directory is searched first, then each directory outside it that a link points to, in link path order and each at most once.
+     */
     public List<DetectorEvaluation> findApplicableBomTools(final File initialDirectory, final DetectorFinderOptions options) throws DetectorException, DetectUserFriendlyException {
-        final List<File> subDirectories = new ArrayList<>();
-        subDirectories.add(initialDirectory);
-        return findApplicableBomTools(subDirectories, new HashSet<Detector>(), 0, options);
+        if (options.getSearchParallelism() > 1) {
+            logger.info(String.format("Searching with a parallelism of %d.", options.getSearchParallelism()));
+        }
+        final ExternalDirectories externalDirectories = new ExternalDirectories();
+        final List<DetectorEvaluation> results = findApplicableBomTools(SearchDirectory.root(initialDirectory), new HashSet<>(), 0, options, externalDirectories);
+
+        Optional<ExternalDirectories.ExternalDirectory> externalDirectory = externalDirectories.claimNext();
+        while (externalDirectory.isPresent()) {
+            final ExternalDirectories.ExternalDirectory claimed = externalDirectory.get();
+            results.addAll(findApplicableBomTools(claimed.getSearchDirectory(), claimed.getAppliedBefore(), claimed.getDepth(), options, externalDirectories));
+            externalDirectory = externalDirectories.claimNext();
+        }
+        return results;
+    }
+
+    private List<DetectorEvaluation> findApplicableBomTools(final SearchDirectory searchRoot, final Set<Detector> appliedBefore, final int depth, final DetectorFinderOptions options,
+        final ExternalDirectories externalDirectories) throws DetectorException, DetectUserFriendlyException {
+        if (options.getSearchParallelism() > 1) {
+            return findApplicableBomToolsInParallel(searchRoot, appliedBefore, depth, options, externalDirectories);
+        }
+
+        final List<SearchDirectory> subDirectories = new ArrayList<>();
+        subDirectories.add(searchRoot);
+        return findApplicableBomTools(subDirectories, appliedBefore, depth, options, externalDirectories);
     }
 
-    private List<DetectorEvaluation> findApplicableBomTools(final List<File> directoriesToSearch, final Set<Detector> appliedBefore, final int depth, final DetectorFinderOptions options)
-        throws DetectorException, DetectUserFriendlyException {
+    private List<DetectorEvaluation> findApplicableBomTools(final List<SearchDirectory> directoriesToSearch, final Set<Detector> appliedBefore, final int depth, final DetectorFinderOptions options,
+        final ExternalDirectories externalDirectories) throws DetectorException, DetectUserFriendlyException {
 
         final List<DetectorEvaluation> results = new ArrayList<>();
 
@@ -68,17 +100,13 @@ public class DetectorFinder {
             return results;
         }
 
-        for (final File directory : directoriesToSearch) {
-            if (depth > 0 && options.getDetectorSearchFilter().shouldExclude(directory)) { // NEVER skip at depth 0.
-                logger.info("Skipping excluded directory: " + directory.getPath());
-                continue;
-            }
-
-            logger.info("Searching directory: " + directory.getPath());
+        for (final SearchDirectory searchDirectory : directoriesToSearch) {
+            final File directory = searchDirectory.getDirectory();
 
             final Set<DetectorType> applicableTypes = new HashSet<>();
             final Set<Detector> applied = new HashSet<>();
-            final List<DetectorEvaluation> evaluations = processDirectory(directory, appliedBefore, depth, options);
+            final SearchedDirectory searchedDirectory = searchDirectory(searchDirectory, appliedBefore, depth, options);
+            final List<DetectorEvaluation> evaluations = searchedDirectory.evaluations;
             results.addAll(evaluations);
 
             final List<Detector> appliedBomTools = evaluations.stream()
@@ -92,9 +120,11 @@ public class DetectorFinder {
             final Set<Detector> everApplied = new HashSet<>();
             everApplied.addAll(applied);
             everApplied.addAll(appliedBefore);
-            final List<File> subdirectories = getSubDirectories(directory, options.getDetectorSearchFilter());
-            final List<DetectorEvaluation> recursiveResults = findApplicableBomTools(subdirectories, everApplied, depth + 1, options);
-            results.addAll(recursiveResults);
+            if (depth + 1 <= options.getMaximumDepth()) {
+                final List<SearchDirectory> subdirectories = getSubDirectories(searchDirectory, searchedDirectory.childDirectories, everApplied, depth + 1, options, externalDirectories);
+                final List<DetectorEvaluation> recursiveResults = findApplicableBomTools(subdirectories, everApplied, depth + 1, options, externalDirectories);
+                results.addAll(recursiveResults);
+            }
 
             logger.debug(directory + ": " + applicableTypes.stream().map(it -> it.toString()).collect(Collectors.joining(", ")));
         }
@@ -102,27 +132,210 @@ public class DetectorFinder {
         return results;
     }
 
-    private List<DetectorEvaluation> processDirectory(final File directory, final Set<Detector> appliedBefore, final int depth, final DetectorFinderOptions options) {
-        final DetectorEnvironment environment = new DetectorEnvironment(directory, appliedBefore, depth, options.getDetectorFilter(), options.getForceNestedSearch());
+    private List<DetectorEvaluation> findApplicableBomToolsInParallel(final SearchDirectory searchRoot, final Set<Detector> appliedBefore, final int depth, final DetectorFinderOptions options,
+        final ExternalDirectories externalDirectories) throws DetectUserFriendlyException {
+        final ForkJoinPool searchPool = new ForkJoinPool(options.getSearchParallelism());
+        try {
+            return searchPool.invoke(new DirectorySearchTask(searchRoot, appliedBefore, depth, options, externalDirectories));
+        } catch (final RuntimeException e) {
+            final int causeIndex = ExceptionUtils.indexOfThrowable(e, DetectUserFriendlyException.class);
+            if (causeIndex >= 0) {
+                throw (DetectUserFriendlyException) ExceptionUtils.getThrowableList(e).get(causeIndex);
+            }
+            throw e;
+        } finally {
+            searchPool.shutdown();
+        }
+    }
+
+    /**
+     * An unchanged directory is answered from the search cache without being listed, otherwise it is listed and its child directories are found. Child
+     * directories are only needed to search deeper, but they are always found when caching so the recorded directory is complete.
+     */
+    private SearchedDirectory searchDirectory(final SearchDirectory searchDirectory, final Set<Detector> appliedBefore, final int depth, final DetectorFinderOptions options)
+        throws DetectUserFriendlyException {
+        final File directory = searchDirectory.getDirectory();
+        logger.info("Searching directory: " + directory.getPath());
+
+        final Optional<SearchCache> searchCache = options.getSearchCache();
+        final Optional<CachedDirectory> cachedDirectory = searchCache.flatMap(it -> it.findUnchanged(directory));
+        final long lastModified;
+        final DirectoryListing directoryListing;
+        final List<ChildDirectory> childDirectories;
+        if (cachedDirectory.isPresent()) {
+            lastModified = cachedDirectory.get().getLastModified();
+            directoryListing = cachedDirectory.get().toDirectoryListing(directory);
+            childDirectories = cachedDirectory.get().getChildDirectories();
+        } else {
+            lastModified = searchCache.isPresent() ? SearchCache.lastModified(directory) : -1;
+            directoryListing = listDirectory(directory);
+            if (searchCache.isPresent() || depth + 1 <= options.getMaximumDepth()) {
+                childDirectories = findChildDirectories(directoryListing, options);
+            } else {
+                childDirectories = new ArrayList<>();
+            }
+        }
+
+        final DetectorEnvironment environment = new DetectorEnvironment(directoryListing, appliedBefore, depth, options.getDetectorFilter(), options.getForceNestedSearch());
         final DetectorSearchRuleSet bomToolSet = options.getDetectorSearchProvider().createBomToolSearchRuleSet(environment);
-        final List<DetectorEvaluation> evaluations = options.getDetectorSearchEvaluator().evaluate(bomToolSet, options.getEventSystem());
-        return evaluations;
+        final List<DetectorEvaluation> evaluations;
+        if (searchCache.isPresent()) {
+            evaluations = options.getDetectorSearchEvaluator().evaluate(bomToolSet, options.getEventSystem(), cachedDirectory);
+            searchCache.get().record(directoryListing, lastModified, childDirectories, evaluations);
+        } else {
+            evaluations = options.getDetectorSearchEvaluator().evaluate(bomToolSet, options.getEventSystem());
+        }
+        options.getSearchedDirectoryConsumer().accept(evaluations);
+        return new SearchedDirectory(evaluations, childDirectories);
     }
 
-    private List<File> getSubDirectories(final File directory, DetectorSearchFilter filter) throws DetectUserFriendlyException {
-        Stream<Path> stream = null;
+    private DirectoryListing listDirectory(final File directory) throws DetectUserFriendlyException {
         try {
-            stream = Files.list(directory.toPath());
-            return stream.map(path -> path.toFile())
-                       .filter(file -> file.isDirectory())
-                       .collect(Collectors.toList());
-
+            return DirectoryListing.read(directory);
         } catch (final IOException e) {
             throw new DetectUserFriendlyException(String.format("Could not get the subdirectories for %s. %s", directory.getAbsolutePath(), e.getMessage()), e, ExitCodeType.FAILURE_GENERAL_ERROR);
-        } finally {
-            if (stream != null) {
-                stream.close();
+        }
+    }
+
+    /**
+     * The link itself is read first, so only links need a second read for their target. Exclusions are not applied here, so a cached directory stays valid
+     * for the exclusions of the run that reads it.
+     */
+    private List<ChildDirectory> findChildDirectories(final DirectoryListing directoryListing, final DetectorFinderOptions options) {
+        final List<ChildDirectory> childDirectories = new ArrayList<>();
+        for (final File file : directoryListing.getFiles()) {
+            final Path path = file.toPath();
+            final Optional<BasicFileAttributes> attributes = readAttributes(path, LinkOption.NOFOLLOW_LINKS);
+            if (!attributes.isPresent()) {
+                continue;
             }
+            if (attributes.get().isDirectory()) {
+                childDirectories.add(ChildDirectory.directory(file.getName(), attributes.get().lastModifiedTime().toMillis()));
+                continue;
+            }
+            if (!attributes.get().isSymbolicLink()) {
+                continue;
+            }
+            if (!options.getFollowSymLinks()) {
+                logger.debug("Skipping symbolic link: " + file.getPath());
+                continue;
+            }
+            final Optional<BasicFileAttributes> targetAttributes = readAttributes(path);
+            if (targetAttributes.isPresent() && targetAttributes.get().isDirectory()) {
+                childDirectories.add(ChildDirectory.symbolicLink(file.getName()));
+            }
+        }
+        return childDirectories;
+    }
+
+    /**
+     * Exclusions are checked once a child is known to be a directory, so the skip counts only count pruned directories, and an excluded directory is never
+     * listed. The initial directory is never a child, so it is never excluded. Links to directories outside the initial directory are not returned, they are
+     * handed to externalDirectories to be searched once the current tree has been.
+     */
+    private List<SearchDirectory> getSubDirectories(final SearchDirectory parent, final List<ChildDirectory> childDirectories, final Set<Detector> appliedBefore, final int depth,
+        final DetectorFinderOptions options, final ExternalDirectories externalDirectories) {
+        final List<SearchDirectory> subDirectories = new ArrayList<>();
+        for (final ChildDirectory childDirectory : childDirectories) {
+            final File file = new File(parent.getDirectory(), childDirectory.getName());
+            if (options.getDetectorSearchFilter().shouldExclude(file)) {
+                logger.debug("Skipping excluded path: " + file.getPath());
+                continue;
+            }
+
+            if (!childDirectory.isSymbolicLink()) {
+                final SearchDirectory subDirectory = parent.child(file);
+                if (externalDirectories.isSearched(subDirectory)) {
+                    logger.debug("Skipping directory that was already searched through a symbolic link: " + file.getPath());
+                    continue;
+                }
+                subDirectories.add(subDirectory);
+                continue;
+            }
+            final SearchDirectory linkedDirectory = parent.linkedChild(file);
+            if (linkedDirectory == null) {
+                logger.debug("Skipping symbolic link to a directory that is searched through another path: " + file.getPath());
+                continue;
+            }
+            externalDirectories.defer(linkedDirectory, appliedBefore, depth);
+        }
+        return subDirectories;
+    }
+
+    private Optional<BasicFileAttributes> readAttributes(final Path path, final LinkOption... linkOptions) {
+        try {
+            return Optional.of(Files.readAttributes(path, BasicFileAttributes.class, linkOptions));
+        } catch (final IOException e) {
+            logger.debug(String.format("Could not read the attributes of %s: %s", path, e.getMessage()));
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Searches a single directory and forks a task per subdirectory. Subtask results are joined in directory order so the evaluations match a serial search.
+     */
+    private class DirectorySearchTask extends RecursiveTask<List<DetectorEvaluation>> {
+        private final SearchDirectory searchDirectory;
+        private final Set<Detector> appliedBefore;
+        private final int depth;
+        private final DetectorFinderOptions options;
+        private final ExternalDirectories externalDirectories;
+
+        public DirectorySearchTask(final SearchDirectory searchDirectory, final Set<Detector> appliedBefore, final int depth, final DetectorFinderOptions options,
+            final ExternalDirectories externalDirectories) {
+            this.searchDirectory = searchDirectory;
+            this.appliedBefore = appliedBefore;
+            this.depth = depth;
+            this.options = options;
+            this.externalDirectories = externalDirectories;
+        }
+
+        @Override
+        protected List<DetectorEvaluation> compute() {
+            final SearchedDirectory searchedDirectory;
+            try {
+                searchedDirectory = searchDirectory(searchDirectory, appliedBefore, depth, options);
+            } catch (final DetectUserFriendlyException e) {
+                throw new RuntimeException(e);
+            }
+
+            final List<DetectorEvaluation> results = new ArrayList<>();
+            final List<DetectorEvaluation> evaluations = searchedDirectory.evaluations;
+            results.addAll(evaluations);
+
+            if (depth + 1 > options.getMaximumDepth()) {
+                return results;
+            }
+
+            final Set<Detector> everApplied = new HashSet<>();
+            everApplied.addAll(appliedBefore);
+            evaluations.stream()
+                .filter(it -> it.isApplicable())
+                .map(it -> it.getDetector())
+                .forEach(everApplied::add);
+
+            final List<SearchDirectory> subdirectories = getSubDirectories(searchDirectory, searchedDirectory.childDirectories, everApplied, depth + 1, options, externalDirectories);
+            final List<DirectorySearchTask> subtasks = new ArrayList<>();
+            for (final SearchDirectory subdirectory : subdirectories) {
+                subtasks.add(new DirectorySearchTask(subdirectory, everApplied, depth + 1, options, externalDirectories));
+            }
+
+            invokeAll(subtasks);
+            for (final DirectorySearchTask subtask : subtasks) {
+                results.addAll(subtask.join());
+            }
+
+            return results;
+        }
+    }
+
+    private static class SearchedDirectory {
+        private final List<DetectorEvaluation> evaluations;
+        private final List<ChildDirectory> childDirectories;
+
+        public SearchedDirectory(final List<DetectorEvaluation> evaluations, final List<ChildDirectory> childDirectories) {
+            this.evaluations = evaluations;
+            this.childDirectories = childDirectories;
         }
     }
 }
@@ -23,8 +23,14 @@
  */
 package com.synopsys.integration.detect.workflow.search;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
 import com.synopsys.integration.detect.util.filter.DetectFilter;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.detect.workflow.search.cache.SearchCache;
+import com.synopsys.integration.detect.workflow.search.result.DetectorEvaluation;
 import com.synopsys.integration.detect.workflow.search.rules.DetectorSearchEvaluator;
 import com.synopsys.integration.detect.workflow.search.rules.DetectorSearchProvider;
 
@@ -37,9 +43,14 @@ public class DetectorFinderOptions {
     private final DetectorSearchProvider detectorSearchProvider;
     private final DetectorSearchEvaluator detectorSearchEvaluator;
     private final EventSystem eventSystem;
+    private final int searchParallelism;
+    private final Optional<SearchCache> searchCache;
+    private final boolean followSymLinks;
+    private final Consumer<List<DetectorEvaluation>> searchedDirectoryConsumer;
 
     public DetectorFinderOptions(DetectorSearchFilter detectorSearchFilter, final Boolean forceNestedSearch, final int maximumDepth, final DetectFilter detectorFilter,
-        final DetectorSearchProvider detectorSearchProvider, final DetectorSearchEvaluator detectorSearchEvaluator, EventSystem eventSystem) {
+        final DetectorSearchProvider detectorSearchProvider, final DetectorSearchEvaluator detectorSearchEvaluator, EventSystem eventSystem, final int searchParallelism,
+        final Optional<SearchCache> searchCache, final boolean followSymLinks, final Consumer<List<DetectorEvaluation>> searchedDirectoryConsumer) {
         this.detectorSearchFilter = detectorSearchFilter;
         this.forceNestedSearch = forceNestedSearch;
         this.maximumDepth = maximumDepth;
@@ -47,6 +58,10 @@ public class DetectorFinderOptions {
         this.detectorSearchProvider = detectorSearchProvider;
         this.detectorSearchEvaluator = detectorSearchEvaluator;
         this.eventSystem = eventSystem;
+        this.searchParallelism = searchParallelism;
+        this.searchCache = searchCache;
+        this.followSymLinks = followSymLinks;
+        this.searchedDirectoryConsumer = searchedDirectoryConsumer;
     }
 
     public DetectorSearchFilter getDetectorSearchFilter() {
@@ -76,4 +91,23 @@ public class DetectorFinderOptions {
     public EventSystem getEventSystem() {
         return eventSystem;
     }
+
+    public int getSearchParallelism() {
+        return searchParallelism;
+    }
+
+    public Optional<SearchCache> getSearchCache() {
+        return searchCache;
+    }
+
+    public boolean getFollowSymLinks() {
+        return followSymLinks;
+    }
+
+    /**
+     * Receives the evaluations of each directory as soon as it has been searched, possibly from several search threads at once.
+     */
+    public Consumer<List<DetectorEvaluation>> getSearchedDirectoryConsumer() {
+        return searchedDirectoryConsumer;
+    }
 }
@@ -0,0 +1,119 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.search;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.detect.detector.Detector;
+
+/**
+ * Directories outside the initial directory that symbolic links point to. They are collected while a tree is searched and claimed afterwards one at a time in
+ * link path order, so which link wins never depends on how a parallel search was scheduled. A target is claimed once by its file key, or its real path where
+ * the file system has no file keys, and a target inside an external directory that was already searched is skipped.
+ */
+public class ExternalDirectories {
+    private final Logger logger = LoggerFactory.getLogger(ExternalDirectories.class);
+
+    private final PriorityQueue<ExternalDirectory> pending = new PriorityQueue<>(Comparator.comparing((ExternalDirectory it) -> it.getSearchDirectory().getDirectory().getPath()));
+    private final Set<Object> claimedKeys = new HashSet<>();
+    private final List<Path> searchedPaths = new ArrayList<>();
+
+    public synchronized void defer(final SearchDirectory searchDirectory, final Set<Detector> appliedBefore, final int depth) {
+        pending.add(new ExternalDirectory(searchDirectory, appliedBefore, depth));
+    }
+
+    public synchronized Optional<ExternalDirectory> claimNext() {
+        while (!pending.isEmpty()) {
+            final ExternalDirectory next = pending.poll();
+            final Path realPath = next.getSearchDirectory().getRealPath();
+            if (isInsideSearchedPath(realPath) || !claimedKeys.add(findKey(realPath))) {
+                logger.debug("Skipping symbolic link to a directory that was already searched: " + next.getSearchDirectory().getDirectory().getPath());
+                continue;
+            }
+            searchedPaths.add(realPath);
+            return Optional.of(next);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * True when the directory is one that was already searched through a link, so a search of a directory above it must not search it again.
+     */
+    public synchronized boolean isSearched(final SearchDirectory searchDirectory) {
+        return searchedPaths.contains(searchDirectory.getRealPath());
+    }
+
+    private boolean isInsideSearchedPath(final Path realPath) {
+        return searchedPaths.stream().anyMatch(realPath::startsWith);
+    }
+
+    private Object findKey(final Path realPath) {
+        try {
+            final Object fileKey = Files.readAttributes(realPath, BasicFileAttributes.class).fileKey();
+            if (fileKey != null) {
+                return fileKey;
+            }
+        } catch (final IOException e) {
+            logger.debug(String.format("Could not read the attributes of %s: %s", realPath, e.getMessage()));
+        }
+        return realPath;
+    }
+
+    public static class ExternalDirectory {
+        private final SearchDirectory searchDirectory;
+        private final Set<Detector> appliedBefore;
+        private final int depth;
+
+        public ExternalDirectory(final SearchDirectory searchDirectory, final Set<Detector> appliedBefore, final int depth) {
+            this.searchDirectory = searchDirectory;
+            this.appliedBefore = appliedBefore;
+            this.depth = depth;
+        }
+
+        public SearchDirectory getSearchDirectory() {
+            return searchDirectory;
+        }
+
+        public Set<Detector> getAppliedBefore() {
+            return appliedBefore;
+        }
+
+        public int getDepth() {
+            return depth;
+        }
+    }
+}
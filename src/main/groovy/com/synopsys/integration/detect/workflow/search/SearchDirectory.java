@@ -0,0 +1,99 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.search;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * A directory to search along with its real path and the directories above it. Real paths are derived from the parent's, so only a directory reached
+ * through a symbolic link needs its own lookup.
+ *
+ * A link is only searched when its target is outside the initial directory, since anything inside is searched through its real path instead, and when
+ * its target is not one of the directories above it, which would be a loop. Both checks only look at the directory's own branch, so the result does not
+ * depend on listing order or on which branch a parallel search reaches first. Links that pass them are searched once the tree they were found in has been,
+ * see ExternalDirectories.
+ */
+public class SearchDirectory {
+    private final File directory;
+    private final Path realPath;
+    private final Path searchRoot;
+    private final SearchDirectory parent;
+
+    private SearchDirectory(final File directory, final Path realPath, final Path searchRoot, final SearchDirectory parent) {
+        this.directory = directory;
+        this.realPath = realPath;
+        this.searchRoot = searchRoot;
+        this.parent = parent;
+    }
+
+    public static SearchDirectory root(final File directory) {
+        final Path realPath = findRealPath(directory.toPath());
+        return new SearchDirectory(directory, realPath, realPath, null);
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    public Path getRealPath() {
+        return realPath;
+    }
+
+    /**
+     * A child that is a directory itself, rather than a link to one.
+     */
+    public SearchDirectory child(final File childDirectory) {
+        return new SearchDirectory(childDirectory, realPath.resolve(childDirectory.getName()), searchRoot, this);
+    }
+
+    /**
+     * A child that links to a directory, or null when the target is searched through another path.
+     */
+    public SearchDirectory linkedChild(final File childDirectory) {
+        final Path targetPath = findRealPath(childDirectory.toPath());
+        if (targetPath.startsWith(searchRoot) || isOnBranch(targetPath)) {
+            return null;
+        }
+        return new SearchDirectory(childDirectory, targetPath, searchRoot, this);
+    }
+
+    private boolean isOnBranch(final Path path) {
+        for (SearchDirectory current = this; current != null; current = current.parent) {
+            if (current.realPath.equals(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Path findRealPath(final Path path) {
+        try {
+            return path.toRealPath();
+        } catch (final IOException e) {
+            return path.toAbsolutePath().normalize();
+        }
+    }
+}
@@ -25,7 +25,10 @@ package com.synopsys.integration.detect.workflow.search;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -35,6 +38,8 @@ import com.synopsys.integration.detect.detector.DetectorException;
 import com.synopsys.integration.detect.detector.DetectorType;
 import com.synopsys.integration.detect.exception.DetectUserFriendlyException;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.detect.workflow.search.cache.SearchCache;
+import com.synopsys.integration.detect.workflow.search.cache.SearchCacheStore;
 import com.synopsys.integration.detect.workflow.search.result.DetectorEvaluation;
 import com.synopsys.integration.detect.workflow.search.rules.DetectorSearchEvaluator;
 import com.synopsys.integration.detect.workflow.search.rules.DetectorSearchProvider;
@@ -46,24 +51,42 @@ public class SearchManager {
     private final DetectorSearchProvider detectorSearchProvider;
     private final DetectorSearchEvaluator detectorSearchEvaluator;
     private final EventSystem eventSystem;
+    private final Optional<SearchCacheStore> searchCacheStore;
 
-    public SearchManager(final SearchOptions searchOptions, final DetectorSearchProvider detectorSearchProvider, final DetectorSearchEvaluator detectorSearchEvaluator, EventSystem eventSystem) {
+    public SearchManager(final SearchOptions searchOptions, final DetectorSearchProvider detectorSearchProvider, final DetectorSearchEvaluator detectorSearchEvaluator, EventSystem eventSystem,
+        final Optional<SearchCacheStore> searchCacheStore) {
         this.searchOptions = searchOptions;
         this.detectorSearchProvider = detectorSearchProvider;
         this.detectorSearchEvaluator = detectorSearchEvaluator;
         this.eventSystem = eventSystem;
+        this.searchCacheStore = searchCacheStore;
     }
 
     public SearchResult performSearch() throws DetectUserFriendlyException {
+        return performSearch(evaluations -> {});
+    }
+
+    /**
+     * The consumer receives the evaluations of each directory once they are final, before the rest of the tree has been searched.
+     */
+    public SearchResult performSearch(final Consumer<List<DetectorEvaluation>> searchedDirectoryConsumer) throws DetectUserFriendlyException {
         List<DetectorEvaluation> searchResults = new ArrayList<>();
         try {
+            final Optional<SearchCache> searchCache = searchCacheStore.map(SearchCacheStore::load);
             DetectorExclusionSearchFilter detectorExclusionSearchFilter = new DetectorExclusionSearchFilter(searchOptions.excludedDirectories, searchOptions.excludedDirectoryPatterns);
             final DetectorFinderOptions findOptions = new DetectorFinderOptions(detectorExclusionSearchFilter, searchOptions.forceNestedSearch, searchOptions.maxDepth, searchOptions.detectorFilter, detectorSearchProvider,
-                detectorSearchEvaluator, eventSystem);
+                detectorSearchEvaluator, eventSystem, searchOptions.parallelism, searchCache,
+                searchOptions.followSymLinks, searchedDirectoryConsumer);
 
             logger.info("Starting search for detectors.");
             final DetectorFinder bomToolTreeWalker = new DetectorFinder();
             searchResults = bomToolTreeWalker.findApplicableBomTools(searchOptions.searchPath, findOptions);
+            logSkipCounts(detectorExclusionSearchFilter);
+
+            if (searchCache.isPresent()) {
+                logger.info(String.format("Search cache reused %d directories and searched %d changed directories.", searchCache.get().getHits(), searchCache.get().getMisses()));
+                searchCacheStore.get().save(searchCache.get());
+            }
         } catch (final DetectorException e) {
             return new SearchResultBomToolFailed(e);
         }
@@ -76,4 +99,14 @@ public class SearchManager {
         return new SearchResultSuccess(searchResults, applicableBomTools);
     }
 
+    private void logSkipCounts(final DetectorExclusionSearchFilter detectorExclusionSearchFilter) {
+        final Map<String, Integer> skipCounts = detectorExclusionSearchFilter.getSkipCounts();
+        if (skipCounts.isEmpty()) {
+            return;
+        }
+        final String counts = skipCounts.entrySet().stream()
+                                  .map(it -> it.getKey() + "=" + it.getValue())
+                                  .collect(Collectors.joining(", "));
+        logger.info("Excluded paths by pattern: " + counts);
+    }
 }
@@ -35,13 +35,20 @@ public class SearchOptions {
     public final boolean forceNestedSearch;
     public final int maxDepth;
     public final DetectFilter detectorFilter;
+    public final int parallelism;
+    public final boolean useSearchCache;
+    public final boolean followSymLinks;
 
-    public SearchOptions(File searchPath, List<String> excludedDirectories, List<String> excludedDirectoryPatterns, boolean forceNestedSearch, int maxDepth, DetectFilter detectorFilter) {
+    public SearchOptions(File searchPath, List<String> excludedDirectories, List<String> excludedDirectoryPatterns, boolean forceNestedSearch, int maxDepth, DetectFilter detectorFilter, int parallelism,
+        boolean useSearchCache, boolean followSymLinks) {
         this.searchPath = searchPath;
         this.excludedDirectories = excludedDirectories;
         this.excludedDirectoryPatterns = excludedDirectoryPatterns;
         this.forceNestedSearch = forceNestedSearch;
         this.maxDepth = maxDepth;
         this.detectorFilter = detectorFilter;
+        this.parallelism = parallelism;
+        this.useSearchCache = useSearchCache;
+        this.followSymLinks = followSymLinks;
     }
 }
@@ -0,0 +1,99 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.search.cache;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.synopsys.integration.detect.detector.Detector;
+import com.synopsys.integration.detect.workflow.file.DirectoryListing;
+import com.synopsys.integration.detect.workflow.search.ChildDirectory;
+
+/**
+ * What a previous run saw in a directory: its modification time, the names of its children, the children the search could descend into, and the detectors
+ * that were not applicable.
+ */
+public class CachedDirectory {
+    private final long lastModified;
+    private final List<String> children;
+    private final List<ChildDirectory> childDirectories;
+    private final Map<String, String> notApplicable;
+
+    public CachedDirectory(final long lastModified, final List<String> children, final List<ChildDirectory> childDirectories, final Map<String, String> notApplicable) {
+        this.lastModified = lastModified;
+        this.children = children;
+        this.childDirectories = childDirectories;
+        this.notApplicable = notApplicable;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public List<String> getChildren() {
+        return children;
+    }
+
+    public List<ChildDirectory> getChildDirectories() {
+        return childDirectories;
+    }
+
+    public Map<String, String> getNotApplicable() {
+        return notApplicable;
+    }
+
+    /**
+     * Adding, removing or renaming a child changes the directory's modification time, so the recorded names still hold when it matches. Child directories
+     * are compared too because some detectors look one level down, and they are stat'ed anyway when the search descends into them.
+     */
+    public boolean isUnchanged(final File directory) {
+        if (children == null || childDirectories == null || lastModified < 0 || lastModified != SearchCache.lastModified(directory)) {
+            return false;
+        }
+        for (final ChildDirectory childDirectory : childDirectories) {
+            if (!childDirectory.isSymbolicLink() && childDirectory.getLastModified() != SearchCache.lastModified(new File(directory, childDirectory.getName()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public DirectoryListing toDirectoryListing(final File directory) {
+        final List<File> files = new ArrayList<>(children.size());
+        for (final String child : children) {
+            files.add(new File(directory, child));
+        }
+        return new DirectoryListing(directory, files);
+    }
+
+    public Optional<String> findNotApplicableDescription(final Detector detector) {
+        if (notApplicable == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(notApplicable.get(SearchCache.detectorKey(detector)));
+    }
+}
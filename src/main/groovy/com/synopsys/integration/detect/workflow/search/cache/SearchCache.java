@@ -0,0 +1,128 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.search.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.synopsys.integration.detect.detector.Detector;
+import com.synopsys.integration.detect.workflow.file.DirectoryListing;
+import com.synopsys.integration.detect.workflow.search.ChildDirectory;
+import com.synopsys.integration.detect.workflow.search.result.DetectorEvaluation;
+
+/**
+ * Remembers what each searched directory contained and which detectors were not applicable to it. An unchanged directory is answered from the previous run
+ * without being listed again, and its children are only stat'ed when they are directories. Lookups and records may be made from multiple search threads.
+ */
+public class SearchCache {
+    private final Map<String, CachedDirectory> previousDirectories;
+    private final Map<String, CachedDirectory> currentDirectories = new ConcurrentHashMap<>();
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    public SearchCache(final Map<String, CachedDirectory> previousDirectories) {
+        this.previousDirectories = previousDirectories;
+    }
+
+    public static SearchCache empty() {
+        return new SearchCache(Collections.emptyMap());
+    }
+
+    public static String detectorKey(final Detector detector) {
+        return detector.getClass().getName();
+    }
+
+    /**
+     * Returns -1 when the modification time can not be read, which never matches a recorded time.
+     */
+    public static long lastModified(final File file) {
+        try {
+            return Files.getLastModifiedTime(file.toPath()).toMillis();
+        } catch (final IOException e) {
+            return -1;
+        }
+    }
+
+    public Optional<CachedDirectory> findUnchanged(final File directory) {
+        final CachedDirectory previous = previousDirectories.get(directoryKey(directory));
+        if (previous != null && previous.isUnchanged(directory)) {
+            hits.incrementAndGet();
+            return Optional.of(previous);
+        }
+        misses.incrementAndGet();
+        return Optional.empty();
+    }
+
+    /**
+     * The modification time must be read before the directory is listed, so a change made while listing is seen by the next run.
+     */
+    public void record(final DirectoryListing directoryListing, final long lastModified, final List<ChildDirectory> childDirectories, final List<DetectorEvaluation> evaluations) {
+        final List<String> children = new ArrayList<>(directoryListing.getFiles().size());
+        for (final File file : directoryListing.getFiles()) {
+            children.add(file.getName());
+        }
+        final Map<String, String> notApplicable = new HashMap<>();
+        for (final DetectorEvaluation evaluation : evaluations) {
+            if (evaluation.isSearchable() && !evaluation.isApplicable()) {
+                notApplicable.put(detectorKey(evaluation.getDetector()), evaluation.getApplicabilityMessage());
+            }
+        }
+        final CachedDirectory cachedDirectory = new CachedDirectory(lastModified, children, childDirectories, notApplicable);
+        currentDirectories.put(directoryKey(directoryListing.getDirectory()), cachedDirectory);
+    }
+
+    public Map<String, CachedDirectory> getCurrentDirectories() {
+        return currentDirectories;
+    }
+
+    public int getHits() {
+        return hits.get();
+    }
+
+    public int getMisses() {
+        return misses.get();
+    }
+
+    private String directoryKey(final File directory) {
+        return directory.getAbsolutePath();
+    }
+
+    static String toHex(final byte[] bytes) {
+        final StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (final byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.search.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+/**
+ * Each source directory has its own cache file, so searching one source tree never discards the cache of another.
+ */
+public class SearchCacheStore {
+    public static final String SEARCH_CACHE_PREFIX = "searchCache-";
+    public static final String SEARCH_CACHE_SUFFIX = ".json";
+
+    private final Logger logger = LoggerFactory.getLogger(SearchCacheStore.class);
+
+    private final Gson gson;
+    private final File cacheFile;
+    private final String configurationKey;
+
+    public SearchCacheStore(final Gson gson, final File cacheDirectory, final File sourceDirectory, final String configurationKey) {
+        this.gson = gson;
+        this.cacheFile = new File(cacheDirectory, SEARCH_CACHE_PREFIX + hash(sourceDirectory.getAbsolutePath()).substring(0, 16) + SEARCH_CACHE_SUFFIX);
+        this.configurationKey = configurationKey;
+    }
+
+    /**
+     * Only the properties that can change which directories are searched or which detectors apply belong in the key, anything else would discard the cache
+     * on every run that changes an unrelated value such as the project version.
+     */
+    public static String createConfigurationKey(final String detectVersion, final Map<String, String> searchProperties) {
+        final StringBuilder key = new StringBuilder(detectVersion);
+        for (final Map.Entry<String, String> property : new TreeMap<>(searchProperties).entrySet()) {
+            key.append('\u0000').append(property.getKey()).append('=').append(property.getValue());
+        }
+        return hash(key.toString());
+    }
+
+    private static String hash(final String text) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return SearchCache.toHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (final NoSuchAlgorithmException e) {
+            return String.format("%016x", (long) text.hashCode());
+        }
+    }
+
+    public SearchCache load() {
+        if (!cacheFile.exists()) {
+            logger.info("No search cache was found, all directories will be searched.");
+            return SearchCache.empty();
+        }
+
+        try {
+            final String cacheJson = FileUtils.readFileToString(cacheFile, StandardCharsets.UTF_8);
+            final SearchCacheData searchCacheData = gson.fromJson(cacheJson, SearchCacheData.class);
+            if (searchCacheData == null || searchCacheData.getDirectories() == null || !configurationKey.equals(searchCacheData.getConfigurationKey())) {
+                logger.info("The search cache was created with a different version or configuration and will not be used.");
+                return SearchCache.empty();
+            }
+            logger.info(String.format("Loaded search cache with %d directories.", searchCacheData.getDirectories().size()));
+            return new SearchCache(searchCacheData.getDirectories());
+        } catch (final IOException | JsonParseException e) {
+            logger.warn(String.format("Unable to read the search cache %s, all directories will be searched: %s", cacheFile.getAbsolutePath(), e.getMessage()));
+            return SearchCache.empty();
+        }
+    }
+
+    // Written to a temporary file first so a concurrent or interrupted run never reads half a cache.
+    public void save(final SearchCache searchCache) {
+        final SearchCacheData searchCacheData = new SearchCacheData(configurationKey, new TreeMap<>(searchCache.getCurrentDirectories()));
+        File temporaryFile = null;
+        try {
+            final File cacheDirectory = cacheFile.getParentFile();
+            cacheDirectory.mkdirs();
+            temporaryFile = File.createTempFile(SEARCH_CACHE_PREFIX, ".tmp", cacheDirectory);
+            FileUtils.writeStringToFile(temporaryFile, gson.toJson(searchCacheData), StandardCharsets.UTF_8);
+            Files.move(temporaryFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            logger.debug(String.format("Saved search cache to %s.", cacheFile.getAbsolutePath()));
+        } catch (final IOException e) {
+            logger.warn(String.format("Unable to save the search cache %s: %s", cacheFile.getAbsolutePath(), e.getMessage()));
+        } finally {
+            if (temporaryFile != null) {
+                FileUtils.deleteQuietly(temporaryFile);
+            }
+        }
+    }
+}
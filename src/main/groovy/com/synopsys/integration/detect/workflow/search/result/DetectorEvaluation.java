@@ -33,8 +33,9 @@ import com.synopsys.integration.detect.workflow.extraction.Extraction;
 public class DetectorEvaluation {
     public static final String NO_MESSAGE = "Unknown";
 
-    private final Detector detector;
+    private final String detectorDescriptiveName;
     private final DetectorEnvironment environment;
+    private Detector detector;
 
     private DetectorResult searchable;
     private DetectorResult applicable;
@@ -45,6 +46,15 @@ public class DetectorEvaluation {
 
     public DetectorEvaluation(final Detector detector, final DetectorEnvironment environment) {
         this.detector = detector;
+        this.detectorDescriptiveName = detector == null ? null : detector.getDescriptiveName();
+        this.environment = environment;
+    }
+
+    /**
+     * The detector is only created, and set, once the evaluation is searchable.
+     */
+    public DetectorEvaluation(final String detectorDescriptiveName, final DetectorEnvironment environment) {
+        this.detectorDescriptiveName = detectorDescriptiveName;
         this.environment = environment;
     }
 
@@ -68,10 +78,18 @@ public class DetectorEvaluation {
         return isExtractable() && this.extraction != null && this.extraction.result == Extraction.ExtractionResultType.SUCCESS;
     }
 
+    public void setDetector(final Detector detector) {
+        this.detector = detector;
+    }
+
     public Detector getDetector() {
         return detector;
     }
 
+    public String getDetectorDescriptiveName() {
+        return detectorDescriptiveName;
+    }
+
     public DetectorEnvironment getEnvironment() {
         return environment;
     }
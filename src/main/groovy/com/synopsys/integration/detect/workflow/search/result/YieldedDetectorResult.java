@@ -24,26 +24,32 @@
 package com.synopsys.integration.detect.workflow.search.result;
 
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.synopsys.integration.detect.detector.Detector;
 
 public class YieldedDetectorResult extends FailedDetectorResult {
-    private final Set<Detector> yieldedTo;
+    private final Set<String> yieldedTo;
 
     public YieldedDetectorResult(final Detector yielded) {
         yieldedTo = new HashSet<>();
-        yieldedTo.add(yielded);
+        yieldedTo.add(yielded.getDescriptiveName());
     }
 
     public YieldedDetectorResult(final Set<Detector> yieldedTo) {
-        this.yieldedTo = yieldedTo;
+        this.yieldedTo = yieldedTo.stream().map(it -> it.getDescriptiveName()).collect(Collectors.toSet());
+    }
+
+    public YieldedDetectorResult(final List<String> yieldedToDescriptiveNames) {
+        this.yieldedTo = new LinkedHashSet<>(yieldedToDescriptiveNames);
     }
 
     @Override
     public String toDescription() {
-        final String yielded = yieldedTo.stream().map(it -> it.getDescriptiveName()).collect(Collectors.joining(", "));
+        final String yielded = yieldedTo.stream().collect(Collectors.joining(", "));
         return "Yielded to detectors: " + yielded;
     }
 }
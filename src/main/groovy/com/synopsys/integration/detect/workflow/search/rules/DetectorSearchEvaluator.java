@@ -24,15 +24,17 @@
 package com.synopsys.integration.detect.workflow.search.rules;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.synopsys.integration.detect.detector.Detector;
 import com.synopsys.integration.detect.detector.DetectorEnvironment;
-import com.synopsys.integration.detect.detector.DetectorType;
 import com.synopsys.integration.detect.workflow.event.Event;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.detect.workflow.search.cache.CachedDirectory;
+import com.synopsys.integration.detect.workflow.search.result.CachedDetectorResult;
 import com.synopsys.integration.detect.workflow.search.result.DetectorEvaluation;
 import com.synopsys.integration.detect.workflow.search.result.DetectorResult;
 import com.synopsys.integration.detect.workflow.search.result.ExcludedDetectorResult;
@@ -46,29 +48,40 @@ import com.synopsys.integration.detect.workflow.search.result.YieldedDetectorRes
 public class DetectorSearchEvaluator {
 
     public List<DetectorEvaluation> evaluate(DetectorSearchRuleSet rules, EventSystem eventSystem) {
+        return evaluate(rules, eventSystem, Optional.empty());
+    }
+
+    /**
+     * Detectors the cached directory recorded as not applicable are not asked again. Applicable detectors are always re-evaluated because applicable() collects the state extraction needs.
+     */
+    public List<DetectorEvaluation> evaluate(DetectorSearchRuleSet rules, EventSystem eventSystem, Optional<CachedDirectory> cachedDirectory) {
         final List<DetectorEvaluation> evaluations = new ArrayList<>();
-        final List<Detector> appliedSoFar = new ArrayList<>();
+        final BitSet appliedSoFar = new BitSet();
         for (final DetectorSearchRule searchRule : rules.getOrderedBomToolRules()) {
-            final Detector detector = searchRule.getDetector();
-            final DetectorEvaluation evaluation = new DetectorEvaluation(detector, rules.getEnvironment());
+            final DetectorEvaluation evaluation = new DetectorEvaluation(searchRule.getDescriptiveName(), rules.getEnvironment());
             evaluations.add(evaluation);
             evaluation.setSearchable(searchable(searchRule, appliedSoFar, rules.getEnvironment()));
             if (evaluation.isSearchable()) {
+                final Detector detector = searchRule.createDetector(rules.getEnvironment());
+                evaluation.setDetector(detector);
+                final Optional<String> cachedDescription = cachedDirectory.flatMap(it -> it.findNotApplicableDescription(detector));
+                if (cachedDescription.isPresent()) {
+                    evaluation.setApplicable(new CachedDetectorResult(cachedDescription.get()));
+                    continue;
+                }
                 eventSystem.publishEvent(Event.ApplicableStarted, detector);
                 evaluation.setApplicable(detector.applicable());
                 eventSystem.publishEvent(Event.ApplicableEnded, detector);
                 if (evaluation.isApplicable()) {
-                    appliedSoFar.add(detector);
+                    appliedSoFar.set(searchRule.getIndex());
                 }
             }
         }
         return evaluations;
     }
 
-    public DetectorResult searchable(final DetectorSearchRule searchRules, final List<Detector> appliedSoFar, DetectorEnvironment environment) {
-        Detector detector = searchRules.getDetector();
-        final DetectorType detectorType = detector.getDetectorType();
-        if (!environment.getDetectorFilter().shouldInclude(detectorType.toString())) {
+    public DetectorResult searchable(final DetectorSearchRule searchRules, final BitSet appliedSoFar, DetectorEnvironment environment) {
+        if (!environment.getDetectorFilter().shouldInclude(searchRules.getDetectorType().toString())) {
             return new ExcludedDetectorResult();
         }
 
@@ -77,11 +90,11 @@ public class DetectorSearchEvaluator {
             return new MaxDepthExceededDetectorResult(environment.getDepth(), maxDepth);
         }
 
-        final Set<Detector> yieldTo = appliedSoFar.stream()
-                                          .filter(it -> searchRules.getYieldsTo().contains(it))
-                                          .collect(Collectors.toSet());
-
-        if (yieldTo.size() > 0) {
+        if (searchRules.yieldsToAny(appliedSoFar)) {
+            final List<String> yieldTo = searchRules.getYieldsTo().stream()
+                                             .filter(it -> appliedSoFar.get(it.getIndex()))
+                                             .map(it -> it.getDescriptiveName())
+                                             .collect(Collectors.toList());
             return new YieldedDetectorResult(yieldTo);
         }
 
@@ -89,7 +102,7 @@ public class DetectorSearchEvaluator {
         if (environment.getForceNestedSearch()) {
             return new ForcedNestedPassedDetectorResult();
         } else if (nestable) {
-            if (environment.getAppliedToParent().stream().anyMatch(applied -> applied.isSame(detector))) {
+            if (environment.getAppliedToParent().stream().anyMatch(applied -> searchRules.isSame(applied))) {
                 return new NotSelfNestableDetectorResult();
             }
         } else if (!nestable && environment.getAppliedToParent().size() > 0) {
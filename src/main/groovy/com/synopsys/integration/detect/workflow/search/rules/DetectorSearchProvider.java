@@ -23,57 +23,60 @@
  */
 package com.synopsys.integration.detect.workflow.search.rules;
 
-import com.synopsys.integration.detect.detector.Detector;
+import java.util.List;
+
 import com.synopsys.integration.detect.detector.DetectorEnvironment;
 import com.synopsys.integration.detect.detector.DetectorFactory;
 
 public class DetectorSearchProvider {
     private final DetectorFactory detectorFactory;
+    private List<DetectorSearchRule> searchRules;
 
     public DetectorSearchProvider(final DetectorFactory detectorFactory) {
         this.detectorFactory = detectorFactory;
     }
 
     public DetectorSearchRuleSet createBomToolSearchRuleSet(final DetectorEnvironment environment) {
-        final DetectorSearchRuleSetBuilder searchRuleSet = new DetectorSearchRuleSetBuilder(environment);
+        return new DetectorSearchRuleSet(getSearchRules(environment), environment);
+    }
 
-        searchRuleSet.addBomTool(detectorFactory.createBitbakeBomTool(environment)).defaultNotNested();
+    private synchronized List<DetectorSearchRule> getSearchRules(final DetectorEnvironment prototypeEnvironment) {
+        if (searchRules == null) {
+            searchRules = createSearchRules(prototypeEnvironment);
+        }
+        return searchRules;
+    }
 
-        searchRuleSet.addBomTool(detectorFactory.createPodLockBomTool(environment)).defaultNested();
-        searchRuleSet.addBomTool(detectorFactory.createCondaBomTool(environment)).defaultNotNested();
-        searchRuleSet.addBomTool(detectorFactory.createCpanCliBomTool(environment)).defaultNotNested();
-        searchRuleSet.addBomTool(detectorFactory.createPackratLockBomTool(environment)).defaultNotNested();
+    private List<DetectorSearchRule> createSearchRules(final DetectorEnvironment prototypeEnvironment) {
+        final DetectorSearchRuleSetBuilder searchRuleSet = new DetectorSearchRuleSetBuilder();
 
-        Detector goCli = detectorFactory.createGoCliBomTool(environment);
-        Detector goLock = detectorFactory.createGoLockBomTool(environment);
-        Detector goVnd = detectorFactory.createGoVndrBomTool(environment);
-        Detector goVendor = detectorFactory.createGoVendorBomTool(environment);
+        searchRuleSet.addBomTool(detectorFactory::createBitbakeBomTool).defaultNotNested();
 
-        searchRuleSet.addBomTool(goLock).defaultNotNested();
-        searchRuleSet.addBomTool(goVnd).defaultNotNested();
-        searchRuleSet.addBomTool(goVendor).defaultNotNested();
-        searchRuleSet.addBomTool(goCli).defaultNotNested();
+        searchRuleSet.addBomTool(detectorFactory::createPodLockBomTool).defaultNested();
+        searchRuleSet.addBomTool(detectorFactory::createCondaBomTool).defaultNotNested();
+        searchRuleSet.addBomTool(detectorFactory::createCpanCliBomTool).defaultNotNested();
+        searchRuleSet.addBomTool(detectorFactory::createPackratLockBomTool).defaultNotNested();
+
+        DetectorSearchRuleBuilder goLock = searchRuleSet.addBomTool(detectorFactory::createGoLockBomTool).defaultNotNested();
+        DetectorSearchRuleBuilder goVnd = searchRuleSet.addBomTool(detectorFactory::createGoVndrBomTool).defaultNotNested();
+        DetectorSearchRuleBuilder goVendor = searchRuleSet.addBomTool(detectorFactory::createGoVendorBomTool).defaultNotNested();
+        DetectorSearchRuleBuilder goCli = searchRuleSet.addBomTool(detectorFactory::createGoCliBomTool).defaultNotNested();
 
         searchRuleSet.yield(goCli).to(goLock);
         searchRuleSet.yield(goCli).to(goVnd);
         searchRuleSet.yield(goCli).to(goVendor);
 
-        searchRuleSet.addBomTool(detectorFactory.createGradleInspectorBomTool(environment)).defaultNotNested();
-        searchRuleSet.addBomTool(detectorFactory.createRebarBomTool(environment)).defaultNotNested();
-
-        searchRuleSet.addBomTool(detectorFactory.createMavenPomBomTool(environment)).defaultNotNested();
-        searchRuleSet.addBomTool(detectorFactory.createMavenPomWrapperBomTool(environment)).defaultNotNested();
+        searchRuleSet.addBomTool(detectorFactory::createGradleInspectorBomTool).defaultNotNested();
+        searchRuleSet.addBomTool(detectorFactory::createRebarBomTool).defaultNotNested();
 
-        Detector yarnLock = detectorFactory.createYarnLockBomTool(environment);
-        searchRuleSet.addBomTool(yarnLock).defaultNested();
+        searchRuleSet.addBomTool(detectorFactory::createMavenPomBomTool).defaultNotNested();
+        searchRuleSet.addBomTool(detectorFactory::createMavenPomWrapperBomTool).defaultNotNested();
 
-        Detector npmPackageLock = detectorFactory.createNpmPackageLockBomTool(environment);
-        Detector npmShrinkwrap = detectorFactory.createNpmShrinkwrapBomTool(environment);
-        Detector npmCli = detectorFactory.createNpmCliBomTool(environment);
+        DetectorSearchRuleBuilder yarnLock = searchRuleSet.addBomTool(detectorFactory::createYarnLockBomTool).defaultNested();
 
-        searchRuleSet.addBomTool(npmPackageLock).defaultNested();
-        searchRuleSet.addBomTool(npmShrinkwrap).defaultNested();
-        searchRuleSet.addBomTool(npmCli).defaultNested();
+        DetectorSearchRuleBuilder npmPackageLock = searchRuleSet.addBomTool(detectorFactory::createNpmPackageLockBomTool).defaultNested();
+        DetectorSearchRuleBuilder npmShrinkwrap = searchRuleSet.addBomTool(detectorFactory::createNpmShrinkwrapBomTool).defaultNested();
+        DetectorSearchRuleBuilder npmCli = searchRuleSet.addBomTool(detectorFactory::createNpmCliBomTool).defaultNested();
 
         searchRuleSet.yield(npmShrinkwrap).to(npmPackageLock);
         searchRuleSet.yield(npmCli).to(npmPackageLock);
@@ -83,28 +86,24 @@ public class DetectorSearchProvider {
         searchRuleSet.yield(npmPackageLock).to(yarnLock);
         searchRuleSet.yield(npmShrinkwrap).to(yarnLock);
 
-        Detector nugetSolution = detectorFactory.createNugetSolutionBomTool(environment);
-        Detector nugetProject = detectorFactory.createNugetProjectBomTool(environment);
-        searchRuleSet.addBomTool(nugetSolution).defaultNested();
-        searchRuleSet.addBomTool(nugetProject).defaultNotNested();
+        DetectorSearchRuleBuilder nugetSolution = searchRuleSet.addBomTool(detectorFactory::createNugetSolutionBomTool).defaultNested();
+        DetectorSearchRuleBuilder nugetProject = searchRuleSet.addBomTool(detectorFactory::createNugetProjectBomTool).defaultNotNested();
 
         searchRuleSet.yield(nugetProject).to(nugetSolution);
 
-        searchRuleSet.addBomTool(detectorFactory.createComposerLockBomTool(environment)).defaultNotNested();
+        searchRuleSet.addBomTool(detectorFactory::createComposerLockBomTool).defaultNotNested();
 
-        Detector pipEnv = detectorFactory.createPipenvBomTool(environment);
-        Detector pipInspector = detectorFactory.createPipInspectorBomTool(environment);
-        searchRuleSet.addBomTool(pipEnv).defaultNotNested();
-        searchRuleSet.addBomTool(pipInspector).defaultNotNested();
+        DetectorSearchRuleBuilder pipEnv = searchRuleSet.addBomTool(detectorFactory::createPipenvBomTool).defaultNotNested();
+        DetectorSearchRuleBuilder pipInspector = searchRuleSet.addBomTool(detectorFactory::createPipInspectorBomTool).defaultNotNested();
 
         searchRuleSet.yield(pipInspector).to(pipEnv);
 
-        searchRuleSet.addBomTool(detectorFactory.createGemlockBomTool(environment)).defaultNotNested();
-        searchRuleSet.addBomTool(detectorFactory.createSbtResolutionCacheBomTool(environment)).defaultNotNested();
-        searchRuleSet.addBomTool(detectorFactory.createPearCliBomTool(environment)).defaultNotNested();
+        searchRuleSet.addBomTool(detectorFactory::createGemlockBomTool).defaultNotNested();
+        searchRuleSet.addBomTool(detectorFactory::createSbtResolutionCacheBomTool).defaultNotNested();
+        searchRuleSet.addBomTool(detectorFactory::createPearCliBomTool).defaultNotNested();
 
-        searchRuleSet.addBomTool(detectorFactory.createClangBomTool(environment)).defaultNested();
+        searchRuleSet.addBomTool(detectorFactory::createClangBomTool).defaultNested();
 
-        return searchRuleSet.build();
+        return searchRuleSet.build(prototypeEnvironment);
     }
 }
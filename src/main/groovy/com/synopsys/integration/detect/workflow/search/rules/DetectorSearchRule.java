@@ -23,25 +23,60 @@
  */
 package com.synopsys.integration.detect.workflow.search.rules;
 
+import java.util.BitSet;
 import java.util.List;
+import java.util.function.Function;
 
 import com.synopsys.integration.detect.detector.Detector;
+import com.synopsys.integration.detect.detector.DetectorEnvironment;
+import com.synopsys.integration.detect.detector.DetectorType;
 
+/**
+ * Describes one detector in the search order. Rules are built once per run and shared by every directory, the detector itself is only created for directories
+ * where the rule is searchable.
+ */
 public class DetectorSearchRule {
-    private final Detector detector;
+    private final int index;
+    private final Function<DetectorEnvironment, Detector> detectorCreator;
+    private final Class<? extends Detector> detectorClass;
+    private final DetectorType detectorType;
+    private final String descriptiveName;
     private final int maxDepth;
     private final boolean nestable;
-    private final List<Detector> yieldsTo;
+    private final List<DetectorSearchRule> yieldsTo;
+    private final BitSet yieldsToIndexes = new BitSet();
 
-    public DetectorSearchRule(final Detector detector, final int maxDepth, final boolean nestable, final List<Detector> yieldsTo) {
-        this.detector = detector;
+    public DetectorSearchRule(final int index, final Function<DetectorEnvironment, Detector> detectorCreator, final Detector prototype, final int maxDepth, final boolean nestable,
+        final List<DetectorSearchRule> yieldsTo) {
+        this.index = index;
+        this.detectorCreator = detectorCreator;
+        this.detectorClass = prototype.getClass();
+        this.detectorType = prototype.getDetectorType();
+        this.descriptiveName = prototype.getDescriptiveName();
         this.maxDepth = maxDepth;
         this.nestable = nestable;
         this.yieldsTo = yieldsTo;
+        yieldsTo.forEach(it -> yieldsToIndexes.set(it.getIndex()));
+    }
+
+    public Detector createDetector(final DetectorEnvironment environment) {
+        return detectorCreator.apply(environment);
+    }
+
+    public boolean isSame(final Detector detector) {
+        return detectorClass.equals(detector.getClass());
     }
 
-    public Detector getDetector() {
-        return detector;
+    public int getIndex() {
+        return index;
+    }
+
+    public DetectorType getDetectorType() {
+        return detectorType;
+    }
+
+    public String getDescriptiveName() {
+        return descriptiveName;
     }
 
     public int getMaxDepth() {
@@ -52,7 +87,11 @@ public class DetectorSearchRule {
         return nestable;
     }
 
-    public List<Detector> getYieldsTo() {
+    public List<DetectorSearchRule> getYieldsTo() {
         return yieldsTo;
     }
+
+    public boolean yieldsToAny(final BitSet appliedRuleIndexes) {
+        return yieldsToIndexes.intersects(appliedRuleIndexes);
+    }
 }
@@ -23,20 +23,19 @@
  */
 package com.synopsys.integration.detect.workflow.search.rules;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 import com.synopsys.integration.detect.detector.Detector;
+import com.synopsys.integration.detect.detector.DetectorEnvironment;
 
 public class DetectorSearchRuleBuilder {
-    private final Detector detector;
+    private final Function<DetectorEnvironment, Detector> detectorCreator;
     private int maxDepth;
     private boolean nestable;
-    private final List<Detector> yieldsTo;
 
-    public DetectorSearchRuleBuilder(final Detector detector) {
-        this.detector = detector;
-        yieldsTo = new ArrayList<>();
+    public DetectorSearchRuleBuilder(final Function<DetectorEnvironment, Detector> detectorCreator) {
+        this.detectorCreator = detectorCreator;
     }
 
     public DetectorSearchRuleBuilder defaultNotNested() {
@@ -59,12 +58,8 @@ public class DetectorSearchRuleBuilder {
         return this;
     }
 
-    public DetectorSearchRuleBuilder yield(final Detector type) {
-        this.yieldsTo.add(type);
-        return this;
-    }
-
-    public DetectorSearchRule build() {
-        return new DetectorSearchRule(detector, maxDepth, nestable, yieldsTo);
+    public DetectorSearchRule build(final int index, final DetectorEnvironment prototypeEnvironment, final List<DetectorSearchRule> yieldsTo) {
+        final Detector prototype = detectorCreator.apply(prototypeEnvironment);
+        return new DetectorSearchRule(index, detectorCreator, prototype, maxDepth, nestable, yieldsTo);
     }
 }
@@ -27,45 +27,51 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import com.synopsys.integration.detect.detector.Detector;
 import com.synopsys.integration.detect.detector.DetectorEnvironment;
 
 public class DetectorSearchRuleSetBuilder {
-    private final List<Detector> desiredDetectorOrder = new ArrayList<>();
-    private final Map<Detector, DetectorSearchRuleBuilder> builderMap = new HashMap<>();
+    private final List<DetectorSearchRuleBuilder> desiredDetectorOrder = new ArrayList<>();
     private final List<DetectorYieldBuilder> yieldBuilders = new ArrayList<>();
-    private final DetectorEnvironment environment;
 
-    public DetectorSearchRuleSetBuilder(final DetectorEnvironment environment) {
-        this.environment = environment;
-    }
-
-    public DetectorSearchRuleBuilder addBomTool(final Detector detector) {
-        final DetectorSearchRuleBuilder builder = new DetectorSearchRuleBuilder(detector);
-        desiredDetectorOrder.add(detector);
-        builderMap.put(detector, builder);
+    public DetectorSearchRuleBuilder addBomTool(final Function<DetectorEnvironment, Detector> detectorCreator) {
+        final DetectorSearchRuleBuilder builder = new DetectorSearchRuleBuilder(detectorCreator);
+        desiredDetectorOrder.add(builder);
         return builder;
     }
 
-    public DetectorYieldBuilder yield(final Detector bomToolType) {
-        final DetectorYieldBuilder builder = new DetectorYieldBuilder(bomToolType);
+    public DetectorYieldBuilder yield(final DetectorSearchRuleBuilder yieldingDetector) {
+        final DetectorYieldBuilder builder = new DetectorYieldBuilder(yieldingDetector);
         yieldBuilders.add(builder);
         return builder;
     }
 
-    public DetectorSearchRuleSet build() {
+    /**
+     * Builds the ordered rules. The prototype environment is only used to create one detector per rule to learn its type and name.
+     */
+    public List<DetectorSearchRule> build(final DetectorEnvironment prototypeEnvironment) {
+        final Map<DetectorSearchRuleBuilder, DetectorSearchRule> builtRules = new HashMap<>();
+        for (final DetectorYieldBuilder yieldBuilder : yieldBuilders) {
+            if (desiredDetectorOrder.indexOf(yieldBuilder.getYieldingToDetector()) > desiredDetectorOrder.indexOf(yieldBuilder.getYieldingDetector())) {
+                throw new IllegalStateException("A detector can only yield to a detector that is searched before it.");
+            }
+        }
+
         final List<DetectorSearchRule> bomToolRules = new ArrayList<>();
-        for (final Detector detector : desiredDetectorOrder) {
-            final DetectorSearchRuleBuilder builder = builderMap.get(detector);
+        for (final DetectorSearchRuleBuilder builder : desiredDetectorOrder) {
+            final List<DetectorSearchRule> yieldsTo = new ArrayList<>();
             for (final DetectorYieldBuilder yieldBuilder : yieldBuilders) {
-                if (yieldBuilder.getYieldingDetector() == detector) {
-                    builder.yield(yieldBuilder.getYieldingToDetector());
+                if (yieldBuilder.getYieldingDetector() == builder) {
+                    yieldsTo.add(builtRules.get(yieldBuilder.getYieldingToDetector()));
                 }
             }
-            bomToolRules.add(builder.build());
+            final DetectorSearchRule rule = builder.build(bomToolRules.size(), prototypeEnvironment, yieldsTo);
+            builtRules.put(builder, rule);
+            bomToolRules.add(rule);
         }
 
-        return new DetectorSearchRuleSet(bomToolRules, environment);
+        return bomToolRules;
     }
 }
@@ -79,8 +79,11 @@ public class DetectorFactoryTest {
         DetectorSearchRuleSet ruleSet1 = provider.createBomToolSearchRuleSet(mockEnv);
         DetectorSearchRuleSet ruleSet2 = provider.createBomToolSearchRuleSet(mockEnv);
 
-        Detector detector1 = ruleSet1.getOrderedBomToolRules().get(0).getDetector();
-        Detector detector2 = ruleSet2.getOrderedBomToolRules().get(0).getDetector();
+        //The rules are only built once
+        Assert.assertTrue(ruleSet1.getOrderedBomToolRules() == ruleSet2.getOrderedBomToolRules());
+
+        Detector detector1 = ruleSet1.getOrderedBomToolRules().get(0).createDetector(mockEnv);
+        Detector detector2 = ruleSet2.getOrderedBomToolRules().get(0).createDetector(mockEnv);
 
         //Sanity check they are the same class
         Assert.assertTrue(detector1.getClass().isInstance(detector2));
@@ -18,7 +18,14 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.Test;
 
@@ -26,6 +33,7 @@ import com.synopsys.integration.detect.testutils.TestUtil;
 import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocation;
 import com.google.gson.GsonBuilder;
 import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.detect.testutils.DependencyGraphAssertions;
 import com.synopsys.integration.util.NameVersion;
@@ -100,6 +108,30 @@ public class GradleReportParserTest {
         System.out.println(new GsonBuilder().setPrettyPrinting().create().toJson(result.get()));
     }
 
+    @Test
+    public void testSharedParserParsesReportsConcurrently() throws Exception {
+        final GradleReportParser gradleReportParser = new GradleReportParser(new ExternalIdFactory());
+        final List<File> files = Arrays.asList(new File("src/test/resources/gradle/parse-tests/complex_dependencyGraph.txt"), new File("src/test/resources/gradle/dependencyGraph.txt"));
+        final List<Set<ExternalId>> expectedRoots = new ArrayList<>();
+        for (final File file : files) {
+            expectedRoots.add(gradleReportParser.parseDependencies(file).get().getDependencyGraph().getRootDependencyExternalIds());
+        }
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Optional<DetectCodeLocation>>> results = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                final File file = files.get(i % files.size());
+                results.add(executorService.submit(() -> gradleReportParser.parseDependencies(file)));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(expectedRoots.get(i % files.size()), results.get(i).get().get().getDependencyGraph().getRootDependencyExternalIds());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
     private void createNewCodeLocationTest(final String gradleInspectorOutputFilePath, final String expectedResourcePath, final String rootProjectFilePath, final String rootProjectName, final String rootProjectVersionName)
         throws IOException {
         final GradleReportParser gradleReportParser = new GradleReportParser(new ExternalIdFactory());
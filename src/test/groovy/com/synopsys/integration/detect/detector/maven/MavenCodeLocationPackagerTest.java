@@ -317,6 +317,26 @@ public class MavenCodeLocationPackagerTest {
         assertEquals("org.eclipse.scout.sdk.deps:org.eclipse.core.jobs:pants (version selected from", dependency.externalId.createExternalId());
     }
 
+    @Test
+    public void testFindIndentationEndMatchesCleanedLine() {
+        final MavenCodeLocationPackager mavenCodeLocationPackager = new MavenCodeLocationPackager(new ExternalIdFactory());
+
+        final String line = "[INFO] |  |     \\- org.eclipse.scout.sdk.deps:org.eclipse.core.jobs:jar:3.8.0.v20160509-0411:compile";
+        final int contentStart = mavenCodeLocationPackager.findContentStart(line);
+        final int indentationEnd = mavenCodeLocationPackager.findIndentationEnd(line, contentStart);
+        final String trimmedLine = mavenCodeLocationPackager.trimLogLevel(line);
+        assertEquals(trimmedLine, line.substring(contentStart));
+        assertEquals(mavenCodeLocationPackager.calculateCurrentLevelAndCleanLine(trimmedLine), line.substring(indentationEnd));
+        assertEquals(4, (indentationEnd - contentStart) / 3);
+
+        final ScopedDependency dependency = mavenCodeLocationPackager.textToDependency(line, indentationEnd);
+        assertEquals("org.eclipse.scout.sdk.deps:org.eclipse.core.jobs:3.8.0.v20160509-0411", dependency.externalId.createExternalId());
+        assertEquals("compile", dependency.scope);
+
+        assertEquals(-1, mavenCodeLocationPackager.findIndentationEnd("+- group:artifact:jar:1.0:compile +- trailing", 0));
+        assertEquals(-1, mavenCodeLocationPackager.findContentStart("[INFO] Downloading from central"));
+    }
+
     private void createNewCodeLocationTest(final String mavenOutputText, final String expectedResourcePath) {
         createNewCodeLocationTest(mavenOutputText, expectedResourcePath, 1, "", "");
     }
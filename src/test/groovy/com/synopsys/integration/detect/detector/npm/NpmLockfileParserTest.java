@@ -1,5 +1,7 @@
 package com.synopsys.integration.detect.detector.npm;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.Assert;
@@ -12,6 +14,9 @@ import com.synopsys.integration.detect.testutils.DependencyGraphResourceTestUtil
 import com.synopsys.integration.detect.testutils.TestUtil;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 
 public class NpmLockfileParserTest {
@@ -76,4 +81,49 @@ public class NpmLockfileParserTest {
         Assert.assertEquals(result.projectVersion, "1.3.7");
         DependencyGraphResourceTestUtil.assertGraph("/npm/shrinkwrapExpected_graph.json", result.codeLocation.getDependencyGraph());
     }
+
+    @Test
+    public void parseResolvesRequiresFromTheNearestScope() {
+        final String lockFileText = "{ \"name\": \"scopes\", \"version\": \"1.0.0\", \"dependencies\": {"
+                                        + " \"a\": { \"version\": \"1.0.0\" },"
+                                        + " \"b\": { \"version\": \"1.0.0\", \"requires\": { \"a\": \"^2.0.0\" }, \"dependencies\": { \"a\": { \"version\": \"2.0.0\" } } },"
+                                        + " \"c\": { \"version\": \"1.0.0\", \"requires\": { \"a\": \"^1.0.0\" } } } }";
+
+        final NpmParseResult result = npmLockfileParser.parse("source", Optional.empty(), lockFileText, true);
+
+        final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+        final DependencyGraph graph = result.codeLocation.getDependencyGraph();
+        final List<ExternalId> childrenOfB = new ArrayList<>(graph.getChildrenExternalIdsForParent(externalIdFactory.createNameVersionExternalId(Forge.NPM, "b", "1.0.0")));
+        Assert.assertEquals(1, childrenOfB.size());
+        Assert.assertEquals("2.0.0", childrenOfB.get(0).version);
+
+        final List<ExternalId> childrenOfC = new ArrayList<>(graph.getChildrenExternalIdsForParent(externalIdFactory.createNameVersionExternalId(Forge.NPM, "c", "1.0.0")));
+        Assert.assertEquals(1, childrenOfC.size());
+        Assert.assertEquals("1.0.0", childrenOfC.get(0).version);
+    }
+
+    @Test
+    public void parseDeeplyNestedLockFile() {
+        final int depth = 10000;
+        final StringBuilder lockFileText = new StringBuilder("{ \"name\": \"deep\", \"version\": \"1.0.0\", \"dependencies\": {");
+        for (int level = 0; level < depth; level++) {
+            lockFileText.append(" \"p").append(level).append("\": { \"version\": \"1.0.0\"");
+            if (level + 1 < depth) {
+                lockFileText.append(", \"requires\": { \"p").append(level + 1).append("\": \"1.0.0\" }, \"dependencies\": {");
+            }
+        }
+        for (int level = 0; level < depth; level++) {
+            lockFileText.append(level + 1 < depth ? " } }" : " }");
+        }
+        lockFileText.append(" } }");
+
+        final NpmParseResult result = npmLockfileParser.parse("source", Optional.empty(), lockFileText.toString(), true);
+
+        final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+        final DependencyGraph graph = result.codeLocation.getDependencyGraph();
+        Assert.assertTrue(graph.hasDependency(externalIdFactory.createNameVersionExternalId(Forge.NPM, "p0", "1.0.0")));
+        final List<ExternalId> childrenOfDeepest = new ArrayList<>(graph.getChildrenExternalIdsForParent(externalIdFactory.createNameVersionExternalId(Forge.NPM, "p" + (depth - 2), "1.0.0")));
+        Assert.assertEquals(1, childrenOfDeepest.size());
+        Assert.assertEquals("p" + (depth - 1), childrenOfDeepest.get(0).name);
+    }
 }
@@ -0,0 +1,75 @@
+package com.synopsys.integration.detect.detector.sbt;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.junit.Test;
+
+public class SbtReportParserTest {
+    private static final String IVY_REPORT = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                                                 + "<?xml-stylesheet type=\"text/xsl\" href=\"ivy-report.xsl\"?>\n"
+                                                 + "<ivy-report version=\"1.0\">\n"
+                                                 + "  <info organisation=\"com.example\" module=\"root_2.12\" revision=\"1.0.0\" conf=\"compile\" confs=\"compile, runtime\" date=\"20190101000000\"/>\n"
+                                                 + "  <dependencies>\n"
+                                                 + "    <module organisation=\"org.scala-lang\" name=\"scala-library\">\n"
+                                                 + "      <revision name=\"2.12.8\" status=\"release\" downloaded=\"false\" searched=\"false\" default=\"false\" conf=\"compile\">\n"
+                                                 + "        <license name=\"BSD 3-Clause\" url=\"https://www.scala-lang.org/license.html\"/>\n"
+                                                 + "        <metadata-artifact status=\"no\" details=\"\" size=\"3400\" time=\"0\" location=\"scala-library-2.12.8.xml\"/>\n"
+                                                 + "        <caller organisation=\"com.example\" name=\"root_2.12\" conf=\"compile\" rev=\"2.12.8\" rev-constraint-default=\"2.12.8\" callerrev=\"1.0.0\"/>\n"
+                                                 + "        <caller organisation=\"com.typesafe\" name=\"config\" conf=\"compile\" rev=\"2.12.0\" rev-constraint-default=\"2.12.0\" callerrev=\"1.3.3\"/>\n"
+                                                 + "        <artifacts>\n"
+                                                 + "          <artifact name=\"scala-library\" type=\"jar\" ext=\"jar\" status=\"no\" details=\"\" size=\"5277046\" time=\"0\"/>\n"
+                                                 + "        </artifacts>\n"
+                                                 + "      </revision>\n"
+                                                 + "    </module>\n"
+                                                 + "    <module organisation=\"com.typesafe\" name=\"config\">\n"
+                                                 + "      <revision name=\"1.3.3\" status=\"release\" conf=\"compile\">\n"
+                                                 + "        <caller organisation=\"com.example\" name=\"root_2.12\" conf=\"compile\" rev=\"1.3.3\" callerrev=\"1.0.0\"/>\n"
+                                                 + "      </revision>\n"
+                                                 + "      <revision name=\"1.2.0\" status=\"release\" evicted=\"latest-revision\" conf=\"compile\"/>\n"
+                                                 + "    </module>\n"
+                                                 + "  </dependencies>\n"
+                                                 + "</ivy-report>\n";
+
+    @Test
+    public void testReportIsStreamedIntoModel() throws XMLStreamException {
+        final SbtReport report = new SbtReportParser().parseReport(toInputStream(IVY_REPORT));
+
+        assertEquals("com.example", report.getOrganisation());
+        assertEquals("root_2.12", report.getModule());
+        assertEquals("1.0.0", report.getRevision());
+        assertEquals("compile", report.getConfiguration());
+        assertEquals(2, report.getDependencies().size());
+
+        final SbtModule scalaLibrary = report.getDependencies().get(0);
+        assertEquals("org.scala-lang", scalaLibrary.getOrganisation());
+        assertEquals("scala-library", scalaLibrary.getName());
+        assertEquals(1, scalaLibrary.getRevisions().size());
+        assertEquals("2.12.8", scalaLibrary.getRevisions().get(0).getName());
+        assertEquals(2, scalaLibrary.getRevisions().get(0).getCallers().size());
+
+        final SbtCaller caller = scalaLibrary.getRevisions().get(0).getCallers().get(1);
+        assertEquals("com.typesafe", caller.getOrganisation());
+        assertEquals("config", caller.getName());
+        assertEquals("1.3.3", caller.getRevision());
+
+        final SbtModule config = report.getDependencies().get(1);
+        assertEquals(2, config.getRevisions().size());
+        assertEquals("1.2.0", config.getRevisions().get(1).getName());
+        assertEquals(0, config.getRevisions().get(1).getCallers().size());
+    }
+
+    @Test(expected = XMLStreamException.class)
+    public void testMissingAttributeFailsParse() throws XMLStreamException {
+        new SbtReportParser().parseReport(toInputStream(IVY_REPORT.replace(" callerrev=\"1.3.3\"", "")));
+    }
+
+    private InputStream toInputStream(final String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,6 +2,9 @@ package com.synopsys.integration.detect.detector.yarn;
 
 import static org.junit.Assert.assertEquals;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -85,4 +88,25 @@ public class YarnLockParserTest {
         assertEquals("0.2.37", lockResolvedVersions.get("cssstyle@>= 0.2.37 < 0.3.0"));
     }
 
+    @Test
+    public void testThatYarnLockIsParsedFromReader() throws IOException {
+        final String yarnLockText = String.join("\n",
+            "# yarn lockfile v1",
+            "",
+            "\"@babel/code-frame@^7.0.0\", \"@babel/code-frame@^7.0.0-beta.35\":",
+            "  version \"7.0.0\"",
+            "  dependencies:",
+            "    \"@babel/highlight\" \"^7.0.0\"",
+            "ms@2.0.0:",
+            "  version \"2.0.0\"");
+
+        final YarnLockParser yarnLockParser = new YarnLockParser();
+        final Map<String, String> lockResolvedVersions = yarnLockParser.getYarnLockResolvedVersionMap(new BufferedReader(new StringReader(yarnLockText)));
+
+        assertEquals(3, lockResolvedVersions.size());
+        assertEquals("7.0.0", lockResolvedVersions.get("@babel/code-frame@^7.0.0"));
+        assertEquals("7.0.0", lockResolvedVersions.get("@babel/code-frame@^7.0.0-beta.35"));
+        assertEquals("2.0.0", lockResolvedVersions.get("ms@2.0.0"));
+    }
+
 }
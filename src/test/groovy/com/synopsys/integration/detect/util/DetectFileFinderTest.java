@@ -3,6 +3,7 @@ package com.synopsys.integration.detect.util;
 import java.util.List;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
@@ -10,6 +11,7 @@ import java.io.File;
 import org.junit.Test;
 
 import com.synopsys.integration.detect.workflow.file.DetectFileFinder;
+import com.synopsys.integration.detect.workflow.file.DirectoryListing;
 
 public class DetectFileFinderTest {
 
@@ -54,4 +56,24 @@ public class DetectFileFinderTest {
         List<File> filesFound = finder.findAllFilesToDepth(targetDir, new StringBuilder("Maximum search depth hit during test"), 2,"*.txt");
         assertEquals(1, filesFound.size());
     }
+
+    @Test
+    public void testFindFileInDirectoryListing() throws Exception {
+        final DetectFileFinder finder = new DetectFileFinder();
+        final DirectoryListing listing = DirectoryListing.read(new File("src/test/resources/fileFinder"));
+        assertEquals(3, listing.getFiles().size());
+        assertEquals("test0.txt", finder.findFile(listing, "*.txt").getName());
+        assertEquals(1, finder.findFiles(listing, "sub1").size());
+        assertNull(finder.findFiles(listing, "*.json"));
+    }
+
+    @Test
+    public void testFindDirectoriesToDepth() {
+        final DetectFileFinder finder = new DetectFileFinder();
+        final File targetDir = new File("src/test/resources/fileFinder");
+        assertEquals(1, finder.findDirectoriesContainingFilesToDepth(targetDir, "*.txt", 1).size());
+        assertEquals(3, finder.findDirectoriesContainingFilesToDepth(targetDir, "*.txt", 2).size());
+        assertEquals(2, finder.findDirectoriesContainingDirectoriesToDepth(targetDir, "subsub", 1).size());
+        assertEquals(0, finder.findDirectoriesContainingDirectoriesToDepth(targetDir, "subsub", -1).size());
+    }
 }
@@ -0,0 +1,46 @@
+package com.synopsys.integration.detect.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.io.FilenameUtils;
+import org.junit.Test;
+
+import com.synopsys.integration.detect.workflow.file.FilenamePatternMatcher;
+
+public class FilenamePatternMatcherTest {
+    private static final List<String> FILENAMES = Arrays.asList("pom.xml", "build.gradle", "package-lock.json", "a.csproj", "Gemfile.lock", "x", "", "node_modules", "test.txt.bak", "file(1).txt", "a+b.sln");
+
+    @Test
+    public void testMatchesLikeWildcardMatch() {
+        final List<String[]> patternSets = Arrays.asList(
+            new String[] { "pom.xml" },
+            new String[] { "*.csproj", "*.sln" },
+            new String[] { "*.txt", "package-lock.json" },
+            new String[] { "p?m.*", "*lock*" },
+            new String[] { "*" },
+            new String[] { "file(?).txt", "a+b.*" },
+            new String[] {}
+        );
+
+        for (final String[] patterns : patternSets) {
+            final FilenamePatternMatcher matcher = FilenamePatternMatcher.compile(patterns);
+            for (final String filename : FILENAMES) {
+                final boolean expected = Arrays.stream(patterns).anyMatch(pattern -> FilenameUtils.wildcardMatchOnSystem(filename, pattern));
+                assertEquals(Arrays.toString(patterns) + " against " + filename, expected, matcher.matches(filename));
+            }
+        }
+    }
+
+    @Test
+    public void testEmptyMatcher() {
+        assertTrue(FilenamePatternMatcher.compile().isEmpty());
+        assertTrue(FilenamePatternMatcher.compile((String[]) null).isEmpty());
+        assertFalse(FilenamePatternMatcher.compile("*.txt").isEmpty());
+        assertFalse(FilenamePatternMatcher.compile().matches("pom.xml"));
+    }
+}
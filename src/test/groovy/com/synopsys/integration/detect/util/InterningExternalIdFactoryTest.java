@@ -0,0 +1,52 @@
+package com.synopsys.integration.detect.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+
+public class InterningExternalIdFactoryTest {
+    @Test
+    public void testSameCoordinatesShareOneExternalId() {
+        final InterningExternalIdFactory externalIdFactory = new InterningExternalIdFactory();
+
+        final ExternalId first = externalIdFactory.createMavenExternalId("org.example", new String("library"), "1.0.0");
+        final ExternalId second = externalIdFactory.createMavenExternalId("org.example", new String("library"), "1.0.0");
+        final ExternalId npm = externalIdFactory.createNameVersionExternalId(Forge.NPM, new String("library"), "1.0.0");
+
+        assertSame(first, second);
+        assertNotSame(first, npm);
+        assertSame(first.name, npm.name);
+        assertEquals("org.example:library:1.0.0", first.createExternalId());
+        assertEquals(2, externalIdFactory.getExternalIdCount());
+    }
+
+    @Test
+    public void testConcurrentCreationSharesOneExternalId() throws Exception {
+        final InterningExternalIdFactory externalIdFactory = new InterningExternalIdFactory();
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<ExternalId>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                results.add(executorService.submit(() -> externalIdFactory.createMavenExternalId("org.example", "library", "1.0.0")));
+            }
+            final ExternalId expected = results.get(0).get();
+            for (final Future<ExternalId> result : results) {
+                assertSame(expected, result.get());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertEquals(1, externalIdFactory.getExternalIdCount());
+    }
+}
@@ -0,0 +1,69 @@
+package com.synopsys.integration.detect.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class SingleFlightTest {
+    @Test
+    public void testConcurrentCallersShareOneResolution() throws Exception {
+        final SingleFlight<String> singleFlight = new SingleFlight<>();
+        final AtomicInteger resolutions = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executorService.submit(() -> {
+                    start.await();
+                    return singleFlight.resolve(() -> {
+                        resolutions.incrementAndGet();
+                        Thread.sleep(50);
+                        return "inspector";
+                    });
+                }));
+            }
+            start.countDown();
+            for (final Future<String> result : results) {
+                assertEquals("inspector", result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertEquals(1, resolutions.get());
+        assertTrue(singleFlight.hasResolved());
+    }
+
+    @Test
+    public void testFailureIsNotRetried() throws Exception {
+        final SingleFlight<String> singleFlight = new SingleFlight<>();
+        final AtomicInteger resolutions = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                singleFlight.resolve(() -> {
+                    resolutions.incrementAndGet();
+                    throw new IllegalStateException("download failed");
+                });
+                fail("Expected the resolution to fail.");
+            } catch (final IllegalStateException e) {
+                assertEquals("download failed", e.getMessage());
+            }
+        }
+
+        assertEquals(1, resolutions.get());
+    }
+}
@@ -0,0 +1,78 @@
+package com.synopsys.integration.detect.util.executable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.lang3.SystemUtils;
+import org.junit.Assume;
+import org.junit.Test;
+
+public class ExecutableRunnerTest {
+    @Test
+    public void testExecutableIsKilledAfterTimeout() throws ExecutableRunnerException {
+        Assume.assumeFalse(SystemUtils.IS_OS_WINDOWS);
+
+        final ExecutableRunner executableRunner = new ExecutableRunner(new ExecutableRunnerOptions(0, Collections.singletonMap("sh", 1L)));
+        final Executable executable = new Executable(new File("."), "sh", Arrays.asList("-c", "echo started; sleep 30"));
+
+        final long start = System.currentTimeMillis();
+        try {
+            executableRunner.execute(executable);
+            fail("Expected the executable to time out.");
+        } catch (final ExecutableTimeoutException e) {
+            assertEquals(1, e.getTimeoutInSeconds());
+            assertEquals("started", e.getPartialOutput().getStandardOutput());
+        }
+        assertTrue(System.currentTimeMillis() - start < 20000);
+    }
+
+    @Test
+    public void testExecutableTimeoutOverridesDefault() throws ExecutableRunnerException {
+        Assume.assumeFalse(SystemUtils.IS_OS_WINDOWS);
+
+        final ExecutableRunner executableRunner = new ExecutableRunner(new ExecutableRunnerOptions(1, Collections.singletonMap("sh", 0L)));
+        final Executable executable = new Executable(new File("."), "sh", Arrays.asList("-c", "sleep 2; echo finished"));
+
+        final ExecutableOutput output = executableRunner.execute(executable);
+        assertEquals(0, output.getReturnCode());
+        assertEquals("finished", output.getStandardOutput());
+    }
+
+    @Test
+    public void testStandardOutputIsStreamedToConsumer() throws ExecutableRunnerException {
+        Assume.assumeFalse(SystemUtils.IS_OS_WINDOWS);
+
+        final ExecutableRunner executableRunner = new ExecutableRunner();
+        final Executable executable = new Executable(new File("."), "sh", Arrays.asList("-c", "echo first; echo second; echo error 1>&2"));
+
+        final List<String> lines = new ArrayList<>();
+        final ExecutableOutput output = executableRunner.execute(executable, lines::add);
+        assertEquals(Arrays.asList("first", "second"), lines);
+        assertEquals("", output.getStandardOutput());
+        assertEquals("error", output.getErrorOutput());
+    }
+
+    @Test
+    public void testFailingConsumerDoesNotBlockTheExecutable() {
+        Assume.assumeFalse(SystemUtils.IS_OS_WINDOWS);
+
+        final ExecutableRunner executableRunner = new ExecutableRunner();
+        final Executable executable = new Executable(new File("."), "sh", Arrays.asList("-c", "seq 1 100000"));
+
+        try {
+            executableRunner.execute(executable, line -> {
+                throw new IllegalStateException("unparseable " + line);
+            });
+            fail("Expected the consumer failure to be reported.");
+        } catch (final ExecutableRunnerException e) {
+            assertEquals("unparseable 1", e.getCause().getMessage());
+        }
+    }
+}
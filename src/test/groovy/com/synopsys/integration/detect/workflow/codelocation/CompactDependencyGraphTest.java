@@ -0,0 +1,80 @@
+package com.synopsys.integration.detect.workflow.codelocation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+
+public class CompactDependencyGraphTest {
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+
+    @Test
+    public void testCompactGraphMatchesSourceGraph() {
+        final Dependency parent = createDependency("parent");
+        final Dependency child = createDependency("child");
+        final Dependency shared = createDependency("shared");
+        final Dependency unrelated = createDependency("unrelated");
+        final MutableMapDependencyGraph source = new MutableMapDependencyGraph();
+        source.addChildToRoot(parent);
+        source.addChildToRoot(shared);
+        source.addParentWithChild(parent, child);
+        source.addParentWithChild(parent, shared);
+        source.addParentWithChild(child, shared);
+
+        final CompactDependencyGraph graph = CompactDependencyGraph.compact(source);
+
+        assertEquals(3, graph.getDependencyCount());
+        assertEquals(3, graph.getRelationshipCount());
+        assertEquals(source.getRootDependencyExternalIds(), graph.getRootDependencyExternalIds());
+        assertEquals(new HashSet<>(Arrays.asList(child, shared)), graph.getChildrenForParent(parent));
+        assertEquals(new HashSet<>(Arrays.asList(shared.externalId)), graph.getChildrenExternalIdsForParent(child.externalId));
+        assertTrue(graph.getChildrenForParent(shared).isEmpty());
+        assertEquals(new HashSet<>(Arrays.asList(parent, child)), graph.getParentsForChild(shared));
+        assertSame(child, graph.getDependency(child.externalId));
+        assertFalse(graph.hasDependency(unrelated));
+        assertNull(graph.getDependency(unrelated.externalId));
+        assertTrue(graph.getChildrenForParent(unrelated).isEmpty());
+        assertSame(graph, CompactDependencyGraph.compact(graph));
+    }
+
+    @Test
+    public void testBuilderMergesGraphsByExternalId() {
+        final Dependency first = createDependency("first");
+        final Dependency second = createDependency("second");
+        final Dependency library = createDependency("library");
+        final Dependency transitive = createDependency("transitive");
+        final MutableMapDependencyGraph source = new MutableMapDependencyGraph();
+        source.addChildToRoot(library);
+        source.addParentWithChild(library, transitive);
+        final CompactDependencyGraph compactSource = CompactDependencyGraph.compact(source);
+
+        final CompactDependencyGraph graph = new CompactDependencyGraph.Builder()
+                                                 .addChildToRoot(first)
+                                                 .addChildToRoot(second)
+                                                 .addGraphAsChildrenToParent(first, source)
+                                                 .addGraphAsChildrenToParent(second, compactSource)
+                                                 .addGraphAsChildrenToParent(second, compactSource)
+                                                 .build();
+
+        assertEquals(4, graph.getDependencyCount());
+        assertEquals(3, graph.getRelationshipCount());
+        assertEquals(new HashSet<>(Arrays.asList(first, second)), graph.getRootDependencies());
+        assertEquals(new HashSet<>(Arrays.asList(library)), graph.getChildrenForParent(second));
+        assertEquals(new HashSet<>(Arrays.asList(transitive)), graph.getChildrenForParent(library));
+        assertEquals(new HashSet<>(Arrays.asList(first.externalId, second.externalId)), graph.getParentExternalIdsForChild(library.externalId));
+    }
+
+    private Dependency createDependency(final String name) {
+        return new Dependency(name, "1.0", externalIdFactory.createMavenExternalId("group", name, "1.0"));
+    }
+}
@@ -0,0 +1,56 @@
+package com.synopsys.integration.detect.workflow.event;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+public class EventSystemTest {
+    private static final EventType<String> TEST_EVENT = new EventType<>(String.class);
+
+    @Test
+    public void testAsyncListenersSeeEventsInOrderAfterFlush() {
+        final EventSystem eventSystem = new EventSystem();
+        final List<String> syncEvents = new ArrayList<>();
+        final List<String> asyncEvents = Collections.synchronizedList(new ArrayList<>());
+        eventSystem.registerListener(TEST_EVENT, syncEvents::add);
+        eventSystem.registerAsyncListener(TEST_EVENT, event -> {
+            sleep();
+            asyncEvents.add(event);
+        });
+
+        final List<String> published = Arrays.asList("first", "second", "third");
+        published.forEach(event -> eventSystem.publishEvent(TEST_EVENT, event));
+
+        assertEquals(published, syncEvents);
+        eventSystem.flush();
+        assertEquals(published, asyncEvents);
+    }
+
+    @Test
+    public void testFailingAsyncListenerDoesNotStopDelivery() {
+        final EventSystem eventSystem = new EventSystem();
+        final List<String> asyncEvents = Collections.synchronizedList(new ArrayList<>());
+        eventSystem.registerAsyncListener(TEST_EVENT, event -> {
+            throw new IllegalStateException("listener failed");
+        });
+        eventSystem.registerAsyncListener(TEST_EVENT, asyncEvents::add);
+
+        eventSystem.publishEvent(TEST_EVENT, "event");
+        eventSystem.flush();
+
+        assertEquals(Collections.singletonList("event"), asyncEvents);
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(10);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.synopsys.integration.detect.workflow.extraction;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.synopsys.integration.detect.detector.Detector;
+import com.synopsys.integration.detect.detector.DetectorEnvironment;
+import com.synopsys.integration.detect.detector.DetectorType;
+import com.synopsys.integration.detect.detector.ExtractionId;
+import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.detect.workflow.search.result.DetectorEvaluation;
+import com.synopsys.integration.detect.workflow.search.result.DetectorResult;
+import com.synopsys.integration.detect.workflow.search.result.PassedDetectorResult;
+
+public class ExtractionManagerTest {
+    @Test
+    public void testParallelExtractionRespectsTypeLimitsAndOrder() {
+        final Map<DetectorType, Integer> typeLimits = new EnumMap<>(DetectorType.class);
+        typeLimits.put(DetectorType.GRADLE, 1);
+
+        final AtomicInteger runningGradle = new AtomicInteger();
+        final AtomicInteger maxRunningGradle = new AtomicInteger();
+        final List<DetectorEvaluation> evaluations = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            final DetectorType detectorType = i % 2 == 0 ? DetectorType.GRADLE : DetectorType.NPM;
+            evaluations.add(createEvaluation(new SleepingDetector(detectorType, runningGradle, maxRunningGradle)));
+        }
+
+        final ExtractionManager extractionManager = new ExtractionManager(new EventSystem(), 4, typeLimits, Optional.empty());
+        final ExtractionResult extractionResult = extractionManager.performExtractions(evaluations);
+
+        assertEquals(1, maxRunningGradle.get());
+        assertEquals(2, extractionResult.getSuccessfulBomToolTypes().size());
+        for (int i = 0; i < evaluations.size(); i++) {
+            final DetectorEvaluation evaluation = evaluations.get(i);
+            assertEquals(evaluation.getDetector().getDetectorType() + "-" + i, evaluation.getExtractionId().toUniqueString());
+            assertEquals(Extraction.ExtractionResultType.SUCCESS, evaluation.getExtraction().result);
+        }
+    }
+
+    private DetectorEvaluation createEvaluation(final Detector detector) {
+        final DetectorEvaluation evaluation = new DetectorEvaluation(detector, null);
+        evaluation.setSearchable(new PassedDetectorResult());
+        evaluation.setApplicable(new PassedDetectorResult());
+        evaluation.setExtractable(new PassedDetectorResult());
+        return evaluation;
+    }
+
+    private static class SleepingDetector extends Detector {
+        private final AtomicInteger runningGradle;
+        private final AtomicInteger maxRunningGradle;
+
+        public SleepingDetector(final DetectorType detectorType, final AtomicInteger runningGradle, final AtomicInteger maxRunningGradle) {
+            super((DetectorEnvironment) null, "Sleeping", detectorType);
+            this.runningGradle = runningGradle;
+            this.maxRunningGradle = maxRunningGradle;
+        }
+
+        @Override
+        public DetectorResult applicable() {
+            return new PassedDetectorResult();
+        }
+
+        @Override
+        public DetectorResult extractable() {
+            return new PassedDetectorResult();
+        }
+
+        @Override
+        public Extraction extract(final ExtractionId extractionId) {
+            final boolean gradle = getDetectorType() == DetectorType.GRADLE;
+            if (gradle) {
+                maxRunningGradle.accumulateAndGet(runningGradle.incrementAndGet(), Math::max);
+            }
+            try {
+                Thread.sleep(20);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                if (gradle) {
+                    runningGradle.decrementAndGet();
+                }
+            }
+            return new Extraction.Builder().success().build();
+        }
+    }
+}
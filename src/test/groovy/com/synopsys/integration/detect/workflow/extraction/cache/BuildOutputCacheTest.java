@@ -0,0 +1,88 @@
+package com.synopsys.integration.detect.workflow.extraction.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.synopsys.integration.detect.workflow.file.DirectoryManager;
+
+public class BuildOutputCacheTest {
+    private static final List<String> DESCRIPTORS = Arrays.asList("*.gradle", "gradle.properties");
+
+    private File directory;
+    private File subprojectBuildFile;
+    private BuildOutputCache buildOutputCache;
+
+    @Before
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("build-output-cache").toFile();
+        FileUtils.writeStringToFile(new File(directory, "settings.gradle"), "include 'sub'", StandardCharsets.UTF_8);
+        subprojectBuildFile = new File(directory, "sub/build.gradle");
+        FileUtils.writeStringToFile(subprojectBuildFile, "compile 'junit:junit:4.12'", StandardCharsets.UTF_8);
+        FileUtils.writeStringToFile(new File(directory, "build/ignored.gradle"), "generated", StandardCharsets.UTF_8);
+
+        final DirectoryManager directoryManager = mock(DirectoryManager.class);
+        when(directoryManager.getCacheOutputDirectory()).thenReturn(new File(directory, ".cache"));
+        buildOutputCache = new BuildOutputCache(true, directoryManager, "5.4.0");
+    }
+
+    @After
+    public void cleanup() {
+        FileUtils.deleteQuietly(directory);
+    }
+
+    @Test
+    public void testOutputIsReplayedUntilADescriptorChanges() throws IOException {
+        try (final BuildOutputCache.OutputRecorder outputRecorder = buildOutputCache.recordOutput(createKey(), "dependencyTree.txt")) {
+            outputRecorder.accept("[INFO] tree");
+            outputRecorder.commit();
+        }
+        final Optional<File> cachedOutput = buildOutputCache.findOutputFile(createKey(), "dependencyTree.txt");
+        assertTrue(cachedOutput.isPresent());
+        assertEquals(Arrays.asList("[INFO] tree"), FileUtils.readLines(cachedOutput.get(), StandardCharsets.UTF_8));
+
+        FileUtils.writeStringToFile(new File(directory, "build/ignored.gradle"), "regenerated", StandardCharsets.UTF_8);
+        assertTrue(buildOutputCache.findOutputFile(createKey(), "dependencyTree.txt").isPresent());
+
+        FileUtils.writeStringToFile(subprojectBuildFile, "compile 'junit:junit:4.13'", StandardCharsets.UTF_8);
+        assertFalse(buildOutputCache.findOutputFile(createKey(), "dependencyTree.txt").isPresent());
+    }
+
+    @Test
+    public void testUncommittedOutputIsDiscarded() {
+        try (final BuildOutputCache.OutputRecorder outputRecorder = buildOutputCache.recordOutput(createKey(), "dependencyTree.txt")) {
+            outputRecorder.accept("[ERROR] build failure");
+        }
+        assertFalse(buildOutputCache.findOutputFile(createKey(), "dependencyTree.txt").isPresent());
+    }
+
+    @Test
+    public void testOutputDirectoryIsRestored() throws IOException {
+        final File outputDirectory = new File(directory, "output");
+        FileUtils.writeStringToFile(new File(outputDirectory, "sub_dependencyGraph.txt"), "graph", StandardCharsets.UTF_8);
+        buildOutputCache.storeOutputDirectory(createKey(), outputDirectory);
+
+        final File restoredDirectory = new File(directory, "restored");
+        assertTrue(buildOutputCache.restoreOutputDirectory(createKey(), restoredDirectory));
+        assertEquals("graph", FileUtils.readFileToString(new File(restoredDirectory, "sub_dependencyGraph.txt"), StandardCharsets.UTF_8));
+    }
+
+    private ExtractionCacheKey createKey() {
+        return buildOutputCache.createKey("Gradle Inspector", directory, DESCRIPTORS).setting("command", "dependencies");
+    }
+}
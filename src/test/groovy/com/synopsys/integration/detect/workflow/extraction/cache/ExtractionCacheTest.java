@@ -0,0 +1,93 @@
+package com.synopsys.integration.detect.workflow.extraction.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocation;
+import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocationType;
+import com.synopsys.integration.detect.workflow.extraction.Extraction;
+import com.synopsys.integration.detect.workflow.file.DirectoryManager;
+
+public class ExtractionCacheTest {
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+    private File directory;
+    private File lockfile;
+    private ExtractionCache extractionCache;
+
+    @Before
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("extraction-cache").toFile();
+        lockfile = new File(directory, "Gemfile.lock");
+        FileUtils.writeStringToFile(lockfile, "rake (12.3.0)", StandardCharsets.UTF_8);
+
+        final DirectoryManager directoryManager = mock(DirectoryManager.class);
+        when(directoryManager.getCacheOutputDirectory()).thenReturn(new File(directory, "cache"));
+        extractionCache = new ExtractionCache(true, directoryManager, "5.4.0");
+    }
+
+    @After
+    public void cleanup() {
+        FileUtils.deleteQuietly(directory);
+    }
+
+    @Test
+    public void testUnchangedLockfileIsServedFromCache() throws IOException {
+        final AtomicInteger extractions = new AtomicInteger();
+
+        final Extraction first = extractionCache.extract(createKey(), () -> extract(extractions));
+        final Extraction second = extractionCache.extract(createKey(), () -> extract(extractions));
+
+        assertEquals(1, extractions.get());
+        assertEquals("project", second.projectName);
+        assertNull(second.projectVersion);
+        assertGraphsEqual(first.codeLocations.get(0).getDependencyGraph(), second.codeLocations.get(0).getDependencyGraph());
+        assertEquals(first.codeLocations.get(0).getExternalId().createExternalId(), second.codeLocations.get(0).getExternalId().createExternalId());
+
+        FileUtils.writeStringToFile(lockfile, "rake (12.3.1)", StandardCharsets.UTF_8);
+        extractionCache.extract(createKey(), () -> extract(extractions));
+        assertEquals(2, extractions.get());
+    }
+
+    private ExtractionCacheKey createKey() {
+        return extractionCache.createKey("Gemlock", directory).file(lockfile);
+    }
+
+    private Extraction extract(final AtomicInteger extractions) {
+        extractions.incrementAndGet();
+        final Dependency rake = new Dependency("rake", "12.3.0", externalIdFactory.createNameVersionExternalId(Forge.RUBYGEMS, "rake", "12.3.0"));
+        final Dependency json = new Dependency("json", "2.1.0", externalIdFactory.createNameVersionExternalId(Forge.RUBYGEMS, "json", "2.1.0"));
+        final MutableMapDependencyGraph graph = new MutableMapDependencyGraph();
+        graph.addChildToRoot(rake);
+        graph.addParentWithChild(rake, json);
+
+        final ExternalId projectId = externalIdFactory.createPathExternalId(Forge.RUBYGEMS, directory.toString());
+        final DetectCodeLocation codeLocation = new DetectCodeLocation.Builder(DetectCodeLocationType.RUBYGEMS, directory.toString(), projectId, graph).build();
+        return new Extraction.Builder().success(codeLocation).projectName("project").build();
+    }
+
+    private void assertGraphsEqual(final DependencyGraph expected, final DependencyGraph actual) {
+        assertEquals(expected.getRootDependencyExternalIds(), actual.getRootDependencyExternalIds());
+        for (final Dependency dependency : expected.getRootDependencies()) {
+            assertEquals(expected.getChildrenExternalIdsForParent(dependency), actual.getChildrenExternalIdsForParent(dependency));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.synopsys.integration.detect.workflow.profiling;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import com.synopsys.integration.detect.detector.Detector;
+import com.synopsys.integration.detect.detector.DetectorEnvironment;
+import com.synopsys.integration.detect.workflow.search.result.DetectorEvaluation;
+
+public class ExtractionTimingsTest {
+    @Test
+    public void testEstimateFallsBackToAverageOfOtherDirectories() {
+        final ExtractionTimings extractionTimings = ExtractionTimings.empty();
+        extractionTimings.record(createEvaluation("GRADLE - Gradle Inspector", "/root/a"), 1000);
+        extractionTimings.record(createEvaluation("GRADLE - Gradle Inspector", "/root/b"), 3000);
+        extractionTimings.record(createEvaluation("NPM - Package Lock", "/root/a"), 10);
+
+        assertEquals(1000, extractionTimings.estimate(createEvaluation("GRADLE - Gradle Inspector", "/root/a")));
+        assertEquals(2000, extractionTimings.estimate(createEvaluation("GRADLE - Gradle Inspector", "/root/c")));
+        assertEquals(0, extractionTimings.estimate(createEvaluation("MAVEN - Pom file", "/root/a")));
+    }
+
+    @Test
+    public void testDirectoriesNotEvaluatedAreDropped() {
+        final ExtractionTimings extractionTimings = ExtractionTimings.empty();
+        extractionTimings.record(createEvaluation("GRADLE - Gradle Inspector", "/root/a"), 1000);
+        extractionTimings.record(createEvaluation("GRADLE - Gradle Inspector", "/other/b"), 3000);
+
+        extractionTimings.retainDirectories(Arrays.asList(createEvaluation("GRADLE - Gradle Inspector", "/root/a"), createEvaluation("NPM - Package Lock", "/root/c")));
+
+        assertEquals(Collections.singleton(new File("/root/a").getAbsolutePath()), extractionTimings.getDirectories().keySet());
+    }
+
+    private DetectorEvaluation createEvaluation(final String descriptiveName, final String directory) {
+        final Detector detector = mock(Detector.class);
+        when(detector.getDescriptiveName()).thenReturn(descriptiveName);
+        final DetectorEnvironment environment = mock(DetectorEnvironment.class);
+        when(environment.getDirectory()).thenReturn(new File(directory));
+        return new DetectorEvaluation(detector, environment);
+    }
+}
@@ -0,0 +1,41 @@
+package com.synopsys.integration.detect.workflow.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class DetectorExclusionSearchFilterTest {
+    @Test
+    public void testExcludesNamesAndPatterns() {
+        final DetectorExclusionSearchFilter filter = new DetectorExclusionSearchFilter(Arrays.asList("node_modules", ".git"), Arrays.asList("*-test", "build?"));
+
+        assertTrue(filter.shouldExclude(new File("project/node_modules")));
+        assertTrue(filter.shouldExclude(new File("project/.git")));
+        assertTrue(filter.shouldExclude(new File("project/module-test")));
+        assertTrue(filter.shouldExclude(new File("project/build2")));
+        assertFalse(filter.shouldExclude(new File("project/src")));
+        assertFalse(filter.shouldExclude(new File("project/build")));
+        assertFalse(filter.shouldExclude(new File("project/module-TEST")));
+    }
+
+    @Test
+    public void testSkipCountsPerPattern() {
+        final DetectorExclusionSearchFilter filter = new DetectorExclusionSearchFilter(Arrays.asList("node_modules"), Arrays.asList("*-test"));
+
+        filter.shouldExclude(new File("a/node_modules"));
+        filter.shouldExclude(new File("b/node_modules"));
+        filter.shouldExclude(new File("a/module-test"));
+        filter.shouldExclude(new File("a/src"));
+
+        final Map<String, Integer> skipCounts = filter.getSkipCounts();
+        assertEquals(2, skipCounts.size());
+        assertEquals(Integer.valueOf(2), skipCounts.get("node_modules"));
+        assertEquals(Integer.valueOf(1), skipCounts.get("*-test"));
+    }
+}
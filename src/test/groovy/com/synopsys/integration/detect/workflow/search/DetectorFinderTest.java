@@ -0,0 +1,160 @@
+package com.synopsys.integration.detect.workflow.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assume;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.detect.workflow.search.result.DetectorEvaluation;
+import com.synopsys.integration.detect.workflow.search.rules.DetectorSearchEvaluator;
+import com.synopsys.integration.detect.workflow.search.rules.DetectorSearchProvider;
+import com.synopsys.integration.detect.workflow.search.rules.DetectorSearchRuleSet;
+
+public class DetectorFinderTest {
+    private static final File SEARCH_DIRECTORY = new File("src/test/resources/fileFinder");
+
+    @Test
+    public void testParallelSearchMatchesSerialSearch() throws Exception {
+        final List<String> serialDirectories = searchDirectories(1);
+        final List<String> parallelDirectories = searchDirectories(4);
+
+        assertEquals(5, serialDirectories.size());
+        assertEquals(serialDirectories, parallelDirectories);
+    }
+
+    @Test
+    public void testParallelSearchRespectsMaximumDepth() throws Exception {
+        final DetectorFinderOptions options = createOptions(4, 1);
+        final List<DetectorEvaluation> evaluations = new DetectorFinder().findApplicableBomTools(SEARCH_DIRECTORY, options);
+
+        assertEquals(3, evaluations.size());
+    }
+
+    @Test
+    public void testLinkedDirectoriesAreSearchedOnce() throws Exception {
+        final File root = Files.createTempDirectory("DetectorFinderTest_").toFile();
+        try {
+            final File nested = new File(root, "a/b");
+            nested.mkdirs();
+            final File outside = Files.createTempDirectory("DetectorFinderTest_outside_").toFile();
+            try {
+                Files.createSymbolicLink(new File(root, "0-link").toPath(), new File(root, "a").toPath());
+                Files.createSymbolicLink(new File(root, "z-link").toPath(), new File(root, "a").toPath());
+                Files.createSymbolicLink(new File(nested, "up").toPath(), root.toPath());
+                Files.createSymbolicLink(new File(outside, "back").toPath(), outside.toPath());
+                Files.createSymbolicLink(new File(root, "outside").toPath(), outside.toPath());
+            } catch (final IOException | UnsupportedOperationException e) {
+                FileUtils.deleteQuietly(outside);
+                Assume.assumeNoException(e);
+            }
+
+            try {
+                final List<String> expected = Arrays.asList(new File(root, "a").getPath(), nested.getPath(), new File(root, "outside").getPath());
+                for (final int parallelism : new int[] { 1, 4 }) {
+                    final List<String> searched = searchDirectories(root, parallelism, true);
+                    assertEquals(4, searched.size());
+                    assertTrue(searched.containsAll(expected));
+                }
+            } finally {
+                FileUtils.deleteQuietly(outside);
+            }
+            final List<String> unfollowed = searchDirectories(root, 1, false);
+            assertEquals(3, unfollowed.size());
+            assertTrue(unfollowed.contains(new File(root, "a").getPath()));
+        } finally {
+            FileUtils.deleteQuietly(root);
+        }
+    }
+
+    @Test
+    public void testLinkedExternalDirectoriesAreSearchedOnce() throws Exception {
+        final File root = Files.createTempDirectory("DetectorFinderTest_").toFile();
+        final File outside = Files.createTempDirectory("DetectorFinderTest_outside_").toFile();
+        try {
+            new File(root, "src").mkdirs();
+            new File(outside, "sub/nested").mkdirs();
+            new File(outside, "other").mkdirs();
+            try {
+                Files.createSymbolicLink(new File(root, "a-sub").toPath(), new File(outside, "sub").toPath());
+                Files.createSymbolicLink(new File(root, "link-a").toPath(), outside.toPath());
+                Files.createSymbolicLink(new File(root, "link-b").toPath(), outside.toPath());
+                Files.createSymbolicLink(new File(root, "z-other").toPath(), new File(outside, "other").toPath());
+            } catch (final IOException | UnsupportedOperationException e) {
+                Assume.assumeNoException(e);
+            }
+
+            final List<String> expected = Arrays.asList(root.getPath(), new File(root, "src").getPath(), new File(root, "a-sub").getPath(), new File(root, "a-sub/nested").getPath(),
+                new File(root, "link-a").getPath(), new File(root, "link-a/other").getPath());
+            for (final int parallelism : new int[] { 1, 4 }) {
+                assertEquals(expected, searchDirectories(root, parallelism, true));
+            }
+        } finally {
+            FileUtils.deleteQuietly(root);
+            FileUtils.deleteQuietly(outside);
+        }
+    }
+
+    @Test
+    public void testOnlyExcludedDirectoriesAreCounted() throws Exception {
+        final File root = Files.createTempDirectory("DetectorFinderTest_").toFile();
+        try {
+            new File(root, "a/build").mkdirs();
+            new File(root, "build").createNewFile();
+            final DetectorExclusionSearchFilter filter = new DetectorExclusionSearchFilter(Collections.singletonList("build"), Collections.emptyList());
+
+            final List<DetectorEvaluation> evaluations = new DetectorFinder().findApplicableBomTools(root, createOptions(1, 10, true, filter));
+
+            assertEquals(2, evaluations.size());
+            assertEquals(Collections.singletonMap("build", 1), filter.getSkipCounts());
+        } finally {
+            FileUtils.deleteQuietly(root);
+        }
+    }
+
+    private List<String> searchDirectories(final int parallelism) throws Exception {
+        return searchDirectories(SEARCH_DIRECTORY, parallelism, true);
+    }
+
+    private List<String> searchDirectories(final File directory, final int parallelism, final boolean followSymLinks) throws Exception {
+        final DetectorFinderOptions options = createOptions(parallelism, 10, followSymLinks);
+        return new DetectorFinder().findApplicableBomTools(directory, options).stream()
+                   .map(it -> it.getEnvironment().getDirectory().getPath())
+                   .collect(Collectors.toList());
+    }
+
+    private DetectorFinderOptions createOptions(final int parallelism, final int maximumDepth) {
+        return createOptions(parallelism, maximumDepth, true);
+    }
+
+    private DetectorFinderOptions createOptions(final int parallelism, final int maximumDepth, final boolean followSymLinks) {
+        return createOptions(parallelism, maximumDepth, followSymLinks, file -> false);
+    }
+
+    private DetectorFinderOptions createOptions(final int parallelism, final int maximumDepth, final boolean followSymLinks, final DetectorSearchFilter detectorSearchFilter) {
+        final DetectorSearchProvider detectorSearchProvider = Mockito.mock(DetectorSearchProvider.class);
+        Mockito.when(detectorSearchProvider.createBomToolSearchRuleSet(Mockito.any()))
+            .thenAnswer(invocation -> new DetectorSearchRuleSet(Collections.emptyList(), invocation.getArgument(0)));
+
+        final DetectorSearchEvaluator detectorSearchEvaluator = Mockito.mock(DetectorSearchEvaluator.class);
+        Mockito.when(detectorSearchEvaluator.evaluate(Mockito.any(), Mockito.any())).thenAnswer(invocation -> {
+            final DetectorSearchRuleSet ruleSet = invocation.getArgument(0);
+            return Collections.singletonList(new DetectorEvaluation(null, ruleSet.getEnvironment()));
+        });
+
+        return new DetectorFinderOptions(detectorSearchFilter, false, maximumDepth, itemName -> true, detectorSearchProvider, detectorSearchEvaluator, new EventSystem(), parallelism,
+            Optional.empty(), followSymLinks, evaluations -> {});
+    }
+}
@@ -0,0 +1,116 @@
+package com.synopsys.integration.detect.workflow.search.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.detect.workflow.file.DirectoryListing;
+import com.synopsys.integration.detect.workflow.search.ChildDirectory;
+
+public class SearchCacheTest {
+    private File searchDirectory;
+    private File childDirectory;
+
+    @Before
+    public void createSearchDirectory() throws IOException {
+        searchDirectory = Files.createTempDirectory("SearchCacheTest_").toFile();
+        childDirectory = new File(searchDirectory, "child");
+        childDirectory.mkdir();
+        new File(searchDirectory, "pom.xml").createNewFile();
+        searchDirectory.setLastModified(1000000L);
+        childDirectory.setLastModified(2000000L);
+    }
+
+    @After
+    public void deleteSearchDirectory() {
+        FileUtils.deleteQuietly(searchDirectory);
+    }
+
+    @Test
+    public void testUnchangedDirectoryIsNotListedAgain() throws IOException {
+        final SearchCache searchCache = new SearchCache(recordPreviousRun().getCurrentDirectories());
+        final Optional<CachedDirectory> cachedDirectory = searchCache.findUnchanged(searchDirectory);
+
+        assertTrue(cachedDirectory.isPresent());
+        assertEquals(1, searchCache.getHits());
+        assertEquals(0, searchCache.getMisses());
+        final DirectoryListing cachedListing = cachedDirectory.get().toDirectoryListing(searchDirectory);
+        assertEquals(1, cachedListing.findFiles("pom.xml").size());
+        assertEquals(2, cachedListing.getFiles().size());
+        assertEquals("child", cachedDirectory.get().getChildDirectories().get(0).getName());
+    }
+
+    @Test
+    public void testAddedChildIsNotFound() throws IOException {
+        final SearchCache previousRun = recordPreviousRun();
+        new File(searchDirectory, "build.gradle").createNewFile();
+        searchDirectory.setLastModified(3000000L);
+
+        final SearchCache searchCache = new SearchCache(previousRun.getCurrentDirectories());
+        assertFalse(searchCache.findUnchanged(searchDirectory).isPresent());
+        assertEquals(1, searchCache.getMisses());
+    }
+
+    @Test
+    public void testChangedChildDirectoryIsNotFound() throws IOException {
+        final SearchCache previousRun = recordPreviousRun();
+        childDirectory.setLastModified(3000000L);
+
+        final SearchCache searchCache = new SearchCache(previousRun.getCurrentDirectories());
+        assertFalse(searchCache.findUnchanged(searchDirectory).isPresent());
+    }
+
+    @Test
+    public void testStoreOnlyLoadsMatchingConfigurationAndSourceDirectory() throws IOException {
+        final File cacheDirectory = Files.createTempDirectory("SearchCacheTest_").toFile();
+        final File otherSourceDirectory = new File(cacheDirectory, "other");
+        try {
+            new SearchCacheStore(new Gson(), cacheDirectory, searchDirectory, "first").save(recordPreviousRun());
+            new SearchCacheStore(new Gson(), cacheDirectory, otherSourceDirectory, "first").save(SearchCache.empty());
+
+            assertTrue(new SearchCacheStore(new Gson(), cacheDirectory, searchDirectory, "first").load().findUnchanged(searchDirectory).isPresent());
+            assertFalse(new SearchCacheStore(new Gson(), cacheDirectory, searchDirectory, "second").load().findUnchanged(searchDirectory).isPresent());
+            assertEquals(2, cacheDirectory.listFiles((directory, name) -> name.startsWith(SearchCacheStore.SEARCH_CACHE_PREFIX) && name.endsWith(SearchCacheStore.SEARCH_CACHE_SUFFIX)).length);
+        } finally {
+            FileUtils.deleteQuietly(cacheDirectory);
+        }
+    }
+
+    @Test
+    public void testConfigurationKeyIgnoresPropertyOrder() {
+        final Map<String, String> properties = new HashMap<>();
+        properties.put("detect.detector.search.depth", "0");
+        properties.put("detect.detector.search.continue", "false");
+        final Map<String, String> reversed = new TreeMap<>(Collections.reverseOrder());
+        reversed.putAll(properties);
+
+        assertEquals(SearchCacheStore.createConfigurationKey("5.4.0", properties), SearchCacheStore.createConfigurationKey("5.4.0", reversed));
+        assertFalse(SearchCacheStore.createConfigurationKey("5.4.0", properties).equals(SearchCacheStore.createConfigurationKey("5.5.0", properties)));
+    }
+
+    private SearchCache recordPreviousRun() throws IOException {
+        final long lastModified = SearchCache.lastModified(searchDirectory);
+        final DirectoryListing directoryListing = DirectoryListing.read(searchDirectory);
+        final List<ChildDirectory> childDirectories = Arrays.asList(ChildDirectory.directory(childDirectory.getName(), SearchCache.lastModified(childDirectory)));
+        final SearchCache previousRun = SearchCache.empty();
+        previousRun.record(directoryListing, lastModified, childDirectories, Collections.emptyList());
+        return previousRun;
+    }
+}